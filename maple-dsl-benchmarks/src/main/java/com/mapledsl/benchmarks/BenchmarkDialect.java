@@ -0,0 +1,46 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.module.MapleDslModule;
+import com.mapledsl.cypher.module.MapleCypherDslModule;
+import com.mapledsl.nebula.module.MapleNebulaDslModule;
+
+/**
+ * The dialects covered by the render benchmarks.
+ */
+public enum BenchmarkDialect {
+    NEBULA(MapleNebulaDslModule.class),
+    CYPHER(MapleCypherDslModule.class);
+
+    private final Class<? extends MapleDslModule> moduleClazz;
+
+    BenchmarkDialect(Class<? extends MapleDslModule> moduleClazz) {
+        this.moduleClazz = moduleClazz;
+    }
+
+    /**
+     * Creates a dedicated configuration of the dialect, which is passed to every render explicitly
+     * instead of relying on the primary configuration.
+     *
+     * @return the configuration of the dialect
+     */
+    public MapleDslConfiguration configuration() {
+        return configuration(true);
+    }
+
+    /**
+     * @param renderPlanCache whether compiled render plans are cached by wrapper shape
+     * @return the configuration of the dialect
+     * @see #configuration()
+     */
+    public MapleDslConfiguration configuration(boolean renderPlanCache) {
+        return new MapleDslConfiguration.Builder()
+                .module(moduleClazz)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .renderPlanCache(renderPlanCache)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.core.annotation.Label;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.nebula.model.NebulaModel;
+
+/**
+ * The models shared by the render benchmarks of every dialect.
+ */
+public final class BenchmarkModels {
+
+    private BenchmarkModels() {
+    }
+
+    @Label("person")
+    public static class Person extends Model.V<Long> {
+        private String name;
+        private Integer age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+
+    @Label("impact")
+    public static class Impact extends Model.E<Long, Long> {
+        private String type;
+        private Integer weight;
+
+        public String getType() {
+            return type;
+        }
+
+        public Integer getWeight() {
+            return weight;
+        }
+    }
+
+    /**
+     * The nebula edge is identified by the composite {@code src->dst@rank}.
+     */
+    @Label("impact")
+    public static class NebulaImpact extends NebulaModel.E<Long> {
+        private String type;
+
+        public String getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.benchmarks.BenchmarkModels.Impact;
+import com.mapledsl.benchmarks.BenchmarkModels.NebulaImpact;
+import com.mapledsl.benchmarks.BenchmarkModels.Person;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.nebula.model.NebulaEdgeID;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapledsl.core.G.edge;
+import static com.mapledsl.core.G.vertex;
+
+/**
+ * Renders {@code G.vertex(tag, ids)} and {@code G.edge(tag, ids)} fetch statements with the id list size growing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FetchRenderBenchmark {
+    @Param({"NEBULA", "CYPHER"})
+    BenchmarkDialect dialect;
+    @Param({"1", "100", "10000"})
+    int idSize;
+
+    MapleDslConfiguration context;
+    List<Long> vertexIds;
+    List<NebulaEdgeID<Long>> nebulaEdgeIds;
+
+    @Setup
+    public void setup() {
+        this.context = dialect.configuration();
+        this.vertexIds = new ArrayList<>(idSize);
+        this.nebulaEdgeIds = new ArrayList<>(idSize);
+        for (long i = 0; i < idSize; i++) {
+            vertexIds.add(i);
+            nebulaEdgeIds.add(new NebulaEdgeID<>(i, i + 1));
+        }
+    }
+
+    @Benchmark
+    public String fetchVertex() {
+        return vertex(Person.class, vertexIds)
+                .render(context);
+    }
+
+    @Benchmark
+    public String fetchVertexWithSelection() {
+        return vertex(Person.class, vertexIds)
+                .select(Person::getName, Person::getAge)
+                .limit(100)
+                .render(context);
+    }
+
+    @Benchmark
+    public String fetchEdge() {
+        if (dialect == BenchmarkDialect.NEBULA) {
+            return edge(NebulaImpact.class, nebulaEdgeIds)
+                    .render(context);
+        }
+
+        return edge(Impact.class, vertexIds)
+                .render(context);
+    }
+}
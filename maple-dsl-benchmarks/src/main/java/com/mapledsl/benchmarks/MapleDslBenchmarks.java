@@ -0,0 +1,29 @@
+package com.mapledsl.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entrypoint of the benchmarks jar, it accepts the regular JMH command line options
+ * and always attaches the GC profiler so that every suite reports the bytes allocated per operation.
+ * <p></p>
+ * e.g. {@code java -jar benchmarks.jar TraversalRenderBenchmark -p dialect=NEBULA -p hops=20}
+ */
+public final class MapleDslBenchmarks {
+
+    private MapleDslBenchmarks() {
+    }
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
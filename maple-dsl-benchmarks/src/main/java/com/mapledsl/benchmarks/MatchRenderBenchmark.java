@@ -0,0 +1,64 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.benchmarks.BenchmarkModels.Impact;
+import com.mapledsl.benchmarks.BenchmarkModels.Person;
+import com.mapledsl.core.MapleDslConfiguration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapledsl.core.G.edge;
+import static com.mapledsl.core.G.vertex;
+
+/**
+ * Renders match wrappers, from the bare label lookup to predicate chains with nested conditions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchRenderBenchmark {
+    @Param({"NEBULA", "CYPHER"})
+    BenchmarkDialect dialect;
+
+    MapleDslConfiguration context;
+    List<String> types;
+
+    @Setup
+    public void setup() {
+        this.context = dialect.configuration();
+        this.types = Arrays.asList("Type1", "Type2", "Type3");
+    }
+
+    @Benchmark
+    public String matchVertex() {
+        return vertex(Person.class)
+                .render(context);
+    }
+
+    @Benchmark
+    public String matchVertexWithPredicates() {
+        return vertex(Person.class)
+                .eq(Person::getName, "bofa")
+                .gt(Person::getAge, 18)
+                .lt(Person::getAge, 60)
+                .or(it -> it.eq(Person::getName, "maple").ne(Person::getAge, 30))
+                .select(Person::getName, Person::getAge)
+                .render(context);
+    }
+
+    @Benchmark
+    public String matchEdgeWithPredicates() {
+        return edge(Impact.class)
+                .in(Impact::getType, types)
+                .ge(Impact::getWeight, 1)
+                .le(Impact::getWeight, 10)
+                .selectAs(Impact::getType, "impact_type")
+                .select(Impact::src, Impact::dst)
+                .render(context);
+    }
+}
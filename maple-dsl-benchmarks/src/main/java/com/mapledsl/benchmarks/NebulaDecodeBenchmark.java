@@ -0,0 +1,80 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.benchmarks.BenchmarkModels.Person;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.introspect.BeanDefinition;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.nebula.module.MapleNebulaDslSymbolTable;
+import com.mapledsl.nebula.module.MapleNebulaDslType;
+import com.vesoft.nebula.Tag;
+import com.vesoft.nebula.Value;
+import com.vesoft.nebula.Vertex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Decodes a nebula vertex of the {@code person} tag, the GC profiler reports the bytes allocated per vertex of
+ * the props map decoding {@link MapleNebulaDslType#any(Value, MapleNebulaDslSymbolTable)}, the name keyed bean decoding and the direct bean decoding.
+ * <p></p>
+ * e.g. {@code java -jar benchmarks.jar NebulaDecodeBenchmark -p extraProps=0,8}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NebulaDecodeBenchmark {
+    /** the props without a bean property, which fall back to the props of the model */
+    @Param({"0", "8"})
+    int extraProps;
+
+    MapleDslConfiguration context;
+    BeanDefinition<Person> definition;
+    MapleNebulaDslSymbolTable symbols;
+    Value vertex;
+
+    @Setup
+    public void setup() {
+        this.context = BenchmarkDialect.NEBULA.configuration();
+        this.definition = context.beanDefinitionUnchecked(Person.class);
+        this.symbols = MapleNebulaDslSymbolTable.of(context);
+
+        final Map<byte[], Value> props = new HashMap<>();
+        props.put("name".getBytes(UTF_8), Value.sVal("bofa".getBytes(UTF_8)));
+        props.put("age".getBytes(UTF_8), Value.iVal(18));
+        for (int i = 0; i < extraProps; i++) props.put(("extra_" + i).getBytes(UTF_8), Value.iVal(i));
+        this.vertex = Value.vVal(new Vertex(Value.iVal(1), Collections.singletonList(new Tag("person".getBytes(UTF_8), props))));
+    }
+
+    @Benchmark
+    public Object decodeAsMap() {
+        return MapleNebulaDslType.any(vertex, symbols);
+    }
+
+    /**
+     * Decodes every prop name into an interned string then injects it by name.
+     */
+    @Benchmark
+    public Person decodeByName() {
+        final Person person = definition.newInstance();
+        final Vertex it = vertex.getVVal();
+        definition.setter(person, Model.V.ID, it.vid);
+
+        final Tag tag = it.tags.get(0);
+        definition.setter(person, Model.V.TAG, new String(tag.name).intern());
+        tag.props.forEach((k, v) -> definition.setter(person, new String(k).intern(), v));
+        return person;
+    }
+
+    @Benchmark
+    public Person decodeDirect() {
+        return context.resultant(vertex, definition);
+    }
+}
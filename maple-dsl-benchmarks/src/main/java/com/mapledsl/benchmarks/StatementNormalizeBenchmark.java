@@ -0,0 +1,44 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.core.MapleDslStatementNormalizer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalizes a rendered statement with the size growing, by the regular expressions which pretty printed the statements
+ * before and by the single pass {@link MapleDslStatementNormalizer}.
+ * <p></p>
+ * e.g. {@code java -jar benchmarks.jar StatementNormalizeBenchmark -p stmtBytes=200,200000}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementNormalizeBenchmark {
+    @Param({"200", "2000", "20000", "200000"})
+    int stmtBytes;
+
+    String stmt;
+
+    @Setup
+    public void setup() {
+        final StringBuilder builder = new StringBuilder(stmtBytes + 64).append("  MATCH (v:person)   WHERE v.name IN [ ");
+        for (int i = 0; builder.length() < stmtBytes - 32; i++) {
+            builder.append("\"bofa, deez ").append(i).append("\" ,  ");
+        }
+        this.stmt = builder.append("\"p\" ]\n   RETURN v.name , v.age  ").toString();
+    }
+
+    @Benchmark
+    public String regex() {
+        return stmt.trim().replaceAll("\\s{2,}", " ").replaceAll("\\s?,\\s?", ",");
+    }
+
+    @Benchmark
+    public String normalizer() {
+        return MapleDslStatementNormalizer.normalize(stmt);
+    }
+}
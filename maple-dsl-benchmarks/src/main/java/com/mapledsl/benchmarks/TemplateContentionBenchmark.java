@@ -0,0 +1,79 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.PooledTemplateRender;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mapledsl.core.G.traverse;
+
+/**
+ * Renders the same traversal from many threads at once, so that the acquisition of the templates is measured under
+ * contention, either the shared compiled templates or the pooled template groups as the baseline, see
+ * {@link PooledTemplateRender}. The render plan cache is disabled by default, every render evaluates the template.
+ * <p></p>
+ * e.g. {@code java -jar benchmarks.jar TemplateContentionBenchmark -p templates=SHARED -p renderPlanCache=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateContentionBenchmark {
+    @Param({"NEBULA", "CYPHER"})
+    BenchmarkDialect dialect;
+    @Param({"SHARED", "POOLED"})
+    String templates;
+    @Param({"false"})
+    boolean renderPlanCache;
+
+    MapleDslConfiguration context;
+    PooledTemplateRender pooledTemplateRender;
+
+    @Setup
+    public void setup() {
+        this.context = dialect.configuration(renderPlanCache);
+        if (!"POOLED".equals(templates)) return;
+
+        this.pooledTemplateRender = new PooledTemplateRender(context);
+        // the baseline must render the very same statement.
+        final String expected = traverse("p001").outE("follow").render(context);
+        if (!expected.equals(render())) throw new IllegalStateException("The pooled render differs: " + render());
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pooledTemplateRender != null) pooledTemplateRender.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String renderThreads1() {
+        return render();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String renderThreads8() {
+        return render();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public String renderThreads32() {
+        return render();
+    }
+
+    @Benchmark
+    @Threads(128)
+    public String renderThreads128() {
+        return render();
+    }
+
+    private String render() {
+        if (pooledTemplateRender != null) return pooledTemplateRender.traverse("p001").outE("follow").render(context);
+        return traverse("p001").outE("follow").render(context);
+    }
+}
@@ -0,0 +1,49 @@
+package com.mapledsl.benchmarks;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.wrapper.TraversalWrapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.mapledsl.core.G.traverse;
+
+/**
+ * Renders multi-hop {@code G.traverse(ids)} statements, alternating the outgoing and incoming direction every hop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalRenderBenchmark {
+    @Param({"NEBULA", "CYPHER"})
+    BenchmarkDialect dialect;
+    @Param({"1", "100", "10000"})
+    int idSize;
+    @Param({"1", "5", "20", "50"})
+    int hops;
+
+    MapleDslConfiguration context;
+    List<Long> vertexIds;
+
+    @Setup
+    public void setup() {
+        this.context = dialect.configuration();
+        this.vertexIds = new ArrayList<>(idSize);
+        for (long i = 0; i < idSize; i++) vertexIds.add(i);
+    }
+
+    @Benchmark
+    public String traverseHops() {
+        TraversalWrapper traversal = traverse(vertexIds);
+        for (int hop = 0; hop < hops; hop++) {
+            traversal = hop % 2 == 0 ? traversal.outE("follow") : traversal.inE("impact");
+        }
+
+        return traversal.render(context);
+    }
+}
@@ -0,0 +1,113 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.condition.wrapper.MapleDslDialectFunction;
+import com.mapledsl.core.condition.wrapper.MapleDslDialectPredicate;
+import com.mapledsl.core.condition.wrapper.MapleDslDialectSelection;
+import com.mapledsl.core.condition.wrapper.TraversalStepWrapper;
+import com.mapledsl.core.exception.MapleDslBindingException;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.compiler.CompiledST;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.function.BiFunction;
+
+/**
+ * The baseline of {@code TemplateContentionBenchmark}, renders the traversal through a pool of template groups as the
+ * template registry did before the compiled templates were shared, i.e. every render borrows a whole {@link STGroup}
+ * holding its own compiled templates and returns it afterwards.
+ * <p></p>
+ * It lives in the core package of the benchmarks only, to reach the dialect renderers of the template registry.
+ */
+public final class PooledTemplateRender implements BiFunction<MapleDslConfiguration, Object[], String>, AutoCloseable {
+    static final int MAX_TOTAL = Runtime.getRuntime().availableProcessors() * 5;
+    static final int MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final MapleDslTemplateRegistry templateRegistry;
+    private final boolean identifierList;
+    private final GenericObjectPool<STGroup> templateGroupPool;
+
+    public PooledTemplateRender(MapleDslConfiguration context) {
+        this.templateRegistry = context.templateRegistry;
+        this.identifierList = context.module().identifierList();
+
+        final GenericObjectPoolConfig<STGroup> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(MAX_TOTAL);
+        poolConfig.setMaxIdle(MAX_IDLE);
+        this.templateGroupPool = new GenericObjectPool<>(new STGroupPooledObjectFactory(), poolConfig);
+    }
+
+    /**
+     * @param vertexId the id of the vertex traversed from
+     * @return the traversal rendered through the pooled template groups
+     */
+    public TraversalStepWrapper traverse(Object vertexId) {
+        return new TraversalStepWrapper(this, new MapleDslDialectIdentifiers(Collections.singletonList(vertexId), MapleDslDialectRenderHelper::identify));
+    }
+
+    @Override
+    public String apply(MapleDslConfiguration context, Object[] args) {
+        final STGroup templateGroup;
+        try {
+            templateGroup = templateGroupPool.borrowObject();
+        } catch (Exception cause) {
+            throw new MapleDslBindingException("Borrow template group failed", cause);
+        }
+
+        try {
+            final Object[] literalArgs = args.clone();
+            if (identifierList && literalArgs[2] instanceof MapleDslDialectIdentifiers) {
+                literalArgs[2] = ((MapleDslDialectIdentifiers) literalArgs[2]).list();
+            }
+
+            final ST fmt = templateGroup.getInstanceOf("/" + MapleDslDialectRender.traversal.name());
+            return MapleDslDialectRender.traversal.prettyPrint(MapleDslDialectRender.traversal.fill(fmt, literalArgs).render());
+        } finally {
+            templateGroupPool.returnObject(templateGroup);
+        }
+    }
+
+    @Override
+    public void close() {
+        templateGroupPool.close();
+    }
+
+    final class STGroupPooledObjectFactory extends BasePooledObjectFactory<STGroup> {
+        @Override
+        public STGroup create() {
+            final STGroup templateGroup = new STGroup();
+            templateGroup.registerModelAdaptor(Object.class, templateRegistry.modelAdaptor);
+            templateGroup.registerRenderer(Class.class, templateRegistry.clazzRender);
+            templateGroup.registerRenderer(MapleDslDialectSelection.class, templateRegistry.selectionRender);
+            templateGroup.registerRenderer(MapleDslDialectFunction.class, templateRegistry.functionRender);
+            templateGroup.registerRenderer(MapleDslDialectPredicate.class, templateRegistry.predicateRender);
+
+            final Properties templateProperties = templateRegistry.templateProperties;
+            for (String templateName : templateProperties.stringPropertyNames()) {
+                final CompiledST compiledST = templateGroup.compile(null, null, null, templateProperties.getProperty(templateName), null);
+                compiledST.hasFormalArgs = false;
+                compiledST.name = "/" + templateName;
+                compiledST.defineImplicitlyDefinedTemplates(templateGroup);
+                templateGroup.rawDefineTemplate(compiledST.name, compiledST, null);
+            }
+
+            return templateGroup;
+        }
+
+        @Override
+        public PooledObject<STGroup> wrap(STGroup templateGroup) {
+            return new DefaultPooledObject<>(templateGroup);
+        }
+
+        @Override
+        public void destroyObject(PooledObject<STGroup> p) {
+            p.getObject().unload();
+        }
+    }
+}
@@ -1,23 +1,21 @@
 package com.mapledsl.core;
 
+import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.condition.wrapper.FetchWrapper;
 import com.mapledsl.core.condition.wrapper.MatchWrapper;
 import com.mapledsl.core.condition.wrapper.TraversalStepWrapper;
 import com.mapledsl.core.condition.wrapper.TraversalWrapper;
+import com.mapledsl.core.extension.introspect.BeanDefinition;
 import com.mapledsl.core.model.ID;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.BiFunction;
-import java.util.stream.Collectors;
 
 import static com.mapledsl.core.MapleDslDialectRender.*;
 import static com.mapledsl.core.MapleDslDialectRenderHelper.BLANK;
-import static com.mapledsl.core.MapleDslDialectRenderHelper.COMMA;
 
 public final class G {
 
@@ -31,9 +29,7 @@ public final class G {
     @SafeVarargs
     @Contract("_ -> new")
     public static <ID> @NotNull TraversalWrapper traverse(ID... vertexIds) {
-        return new TraversalWrapperFacade(Arrays.stream(vertexIds)
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new TraversalWrapperFacade(new MapleDslDialectIdentifiers(Arrays.asList(vertexIds), MapleDslDialectRenderHelper::identify));
     }
 
     /**
@@ -45,9 +41,7 @@ public final class G {
      */
     @Contract("_ -> new")
     public static <ID> @NotNull TraversalWrapper traverse(Collection<ID> vertexIds) {
-        return new TraversalWrapperFacade(vertexIds.stream()
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new TraversalWrapperFacade(new MapleDslDialectIdentifiers(vertexIds, MapleDslDialectRenderHelper::identify));
     }
 
     /**
@@ -118,30 +112,22 @@ public final class G {
      */
     @Contract(value = "_, _ -> new", pure = true)
     public static @NotNull FetchWrapper<Model.V<String>> vertex(String tag, String... vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, Arrays.stream(vertexIds)
-                .map(MapleDslDialectRenderHelper::quote)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(Arrays.asList(vertexIds), MapleDslDialectRenderHelper::quote));
     }
 
     @Contract(value = "_, _ -> new", pure = true)
     public static @NotNull FetchWrapper<Model.V<Number>> vertex(String tag, Number... vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, Arrays.stream(vertexIds)
-                .map(MapleDslDialectRenderHelper::numeric)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(Arrays.asList(vertexIds), MapleDslDialectRenderHelper::numeric));
     }
 
     @Contract(value = "_, _ -> new", pure = true)
     public static @NotNull FetchWrapper<Model.V<String>> vertex(String tag, ID... vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, Arrays.stream(vertexIds)
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(Arrays.asList(vertexIds), MapleDslDialectRenderHelper::identify));
     }
 
     @Contract(value = "_, _ -> new", pure = true)
     public static <ID> @NotNull FetchWrapper<Model.V<ID>> vertex(String tag, Collection<ID> vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, vertexIds.stream()
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(vertexIds, MapleDslDialectRenderHelper::identify));
     }
 
     /**
@@ -156,16 +142,12 @@ public final class G {
     @SafeVarargs
     @Contract("_, _ -> new")
     public static <ID, V extends Model.V<ID>> @NotNull FetchWrapper<V> vertex(Class<V> tag, ID... vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, Arrays.stream(vertexIds)
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(Arrays.asList(vertexIds), MapleDslDialectRenderHelper::identify));
     }
 
     @Contract("_, _ -> new")
     public static <ID, V extends Model.V<ID>> @NotNull FetchWrapper<V> vertex(Class<V> tag, Collection<ID> vertexIds) {
-        return new FetchVertexWrapper<>(fetchV, tag, vertexIds.stream()
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA)));
+        return new FetchVertexWrapper<>(fetchV, tag, new MapleDslDialectIdentifiers(vertexIds, MapleDslDialectRenderHelper::identify));
     }
 
     /**
@@ -180,9 +162,7 @@ public final class G {
     @SafeVarargs
     @Contract("_, _ -> new")
     public static <ID, E extends Model.E<ID,?>> @NotNull FetchWrapper<E> edge(Class<E> tag, ID... edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, Arrays.stream(edgeIds)
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(Arrays.asList(edgeIds), MapleDslDialectRenderHelper::identify)
         );
     }
 
@@ -199,9 +179,7 @@ public final class G {
      */
     @Contract("_, _ -> new")
     public static <ID, E extends Model.E<ID,?>> @NotNull FetchWrapper<E> edge(Class<E> tag, Collection<ID> edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, edgeIds.stream()
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(edgeIds, MapleDslDialectRenderHelper::identify)
         );
     }
 
@@ -214,36 +192,112 @@ public final class G {
      */
     @Contract("_, _ -> new")
     public static @NotNull FetchWrapper<Model.E<String,?>> edge(String tag, String... edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, Arrays.stream(edgeIds)
-                .map(MapleDslDialectRenderHelper::quote)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(Arrays.asList(edgeIds), MapleDslDialectRenderHelper::quote)
         );
     }
 
     @Contract("_, _ -> new")
     public static @NotNull FetchWrapper<Model.E<Number,?>> edge(String tag, Number... edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, Arrays.stream(edgeIds)
-                .map(MapleDslDialectRenderHelper::numeric)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(Arrays.asList(edgeIds), MapleDslDialectRenderHelper::numeric)
         );
     }
 
     @Contract("_, _ -> new")
     public static @NotNull FetchWrapper<Model.E<String,?>> edge(String tag, ID... edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, Arrays.stream(edgeIds)
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(Arrays.asList(edgeIds), MapleDslDialectRenderHelper::identify)
         );
     }
 
     @Contract("_, _ -> new")
     public static @NotNull <ID> FetchWrapper<Model.E<ID,?>> edge(String tag, Collection<ID> edgeIds) {
-        return new FetchEdgeWrapper<>(fetchE, tag, edgeIds.stream()
-                .map(MapleDslDialectRenderHelper::identify)
-                .collect(Collectors.joining(COMMA))
+        return new FetchEdgeWrapper<>(fetchE, tag, new MapleDslDialectIdentifiers(edgeIds, MapleDslDialectRenderHelper::identify)
         );
     }
 
+    /**
+     * Creates a Wrapper inserting the given vertices in one statement, the existing vertices are left untouched.
+     *
+     * @param <V>      the type of vertex class, every vertex must be the same class.
+     * @param vertices the vertices to insert, the id and properties are read through the bean definition.
+     * @return a Wrapper object representing the bulk insert.
+     * @throws IllegalArgumentException if the vertices are empty or not the same class.
+     */
+    @Contract("_ -> new")
+    public static <V extends Model.V<?>> @NotNull Wrapper<V> insertVertex(Collection<V> vertices) {
+        return new InsertWrapper<>(insertV, VERTEX_KEYS, vertices, false);
+    }
+
+    /**
+     * Creates a Wrapper inserting the given vertices in one statement, the properties of the existing vertices are overwritten.
+     *
+     * @param <V>      the type of vertex class, every vertex must be the same class.
+     * @param vertices the vertices to upsert, the id and properties are read through the bean definition.
+     * @return a Wrapper object representing the bulk upsert.
+     * @throws IllegalArgumentException if the vertices are empty or not the same class.
+     */
+    @Contract("_ -> new")
+    public static <V extends Model.V<?>> @NotNull Wrapper<V> upsertVertex(Collection<V> vertices) {
+        return new InsertWrapper<>(insertV, VERTEX_KEYS, vertices, true);
+    }
+
+    /**
+     * Creates a Wrapper inserting the given edges in one statement, the existing edges are left untouched.
+     *
+     * @param <E>   the type of edge class, every edge must be the same class.
+     * @param edges the edges to insert, the src/dst/rank and properties are read through the bean definition.
+     * @return a Wrapper object representing the bulk insert.
+     * @throws IllegalArgumentException if the edges are empty or not the same class.
+     */
+    @Contract("_ -> new")
+    public static <E extends Model.E<?,?>> @NotNull Wrapper<E> insertEdge(Collection<E> edges) {
+        return new InsertWrapper<>(insertE, EDGE_KEYS, edges, false);
+    }
+
+    /**
+     * Creates a Wrapper inserting the given edges in one statement, the existing edges are left untouched.
+     * The endpoints are matched by the labels of the given vertex classes, in the dialects matching them, e.g. cypher.
+     *
+     * @param <E>      the type of edge class, every edge must be the same class.
+     * @param edges    the edges to insert, the src/dst/rank and properties are read through the bean definition.
+     * @param srcLabel the vertex class of the source vertices.
+     * @param dstLabel the vertex class of the destination vertices.
+     * @return a Wrapper object representing the bulk insert.
+     * @throws IllegalArgumentException if the edges are empty or not the same class.
+     */
+    @Contract("_, _, _ -> new")
+    public static <E extends Model.E<?,?>> @NotNull Wrapper<E> insertEdge(Collection<E> edges, Class<? extends Model.V<?>> srcLabel, Class<? extends Model.V<?>> dstLabel) {
+        return new InsertWrapper<>(insertE, EDGE_KEYS, edges, false, Objects.requireNonNull(srcLabel), Objects.requireNonNull(dstLabel));
+    }
+
+    /**
+     * Creates a Wrapper inserting the given edges in one statement, the properties of the existing edges are overwritten.
+     *
+     * @param <E>   the type of edge class, every edge must be the same class.
+     * @param edges the edges to upsert, the src/dst/rank and properties are read through the bean definition.
+     * @return a Wrapper object representing the bulk upsert.
+     * @throws IllegalArgumentException if the edges are empty or not the same class.
+     */
+    @Contract("_ -> new")
+    public static <E extends Model.E<?,?>> @NotNull Wrapper<E> upsertEdge(Collection<E> edges) {
+        return new InsertWrapper<>(insertE, EDGE_KEYS, edges, true);
+    }
+
+    /**
+     * Creates a Wrapper inserting the given edges in one statement, the properties of the existing edges are overwritten.
+     * The endpoints are matched by the labels of the given vertex classes, in the dialects matching them, e.g. cypher.
+     *
+     * @param <E>      the type of edge class, every edge must be the same class.
+     * @param edges    the edges to upsert, the src/dst/rank and properties are read through the bean definition.
+     * @param srcLabel the vertex class of the source vertices.
+     * @param dstLabel the vertex class of the destination vertices.
+     * @return a Wrapper object representing the bulk upsert.
+     * @throws IllegalArgumentException if the edges are empty or not the same class.
+     */
+    @Contract("_, _, _ -> new")
+    public static <E extends Model.E<?,?>> @NotNull Wrapper<E> upsertEdge(Collection<E> edges, Class<? extends Model.V<?>> srcLabel, Class<? extends Model.V<?>> dstLabel) {
+        return new InsertWrapper<>(insertE, EDGE_KEYS, edges, true, Objects.requireNonNull(srcLabel), Objects.requireNonNull(dstLabel));
+    }
+
     /**
      * A wrapper class for fetching vertices in a graph.
      *
@@ -257,7 +311,7 @@ public final class G {
          * @param label The label of the vertex.
          * @param verticesFragment The vertices fragment of fetch statement.
          */
-        FetchVertexWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String label, String verticesFragment) {
+        FetchVertexWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String label, CharSequence verticesFragment) {
             super(DEFAULT_VERTEX_ALIAS, label, verticesFragment, renderFunc, it -> it
                     .setV(true)
                     .setInstantiatedLabel(label)
@@ -268,7 +322,7 @@ public final class G {
         /**
          * FetchVertexWrapper is a generic class that represents a wrapper for fetching vertices in a graph.
          */
-         FetchVertexWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Class<V> labelClazz, String verticesFragment) {
+         FetchVertexWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Class<V> labelClazz, CharSequence verticesFragment) {
             super(DEFAULT_VERTEX_ALIAS, labelClazz, verticesFragment, renderFunc, it -> it
                     .setV(true)
                     .setInstantiatedLabelClazz(labelClazz)
@@ -292,7 +346,7 @@ public final class G {
          * @param label The label of the edges.
          * @param edgeFragment The edges fetch fragment.
          */
-        <R> FetchEdgeWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String label, String edgeFragment) {
+        <R> FetchEdgeWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String label, CharSequence edgeFragment) {
             super(DEFAULT_EDGE_ALIAS, label, edgeFragment, renderFunc, it -> it
                     .setE(true)
                     .setInstantiatedLabel(label)
@@ -308,7 +362,7 @@ public final class G {
          * @param labelClazz the label clazz of the edges.
          * @param edgeFragment The edge fetch fragment.
          */
-        <R> FetchEdgeWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Class<E> labelClazz, String edgeFragment) {
+        <R> FetchEdgeWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Class<E> labelClazz, CharSequence edgeFragment) {
             super(DEFAULT_EDGE_ALIAS, labelClazz, edgeFragment, renderFunc, it -> it
                     .setE(true)
                     .setInstantiatedLabelClazz(labelClazz)
@@ -419,6 +473,83 @@ public final class G {
         }
     }
 
+    /**
+     * The key properties of a bulk statement, the rank only presents in the dialects which support it, e.g. nebula.
+     */
+    static final List<String> VERTEX_KEYS = Collections.singletonList(Model.ID);
+    static final List<String> EDGE_KEYS = Collections.unmodifiableList(Arrays.asList(Model.ID, Model.E.SRC, Model.E.DST, "rank"));
+
+    /**
+     * A wrapper class for inserting models of the same class in one statement, the key values follow
+     * the common arguments of the render in the order of the keys.
+     *
+     * @param <M> The type of the models.
+     */
+    static final class InsertWrapper<M extends Model<?>> implements Wrapper<M> {
+        final MapleDslDialectRender renderFunc;
+        final List<String> keys;
+        final Collection<M> models;
+        final Class<?> labelClazz;
+        final boolean upsert;
+        /**
+         * The vertex classes of the edge endpoints, absent unless given.
+         */
+        final Class<? extends Model.V<?>> srcLabelClazz, dstLabelClazz;
+
+        InsertWrapper(MapleDslDialectRender renderFunc, List<String> keys, Collection<M> models, boolean upsert) {
+            this(renderFunc, keys, models, upsert, null, null);
+        }
+
+        InsertWrapper(MapleDslDialectRender renderFunc, List<String> keys, Collection<M> models, boolean upsert,
+                      Class<? extends Model.V<?>> srcLabelClazz, Class<? extends Model.V<?>> dstLabelClazz) {
+            this.renderFunc = renderFunc;
+            this.keys = keys;
+            this.models = models;
+            this.labelClazz = modelClazz(models);
+            this.upsert = upsert;
+            this.srcLabelClazz = srcLabelClazz;
+            this.dstLabelClazz = dstLabelClazz;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public String render(MapleDslConfiguration context) {
+            final BeanDefinition<M> definition = (BeanDefinition<M>) context.beanDefinitionUnchecked(labelClazz);
+            final Set<String> properties = new TreeSet<>();
+            for (M model : models) properties.addAll(definition.propertyNames(model));
+            properties.removeAll(keys);
+
+            final MapleDslDialectRows rows = new MapleDslDialectRows(context, definition, keys, new ArrayList<>(properties), models);
+            final Object[] args = new Object[renderFunc == insertE ? 8 + keys.size() : 6 + keys.size()];
+            args[0] = renderFunc == insertE ? DEFAULT_EDGE_ALIAS : DEFAULT_VERTEX_ALIAS;
+            args[1] = definition.label();
+            args[2] = rows.properties();
+            args[3] = rows.values();
+            args[4] = rows;
+            args[5] = upsert;
+            for (int i = 0; i < keys.size(); i++) args[6 + i] = rows.literals(keys.get(i));
+            if (srcLabelClazz != null) args[6 + keys.size()] = context.label(srcLabelClazz);
+            if (dstLabelClazz != null) args[7 + keys.size()] = context.label(dstLabelClazz);
+
+            return renderFunc.apply(context, args);
+        }
+    }
+
+    /**
+     * Returns the class shared by every model, which decides the label and properties of a bulk statement.
+     */
+    static Class<?> modelClazz(Collection<? extends Model<?>> models) {
+        if (models == null || models.isEmpty()) throw new IllegalArgumentException("Models must not be empty");
+
+        Class<?> modelClazz = null;
+        for (Model<?> model : models) {
+            Objects.requireNonNull(model, "Model must not be null");
+            if (modelClazz == null) modelClazz = model.getClass();
+            else if (modelClazz != model.getClass()) throw new IllegalArgumentException("Models must be the same class, " + modelClazz.getName() + " and " + model.getClass().getName());
+        }
+        return modelClazz;
+    }
+
     /**
      * This class is a wrapper facade for TraversalStepWrapper. It extends the TraversalStepWrapper class
      * and provides additional functionality for rendering a traversal.
@@ -438,7 +569,7 @@ public final class G {
          * This class is a wrapper facade for TraversalStepWrapper. It extends the TraversalStepWrapper class
          * and provides additional functionality for rendering a traversal.
          */
-        TraversalWrapperFacade(String fromFragment) {
+        TraversalWrapperFacade(CharSequence fromFragment) {
             super(traversal, fromFragment);
         }
 
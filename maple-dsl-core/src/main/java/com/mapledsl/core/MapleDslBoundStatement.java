@@ -0,0 +1,122 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.condition.Wrapper;
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Represents a rendered statement whose literal values are bound as native parameters.
+ * <p>
+ * Predicate values, vertex/edge ids and offset/limit are rendered as {@code $p0}, {@code $p1}... placeholders,
+ * and their raw values are kept in {@link #parameters()} keyed by the placeholder name without the {@code $} prefix,
+ * which is the form accepted by both Neo4j {@code Session#run(String, Map)} and Nebula {@code Session#executeWithParameter(String, Map)}.
+ * <p>
+ * The ids are bound as one list parameter where the dialect takes a list, e.g. cypher {@code WHERE id(v) IN $p0},
+ * so that the statement does not vary with the number of ids. Nebula {@code FETCH} and {@code GO FROM} take no list
+ * parameter, their ids are bound one by one, e.g. {@code FETCH PROP ON person $p0,$p1}.
+ * <p>
+ * Values that do not have a native parameter representation, e.g. temporal values or composite edge ids,
+ * stay rendered as literal in the statement.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class MapleDslBoundStatement {
+    static final String PLACEHOLDER_PREFIX = "p";
+    /**
+     * Parameters of the statement being bound in the current thread, consumed by {@link MapleDslDialectRender}.
+     */
+    static final ThreadLocal<Map<String, Object>> BOUND_PARAMETERS = new ThreadLocal<>();
+
+    private final @NotNull String statement;
+    private final @NotNull Map<String, Object> parameters;
+
+    MapleDslBoundStatement(@NotNull String statement, @NotNull Map<String, Object> parameters) {
+        this.statement = statement;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Render the wrapper with its literal values bound as native parameters.
+     *
+     * @param wrapper the wrapper to render
+     * @param context the configuration to render with
+     * @return the bound statement
+     */
+    public static @NotNull MapleDslBoundStatement bind(@NotNull Wrapper<?> wrapper, @NotNull MapleDslConfiguration context) {
+        final Map<String, Object> previousParameters = BOUND_PARAMETERS.get();
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        BOUND_PARAMETERS.set(parameters);
+        try {
+            return new MapleDslBoundStatement(wrapper.render(context), Collections.unmodifiableMap(parameters));
+        } finally {
+            if (previousParameters == null) BOUND_PARAMETERS.remove();
+            else BOUND_PARAMETERS.set(previousParameters);
+        }
+    }
+
+    /**
+     * Render the wrapper according to the parameter binding mode of the configuration,
+     * the parameters are empty if the parameter binding is disabled.
+     *
+     * @param wrapper the wrapper to render
+     * @param context the configuration to render with
+     * @return the bound statement or the literal statement with empty parameters
+     */
+    public static @NotNull MapleDslBoundStatement of(@NotNull Wrapper<?> wrapper, @NotNull MapleDslConfiguration context) {
+        if (context.parameterBinding) return bind(wrapper, context);
+        return new MapleDslBoundStatement(wrapper.render(context), Collections.emptyMap());
+    }
+
+    /**
+     * Register the value as a parameter if it has a native parameter representation.
+     *
+     * @param parameters the parameters of the statement being bound
+     * @param value the literal value
+     * @return the placeholder of the registered parameter, or null if the value should stay literal
+     */
+    static @Nullable String placeholder(@NotNull Map<String, Object> parameters, @Nullable Object value) {
+        final Object parameter = parameterized(value);
+        if (parameter == null) return null;
+
+        final String name = PLACEHOLDER_PREFIX + parameters.size();
+        parameters.put(name, parameter);
+        return "$" + name;
+    }
+
+    /**
+     * Convert the literal value into its native parameter representation.
+     *
+     * @param value the literal value
+     * @return the native parameter, or null if the value should stay literal
+     */
+    static @Nullable Object parameterized(@Nullable Object value) {
+        if (value instanceof CharSequence) return value.toString();
+        if (value instanceof Number || value instanceof Boolean) return value;
+        if (value instanceof Collection) {
+            final List<Object> parameter = new ArrayList<>(((Collection<?>) value).size());
+            for (Object it : (Collection<?>) value) {
+                final Object itParameter = parameterized(it);
+                if (itParameter == null) return null;
+                parameter.add(itParameter);
+            }
+            return parameter;
+        }
+
+        return null;
+    }
+
+    public @NotNull String statement() {
+        return statement;
+    }
+
+    public @NotNull Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return parameters.isEmpty() ? statement : statement + " " + parameters;
+    }
+}
@@ -41,6 +41,14 @@ public final class MapleDslConfiguration {
      * Registry for Maple DSL templates.
      */
     @NotNull final MapleDslTemplateRegistry templateRegistry;
+    /**
+     * Registry for compiled render plans keyed by wrapper shape, null if the render plan cache is disabled.
+     */
+    @Nullable final MapleDslRenderPlanRegistry renderPlanRegistry;
+    /**
+     * Whether the sessions execute wrappers with their literal values bound as native parameters.
+     */
+    final boolean parameterBinding;
     /**
      * The handler registry for the Maple DSL framework.
      */
@@ -81,21 +89,23 @@ public final class MapleDslConfiguration {
      * @param regionConfig The region configuration.
      * @param namingStrategy The naming strategy.
      * @param keyPolicyStrategy The key policy strategy.
-     * @param templatePoolConfigMaxTotal The maximum total number of templates in the template pool configuration. Can be null.
-     * @param templatePoolConfigMaxIdle The maximum number of idle templates in the template pool configuration. Can be null.
-     * @param templatePoolConfigMinIdle The minimum number of idle templates in the template pool configuration. Can be null.
+     * @param renderPlanCacheEnabled Whether compiled render plans are cached by wrapper shape.
+     * @param renderPlanCacheMaximumSize The maximum number of cached render plans. Can be null.
+     * @param parameterBinding Whether the sessions execute wrappers with native bound parameters.
      */
     MapleDslConfiguration(@NotNull MapleDslModule module, @NotNull RegionConfig regionConfig,
                           @NotNull NamingStrategy namingStrategy, @NotNull KeyPolicyStrategy keyPolicyStrategy,
-                          @Nullable Integer templatePoolConfigMaxTotal, @Nullable Integer templatePoolConfigMaxIdle, @Nullable Integer templatePoolConfigMinIdle) {
+                          boolean renderPlanCacheEnabled, @Nullable Integer renderPlanCacheMaximumSize, boolean parameterBinding) {
         this.module = module;
         this.regionConfig = regionConfig;
         this.namingStrategy = namingStrategy;
         this.keyPolicyStrategy = keyPolicyStrategy;
+        this.parameterBinding = parameterBinding;
 
         this.mapperRegistry = new MapleDslDefinitionRegistry(this);
         this.handlerRegistry = new MapleDslHandlerRegistry(this);
-        this.templateRegistry = new MapleDslTemplateRegistry(this, templatePoolConfigMaxTotal, templatePoolConfigMaxIdle, templatePoolConfigMinIdle);
+        this.templateRegistry = new MapleDslTemplateRegistry(this);
+        this.renderPlanRegistry = renderPlanCacheEnabled ? new MapleDslRenderPlanRegistry(this, renderPlanCacheMaximumSize) : null;
     }
 
     /**
@@ -159,17 +169,28 @@ public final class MapleDslConfiguration {
         return beanDefinitionUnchecked(modelClazz).label();
     }
 
+    /**
+     * Retrieves the labels of the model classes resolved so far, e.g. by rendering or mapping them.
+     *
+     * @return The unmodifiable view of the labels.
+     */
+    public @NotNull Set<String> labels() {
+        return mapperRegistry.labels();
+    }
+
     /**
      * Retrieves the bean definition for the specified bean class.
      *
      * @param beanClazz The class of the bean.
      * @param <BEAN> The type of the bean.
      * @return The bean definition for the specified bean class, or null if not found.
+     * The classes which could never have bean definition(e.g. scalar, collection and other JDK classes)
+     * are classified once per class and return null without raising any exception.
      * @throws MapleDslException if an exception occurs during the retrieval of the bean definition.
      */
     public @Nullable <BEAN> BeanDefinition<BEAN> beanDefinition(Class<BEAN> beanClazz) {
         try {
-            return mapperRegistry.getBeanDefinition(beanClazz);
+            return mapperRegistry.findBeanDefinition(beanClazz);
         } catch (MapleDslUncheckedException e) {
             return null;
         } catch (Exception e) {
@@ -245,19 +266,19 @@ public final class MapleDslConfiguration {
         if (param == null) return handlerRegistry.nullParameterHandler.apply(param, this);
         if (param instanceof List) {
             final List<?> listParam = (List<?>) param;
-            return ((MapleDslParameterHandler<List<?>>) handlerRegistry.parameterHandlerMap.get(List.class)).apply(listParam, this);
+            return ((MapleDslParameterHandler<List<?>>) handlerRegistry.parameterHandler(List.class)).apply(listParam, this);
         }
         if (param instanceof Set) {
             final Set<?> setParam = (Set<?>) param;
-            return ((MapleDslParameterHandler<Set<?>>) handlerRegistry.parameterHandlerMap.get(Set.class)).apply(setParam, this);
+            return ((MapleDslParameterHandler<Set<?>>) handlerRegistry.parameterHandler(Set.class)).apply(setParam, this);
         }
         if (param instanceof Map) {
             final Map<?,?> mapParam = (Map<?,?>) param;
-            return ((MapleDslParameterHandler<Map<?,?>>) handlerRegistry.parameterHandlerMap.get(Map.class)).apply(mapParam, this);
+            return ((MapleDslParameterHandler<Map<?,?>>) handlerRegistry.parameterHandler(Map.class)).apply(mapParam, this);
         }
 
-        if (!handlerRegistry.parameterHandlerMap.containsKey(param.getClass())) return handlerRegistry.nullParameterHandler.apply(param, this);
-        final MapleDslParameterHandler<PARAM> parameterHandler = (MapleDslParameterHandler<PARAM>) handlerRegistry.parameterHandlerMap.get(param.getClass());
+        final MapleDslParameterHandler<PARAM> parameterHandler = (MapleDslParameterHandler<PARAM>) handlerRegistry.parameterHandler(param.getClass());
+        if (parameterHandler == null) return handlerRegistry.nullParameterHandler.apply(param, this);
         return parameterHandler.apply(param, this);
     }
 
@@ -274,20 +295,8 @@ public final class MapleDslConfiguration {
     @SuppressWarnings("unchecked")
     public @Nullable <IN, OUT> OUT resultant(@Nullable IN inbound, @NotNull BeanDefinition<OUT> definition) {
         if (inbound == null) return null;
-        @Nullable MapleDslDefinitionResultHandler<IN> definitionResultHandler = (MapleDslDefinitionResultHandler<IN>) handlerRegistry.definitionResultHandlerMap.get(inbound.getClass());
-        if (definitionResultHandler == null) {
-            LOG.debug("IN:{} does not found it definition result handler, inspect it superclass or superinterface in deeply.", inbound);
-            for (Class<?> definitionResultType : handlerRegistry.definitionResultHandlerMap.keySet()) {
-                if (definitionResultType.isAssignableFrom(inbound.getClass())) {
-                    definitionResultHandler = (MapleDslDefinitionResultHandler<IN>) handlerRegistry.definitionResultHandlerMap.get(definitionResultType);
-                    break;
-                }
-            }
-            if (definitionResultHandler == null) {
-                LOG.warn("IN:{} does not found it definition result handler after deep inspection. ", inbound);
-                return null;
-            }
-        }
+        final MapleDslDefinitionResultHandler<IN> definitionResultHandler = (MapleDslDefinitionResultHandler<IN>) handlerRegistry.definitionResultHandler(inbound.getClass());
+        if (definitionResultHandler == null) return null;
 
         return definitionResultHandler.apply(inbound, definition, this);
     }
@@ -323,21 +332,10 @@ public final class MapleDslConfiguration {
             return resultant(inbound, outBeanDefinition);
         }
 
-        MapleDslResultHandler<IN, OUT> resultHandler =  (MapleDslResultHandler<IN, OUT>) handlerRegistry.resultHandlerTable.get(resultInboundType, outboundClazz);
+        final MapleDslResultHandler<IN, OUT> resultHandler = (MapleDslResultHandler<IN, OUT>) handlerRegistry.resultHandler(resultInboundType, outboundClazz);
         if (resultHandler == null) {
-            LOG.debug("IN:{},OUT:{} does not found it result handler, scanning through companion_result_handlers.", inbound, outboundClazz);
-            for (Class<?> companionResultInboundType : handlerRegistry.companionResultHandleTable.rowKeySet()) {
-                if (companionResultInboundType.isAssignableFrom(resultInboundType)) {
-                    resultHandler = (MapleDslResultHandler<IN, OUT>) handlerRegistry.companionResultHandleTable.get(companionResultInboundType, outboundClazz);
-                    break;
-                }
-            }
-        }
-
-        if (resultHandler == null) {
-            LOG.warn("IN:{},OUT:{} does not found it companion result handler.", inbound, outboundClazz);
             if (outboundClazz == Object.class) {
-                LOG.warn("IN:{} sink as OUT direct.", resultInboundType);
+                LOG.debug("IN:{} sink as OUT direct.", resultInboundType);
                 return ((OUT) inbound);
             }
 
@@ -347,6 +345,28 @@ public final class MapleDslConfiguration {
         return resultHandler.apply(inbound, this);
     }
 
+    /**
+     * Retrieves the number of renders served by a cached render plan.
+     *
+     * @return the render plan cache hit count, 0 if the render plan cache is disabled.
+     */
+    public long renderPlanHitCount() {
+        return renderPlanRegistry == null ? 0 : renderPlanRegistry.hitCount();
+    }
+
+    /**
+     * Retrieves the number of renders which compiled a new render plan.
+     *
+     * @return the render plan cache miss count, 0 if the render plan cache is disabled.
+     */
+    public long renderPlanMissCount() {
+        return renderPlanRegistry == null ? 0 : renderPlanRegistry.missCount();
+    }
+
+    public boolean parameterBinding() {
+        return parameterBinding;
+    }
+
     public KeyPolicyStrategy keyPolicyStrategy() {
         return keyPolicyStrategy;
     }
@@ -397,7 +417,9 @@ public final class MapleDslConfiguration {
 
     public static class Builder {
         boolean primary;
-        Integer templatePoolConfigMaxTotal, templatePoolConfigMaxIdle, templatePoolConfigMinIdle;
+        boolean renderPlanCacheEnabled = true;
+        Integer renderPlanCacheMaximumSize;
+        boolean parameterBinding;
         Class<? extends MapleDslModule> moduleClazz;
         MapleDslModule module;
         NamingStrategy namingStrategy;
@@ -485,21 +507,67 @@ public final class MapleDslConfiguration {
             return this;
         }
 
+        /**
+         * Templates are compiled once and shared by every thread, the template pool is no longer used.
+         *
+         * @deprecated the template pool has been removed, this setting is ignored.
+         */
+        @Deprecated
         public Builder templatePoolConfig(Integer maxTotal) {
-            this.templatePoolConfigMaxTotal = maxTotal;
             return this;
         }
 
+        /**
+         * @deprecated the template pool has been removed, this setting is ignored.
+         * @see #templatePoolConfig(Integer)
+         */
+        @Deprecated
         public Builder templatePoolConfig(Integer maxTotal, Integer maxIdle) {
-            this.templatePoolConfigMaxTotal = maxTotal;
-            this.templatePoolConfigMaxIdle = maxIdle;
             return this;
         }
 
+        /**
+         * @deprecated the template pool has been removed, this setting is ignored.
+         * @see #templatePoolConfig(Integer)
+         */
+        @Deprecated
         public Builder templatePoolConfig(Integer maxTotal, Integer maxIdle, Integer minIdle) {
-            this.templatePoolConfigMaxTotal = maxTotal;
-            this.templatePoolConfigMaxIdle = maxIdle;
-            this.templatePoolConfigMinIdle = minIdle;
+            return this;
+        }
+
+        /**
+         * Enable or disable caching compiled render plans keyed by wrapper shape, enabled by default.
+         *
+         * @param enabled whether the render plan cache is enabled
+         * @return this builder
+         */
+        public Builder renderPlanCache(boolean enabled) {
+            this.renderPlanCacheEnabled = enabled;
+            return this;
+        }
+
+        /**
+         * Enable or disable caching compiled render plans keyed by wrapper shape with a bounded size.
+         *
+         * @param enabled whether the render plan cache is enabled
+         * @param maximumSize the maximum number of cached render plans
+         * @return this builder
+         */
+        public Builder renderPlanCache(boolean enabled, Integer maximumSize) {
+            this.renderPlanCacheEnabled = enabled;
+            this.renderPlanCacheMaximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Enable or disable executing wrappers with their predicate values, ids and offset/limit bound as
+         * native parameters(e.g. {@code $p0}) instead of inline literals, disabled by default.
+         *
+         * @param enabled whether the parameter binding is enabled
+         * @return this builder
+         */
+        public Builder parameterBinding(boolean enabled) {
+            this.parameterBinding = enabled;
             return this;
         }
 
@@ -526,7 +594,7 @@ public final class MapleDslConfiguration {
 
             final MapleDslConfiguration configuration = new MapleDslConfiguration(
                     module, regionConfig, namingStrategy, keyPolicyStrategy,
-                    templatePoolConfigMaxTotal, templatePoolConfigMaxIdle, templatePoolConfigMinIdle
+                    renderPlanCacheEnabled, renderPlanCacheMaximumSize, parameterBinding
             );
 
             if (primary) {
@@ -0,0 +1,175 @@
+package com.mapledsl.core;
+
+import org.apiguardian.api.API;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents the continuation token of the keyset pagination, carrying the sort key of the last row of a page.
+ * <p>
+ * The next page is read by seeking the rows after the last key instead of skipping the previous rows, so that every
+ * page costs the same however deep it is, e.g.
+ * <pre>{@code
+ * List<Person> page = session.selectList(G.vertex(Person.class).seek(Person::getAge, continuation).limit(100), Person.class);
+ * continuation = MapleDslContinuation.next(page, 100, Person::getAge);
+ * }</pre>
+ * The sort key must be unique among the rows, e.g. an unique property, otherwise the rows sharing the last key with
+ * the previous page are skipped. A non-unique key is seeked together with the id of the last row as the tiebreaker, e.g.
+ * <pre>{@code
+ * List<Person> page = session.selectList(G.vertex(Person.class).seekWithId(Person::getAge, continuation).limit(100), Person.class);
+ * continuation = MapleDslContinuation.next(page, 100, Person::getAge, Person::id);
+ * }</pre>
+ * The token is rendered by {@link #toString()} as an url-safe string, and restored by {@link #parse(String)}.
+ * The string, integral and floating keys and ids are supported.
+ */
+@API(status = API.Status.EXPERIMENTAL)
+public final class MapleDslContinuation {
+    private static final char STRING_KIND = 's', LONG_KIND = 'l', DOUBLE_KIND = 'd', ID_SEPARATOR = '.';
+
+    private final @NotNull Object lastKey;
+    private final @Nullable Object lastId;
+
+    private MapleDslContinuation(@NotNull Object lastKey, @Nullable Object lastId) {
+        this.lastKey = lastKey;
+        this.lastId = lastId;
+    }
+
+    /**
+     * @param lastKey the sort key of the last row
+     * @return the continuation after the key
+     * @throws IllegalArgumentException if the key is neither string nor number
+     */
+    public static @NotNull MapleDslContinuation of(@NotNull Object lastKey) {
+        Objects.requireNonNull(lastKey, "lastKey must not be null.");
+        return new MapleDslContinuation(key(lastKey), null);
+    }
+
+    /**
+     * @param lastKey the sort key of the last row
+     * @param lastId  the id of the last row, the tiebreaker of the rows sharing the last key
+     * @return the continuation after the key and id
+     * @throws IllegalArgumentException if either the key or the id is neither string nor number
+     */
+    public static @NotNull MapleDslContinuation of(@NotNull Object lastKey, @NotNull Object lastId) {
+        Objects.requireNonNull(lastKey, "lastKey must not be null.");
+        Objects.requireNonNull(lastId, "lastId must not be null.");
+        return new MapleDslContinuation(key(lastKey), key(lastId));
+    }
+
+    private static Object key(Object key) {
+        if (key instanceof CharSequence) return key.toString();
+        if (key instanceof Double || key instanceof Float) return ((Number) key).doubleValue();
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) return ((Number) key).longValue();
+
+        throw new IllegalArgumentException("Unsupported continuation key type: " + key.getClass().getName());
+    }
+
+    /**
+     * @param page        the rows of the current page
+     * @param pageSize    the limit of the current page
+     * @param keyFunction extracts the sort key of the row
+     * @param <T>         the type of row
+     * @return the continuation of the next page, or null if the current page is the last one
+     */
+    public static <T> @Nullable MapleDslContinuation next(@NotNull List<T> page, int pageSize, @NotNull Function<? super T, ?> keyFunction) {
+        if (page.isEmpty() || page.size() < pageSize) return null;
+        return of(keyFunction.apply(page.get(page.size() - 1)));
+    }
+
+    /**
+     * @param page        the rows of the current page
+     * @param pageSize    the limit of the current page
+     * @param keyFunction extracts the sort key of the row
+     * @param idFunction  extracts the id of the row
+     * @param <T>         the type of row
+     * @return the continuation of the next page, or null if the current page is the last one
+     */
+    public static <T> @Nullable MapleDslContinuation next(@NotNull List<T> page, int pageSize, @NotNull Function<? super T, ?> keyFunction, @NotNull Function<? super T, ?> idFunction) {
+        if (page.isEmpty() || page.size() < pageSize) return null;
+        final T last = page.get(page.size() - 1);
+        return of(keyFunction.apply(last), idFunction.apply(last));
+    }
+
+    /**
+     * @param token the token rendered by {@link #toString()}
+     * @return the continuation, or null if the token is null or empty
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static @Nullable MapleDslContinuation parse(@Nullable String token) {
+        if (token == null || token.isEmpty()) return null;
+
+        // the id is encoded apart, as the separator never appears in the url-safe base64.
+        final int separator = token.indexOf(ID_SEPARATOR);
+        if (separator < 0) return new MapleDslContinuation(decode(token, token), null);
+        return new MapleDslContinuation(decode(token.substring(0, separator), token), decode(token.substring(separator + 1), token));
+    }
+
+    private static Object decode(String encoded, String token) {
+        final String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed continuation token: " + token, e);
+        }
+        if (decoded.isEmpty()) throw new IllegalArgumentException("Malformed continuation token: " + token);
+
+        final String value = decoded.substring(1);
+        try {
+            switch (decoded.charAt(0)) {
+                case STRING_KIND: return value;
+                case LONG_KIND: return Long.parseLong(value);
+                case DOUBLE_KIND: return Double.parseDouble(value);
+                default: throw new IllegalArgumentException("Malformed continuation token: " + token);
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed continuation token: " + token, e);
+        }
+    }
+
+    private static String encode(Object key) {
+        final char kind = key instanceof String ? STRING_KIND : key instanceof Long ? LONG_KIND : DOUBLE_KIND;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((kind + key.toString()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the sort key of the last row, either {@link String}, {@link Long} or {@link Double}
+     */
+    public @NotNull Object lastKey() {
+        return lastKey;
+    }
+
+    /**
+     * @return the id of the last row, either {@link String}, {@link Long} or {@link Double}, or null if absent
+     */
+    public @Nullable Object lastId() {
+        return lastId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MapleDslContinuation)) return false;
+        final MapleDslContinuation that = (MapleDslContinuation) o;
+        return lastKey.equals(that.lastKey) && Objects.equals(lastId, that.lastId);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * lastKey.hashCode() + Objects.hashCode(lastId);
+    }
+
+    /**
+     * @return the url-safe token
+     */
+    @Override
+    public String toString() {
+        if (lastId == null) return encode(lastKey);
+        return encode(lastKey) + ID_SEPARATOR + encode(lastId);
+    }
+}
@@ -4,11 +4,13 @@ import com.mapledsl.core.exception.MapleDslBindingException;
 import com.mapledsl.core.exception.MapleDslUncheckedException;
 import com.mapledsl.core.extension.introspect.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
@@ -23,6 +25,10 @@ final class MapleDslDefinitionRegistry {
      * key: bean class, value: bean definition.
      */
     private final Map<Class<?>, BeanDefinition<?>> beanDefinitionMap = new ConcurrentHashMap<>();
+    /**
+     * The labels of the resolved bean definitions.
+     */
+    private final Set<String> labelSet = ConcurrentHashMap.newKeySet();
     /**
      * key: model class, value: bean property customizer.
      */
@@ -31,6 +37,10 @@ final class MapleDslDefinitionRegistry {
      * Represents an instance of BeanDefinitionIntrospector for introspecting bean definitions.
      */
     private final BeanDefinitionIntrospector beanDefinitionIntrospector;
+    /**
+     * The configuration whose result handlers decide the handled types, see {@link MapleDslTypeKind#HANDLED}.
+     */
+    private final MapleDslConfiguration context;
     /**
      * The default property customizer for model properties.
      * It implements the ModelPropertyCustomizer interface.
@@ -43,6 +53,7 @@ final class MapleDslDefinitionRegistry {
      */
     MapleDslDefinitionRegistry(MapleDslConfiguration context) {
         this.beanDefinitionIntrospector = new BeanDefinitionIntrospector(context);
+        this.context = context;
     }
 
     /**
@@ -53,21 +64,49 @@ final class MapleDslDefinitionRegistry {
      * @return the bean definition for the given bean class
      * @throws MapleDslUncheckedException if the bean class is null, an interface, a primitive type,
      *         an array, a subclass of Number, CharSequence, Boolean, Collection, or Map
+     * @see MapleDslTypeKind
      */
     @SuppressWarnings("unchecked")
     <BEAN> @NotNull BeanDefinition<BEAN> getBeanDefinition(Class<BEAN> beanClazz) {
         if (beanClazz == null) throw new MapleDslUncheckedException("Bean clazz must not be null.");
-        if (beanClazz.getName().startsWith("java.") || beanClazz.getName().startsWith("sun.misc.")) throw new MapleDslUncheckedException("initialization lookup for class " + beanClazz.getName() + " is not supported.");
-        if (beanClazz.isInterface()) throw new MapleDslUncheckedException("Interface does not have bean definition.");
-        if (beanClazz.isPrimitive()) throw new MapleDslUncheckedException("Primitive does not have bean definition.");
-        if (beanClazz.isArray()) throw new MapleDslUncheckedException("Array does not have bean definition.");
-        if (Number.class.isAssignableFrom(beanClazz)) throw new MapleDslUncheckedException("Number does not have bean definition.");
-        if (CharSequence.class.isAssignableFrom(beanClazz)) throw new MapleDslUncheckedException("CharSequence does not have bean definition.");
-        if (Boolean.class.isAssignableFrom(beanClazz)) throw new MapleDslUncheckedException("Boolean does not have bean definition.");
-        if (Collection.class.isAssignableFrom(beanClazz)) throw new MapleDslUncheckedException("Collection does not have bean definition.");
-        if (Map.class.isAssignableFrom(beanClazz)) throw new MapleDslUncheckedException("Map does not have bean definition.");
-
-        return (BeanDefinition<BEAN>) beanDefinitionMap.computeIfAbsent(beanClazz, beanDefinitionIntrospector::resolve);
+
+        final MapleDslTypeKind typeKind = MapleDslTypeKind.of(beanClazz);
+        if (!typeKind.isBean()) throw new MapleDslUncheckedException(typeKind.reason(beanClazz));
+
+        return (BeanDefinition<BEAN>) beanDefinitionMap.computeIfAbsent(beanClazz, this::resolve);
+    }
+
+    /**
+     * Retrieves the bean definition for the given bean class without raising exception for the classes
+     * which could never have bean definition, e.g. scalar, collection and other JDK classes,
+     * as well as the classes converted by the registered result handlers.
+     *
+     * @param beanClazz the class of the bean
+     * @param <BEAN> the type of the bean
+     * @return the bean definition for the given bean class, or null if the class does not have bean definition
+     */
+    @SuppressWarnings("unchecked")
+    <BEAN> @Nullable BeanDefinition<BEAN> findBeanDefinition(@Nullable Class<BEAN> beanClazz) {
+        if (beanClazz == null) return null;
+        if (!MapleDslTypeKind.of(beanClazz, context.handlerRegistry).isBean()) return null;
+
+        // look up before computeIfAbsent, which locks the bin even if the key is present.
+        final BeanDefinition<?> beanDefinition = beanDefinitionMap.get(beanClazz);
+        if (beanDefinition != null) return (BeanDefinition<BEAN>) beanDefinition;
+        return (BeanDefinition<BEAN>) beanDefinitionMap.computeIfAbsent(beanClazz, this::resolve);
+    }
+
+    private BeanDefinition<?> resolve(Class<?> beanClazz) {
+        final BeanDefinition<?> beanDefinition = beanDefinitionIntrospector.resolve(beanClazz);
+        if (beanDefinition.label() != null) labelSet.add(beanDefinition.label());
+        return beanDefinition;
+    }
+
+    /**
+     * @return the unmodifiable view of the labels of the resolved bean definitions
+     */
+    @NotNull Set<String> labels() {
+        return Collections.unmodifiableSet(labelSet);
     }
 
     /**
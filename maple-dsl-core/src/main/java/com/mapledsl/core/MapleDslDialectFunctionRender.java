@@ -1,6 +1,7 @@
 package com.mapledsl.core;
 
 import com.mapledsl.core.condition.wrapper.MapleDslDialectFunction;
+import org.jetbrains.annotations.NotNull;
 import org.stringtemplate.v4.AttributeRenderer;
 
 import java.util.Locale;
@@ -12,6 +13,7 @@ import java.util.Locale;
  * <p>
  * The class provides the following methods:
  * - {@code toString(MapleDslDialectFunction, String, Locale)}: Converts a {@code MapleDslDialectFunction} object to a string representation.
+ * - {@code render(MapleDslDialectFunction, StringBuilder)}: Streams a {@code MapleDslDialectFunction} object into a caller-supplied builder.
  * - {@code bind(MapleDslConfiguration)}: Binds a {@code MapleDslConfiguration} object to the context.
  * <p>
  * This is an abstract class and cannot be instantiated directly. Instead, it should be extended by concrete implementations.
@@ -32,13 +34,30 @@ public abstract class MapleDslDialectFunctionRender implements AttributeRenderer
     public String toString(MapleDslDialectFunction value, String formatString, Locale locale) {
         if (value == null)  return NULL;
 
-        final String curFunction = toFunction(value);
-        if (!value.hasNext()) return curFunction;
+        final StringBuilder builder = new StringBuilder(32);
+        render(value, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Streams the function chain into the builder without rendering the chain recursively,
+     * the trailing functions rendered as {@link #NULL} are dropped.
+     *
+     * @param value the head of the function chain
+     * @param builder the builder to append to
+     */
+    public void render(@NotNull MapleDslDialectFunction<?> value, @NotNull StringBuilder builder) {
+        builder.append(toFunction(value));
 
-        final String nextFunction = toString(value.next, formatString, locale);
-        if (nextFunction.equals(NULL)) return curFunction;
+        int length = builder.length();
+        for (MapleDslDialectFunction<?> cur = value; cur.hasNext();) {
+            cur = cur.next;
+            final String function = toFunction(cur);
+            builder.append(COMMA).append(function);
+            if (!NULL.equals(function)) length = builder.length();
+        }
 
-        return curFunction + COMMA + nextFunction;
+        builder.setLength(length);
     }
 
     @Override
@@ -0,0 +1,86 @@
+package com.mapledsl.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.mapledsl.core.MapleDslDialectRenderHelper.COMMA;
+
+/**
+ * The MapleDslDialectIdentifiers holds the raw vertex/edge ids of a fetch or traversal statement.
+ * <p>
+ * It renders as the literal id fragment, e.g. {@code "p001","p002"}, and keeps the raw ids around so the
+ * statement can bind every id as a native parameter, e.g. {@code $p0,$p1}, instead.
+ * <p>
+ * The dialect taking the ids as one list renders them as a list literal, e.g. {@code ["p001","p002"]}, and binds
+ * them as one list parameter, e.g. {@code $p0}, so that the bound statement does not vary with the number of ids.
+ */
+final class MapleDslDialectIdentifiers implements CharSequence {
+    private final @NotNull List<?> identifiers;
+    private final @NotNull Function<Object, String> identifierRender;
+    private String fragment;
+
+    @SuppressWarnings("unchecked")
+    <ID> MapleDslDialectIdentifiers(@NotNull Collection<ID> identifiers, @NotNull Function<? super ID, String> identifierRender) {
+        this.identifiers = identifiers instanceof List ? (List<?>) identifiers : identifiers.stream().collect(Collectors.toList());
+        this.identifierRender = (Function<Object, String>) identifierRender;
+    }
+
+    /**
+     * @return the ids as a list literal, e.g. {@code ["p001","p002"]}
+     */
+    String list() {
+        return "[" + this + "]";
+    }
+
+    /**
+     * Bind the ids as one list parameter if the dialect takes a list and every id is bindable, otherwise bind
+     * every bindable id as a native parameter, the others(e.g. composite edge id) keep it literal fragment.
+     *
+     * @param parameters the parameters of the statement being bound
+     * @param list whether the dialect takes the ids as one list
+     * @return the id fragment with placeholders
+     */
+    String bind(@NotNull Map<String, Object> parameters, boolean list) {
+        if (!list) return bind(parameters);
+
+        final String placeholder = MapleDslBoundStatement.placeholder(parameters, identifiers);
+        return placeholder == null ? "[" + bind(parameters) + "]" : placeholder;
+    }
+
+    private String bind(Map<String, Object> parameters) {
+        return identifiers.stream()
+                .map(it -> {
+                    final String placeholder = MapleDslBoundStatement.placeholder(parameters, it);
+                    return placeholder == null ? identifierRender.apply(it) : placeholder;
+                })
+                .collect(Collectors.joining(COMMA));
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        if (fragment == null) {
+            fragment = identifiers.stream().map(identifierRender).collect(Collectors.joining(COMMA));
+        }
+        return fragment;
+    }
+}
@@ -7,6 +7,7 @@ import org.jetbrains.annotations.Nullable;
 import org.stringtemplate.v4.AttributeRenderer;
 
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * This abstract class represents a predicate renderer for a specific Maple DSL dialect.
@@ -14,7 +15,8 @@ import java.util.Locale;
  * Subclasses must implement the vertex, edge, inV, and outV methods to provide custom rendering logic.
  * <p></p>
  * The class also provides an implementation for rendering the complete predicate query as a string.
- * The toString method takes a MapleDslDialectPredicate object and returns the rendered query.
+ * The toString method takes a MapleDslDialectPredicate object and returns the rendered query,
+ * the render method streams the same query into a caller-supplied builder.
  * <p></p>
  * Subclasses must also implement the dialect method to specify the dialect of the Maple DSL.
  * <p></p>
@@ -26,6 +28,11 @@ import java.util.Locale;
  */
 @SuppressWarnings("rawtypes")
 public abstract class MapleDslDialectPredicateRender implements AttributeRenderer<MapleDslDialectPredicate>, MapleDslDialectContextAware, MapleDslDialectAware, MapleDslDialectRenderHelper {
+    /**
+     * Predicate value substitutes of the statement being rendered in the current thread.
+     */
+    static final ThreadLocal<Map<MapleDslDialectPredicate<?>, String>> VALUE_SUBSTITUTES = new ThreadLocal<>();
+
     protected MapleDslConfiguration context;
     protected abstract String vertex(@NotNull String ref, @Nullable String label, String column);
     protected abstract String edge(@NotNull String ref, @Nullable String label, String column);
@@ -42,15 +49,28 @@ public abstract class MapleDslDialectPredicateRender implements AttributeRendere
      * @throws UnsupportedOperationException if the predicate does not match any conditions
      */
     private String column(MapleDslDialectPredicate<?> predicate) {
-        if (predicate.v())    return vertex(predicate.ref(), predicate.label(context), predicate.column());
-        if (predicate.e())    return edge(predicate.ref(), predicate.label(context), predicate.column());
-        if (predicate.in())   return inV(predicate.ref(), predicate.label(context), predicate.column());
-        if (predicate.out())  return outV(predicate.ref(), predicate.label(context), predicate.column());
+        if (predicate.v())    return vertex(predicate.ref(), predicate.label(context), predicate.column(context));
+        if (predicate.e())    return edge(predicate.ref(), predicate.label(context), predicate.column(context));
+        if (predicate.in())   return inV(predicate.ref(), predicate.label(context), predicate.column(context));
+        if (predicate.out())  return outV(predicate.ref(), predicate.label(context), predicate.column(context));
 
         throw new UnsupportedOperationException();
     }
 
     private String value(MapleDslDialectPredicate<?> predicate) {
+        return value(context, predicate);
+    }
+
+    /**
+     * Returns the rendered value of the predicate, a substitute(e.g. render plan slot, bound parameter placeholder)
+     * registered in the current thread takes precedence over the parameterized value.
+     */
+    static String value(MapleDslConfiguration context, MapleDslDialectPredicate<?> predicate) {
+        final Map<MapleDslDialectPredicate<?>, String> substitutes = VALUE_SUBSTITUTES.get();
+        if (substitutes != null) {
+            final String substitute = substitutes.get(predicate);
+            if (substitute != null) return substitute;
+        }
         return context.parameterized(predicate.value());
     }
 
@@ -58,22 +78,53 @@ public abstract class MapleDslDialectPredicateRender implements AttributeRendere
     public final String toString(MapleDslDialectPredicate predicate, String formatString, Locale locale) {
         if (predicate == null) return NULL;
 
-        final String column = column(predicate);
-        final String value  = value(predicate);
-        final String op     = op(predicate.op());
+        final StringBuilder builder = new StringBuilder(64);
+        render(predicate, builder);
+        return builder.toString();
+    }
 
-        if (!predicate.hasNext()) {
-            if (predicate.hasSuffix) return column + op + value + PAREN_R;
-            return column + op + value;
+    /**
+     * Streams the predicate chain into the builder without rendering the chain recursively, the whole chain is
+     * appended to the same builder in a single pass.
+     * <p></p>
+     * A trailing run of blank predicates is dropped with the connection before it, as the same as the parentheses.
+     *
+     * @param predicate the head of the predicate chain
+     * @param builder the builder to append to
+     */
+    public final void render(@NotNull MapleDslDialectPredicate<?> predicate, @NotNull StringBuilder builder) {
+        // the length to cut the trailing blank predicates back to, or -1 if the tail is not blank.
+        int cut = -1, lastLength = -1;
+        for (MapleDslDialectPredicate<?> cur = predicate;; cur = cur.next) {
+            final int begin = builder.length();
+            builder.append(column(cur)).append(op(cur.op())).append(value(cur));
+
+            if (!isBlank(builder, begin)) cut = -1;
+            else if (cut < 0 && lastLength > -1) cut = lastLength;
+            lastLength = builder.length();
+
+            if (!cur.hasNext()) {
+                if (cur.hasSuffix) {
+                    builder.append(PAREN_R);
+                    cut = -1;
+                }
+                break;
+            }
+
+            final String connection = op(cur.connection);
+            if (cur.hasPrefix) builder.append(connection).append(PAREN_L);
+            else if (cur.hasSuffix) builder.append(PAREN_R).append(connection);
+            else builder.append(connection);
         }
 
-        final String connection = op(predicate.connection);
-        final String nextPredicate = toString(predicate.next, formatString, locale);
+        if (cut > -1) builder.setLength(cut);
+    }
 
-        if (nextPredicate.trim().isEmpty()) return column + op + value;
-        if (predicate.hasPrefix) return column + op + value + connection + PAREN_L + nextPredicate;
-        if (predicate.hasSuffix) return column + op + value + PAREN_R + connection + nextPredicate;
-        else return column + op + value + connection + nextPredicate;
+    private static boolean isBlank(StringBuilder builder, int begin) {
+        for (int i = begin; i < builder.length(); i++) {
+            if (builder.charAt(i) > ' ') return false;
+        }
+        return true;
     }
 
     @Override
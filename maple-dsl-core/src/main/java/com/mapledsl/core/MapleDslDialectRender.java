@@ -1,8 +1,13 @@
 package com.mapledsl.core;
 
+import com.mapledsl.core.condition.wrapper.MapleDslDialectPredicate;
+import com.mapledsl.core.module.MapleDslModule;
 import org.jetbrains.annotations.NotNull;
 import org.stringtemplate.v4.ST;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.function.BiFunction;
 
 /**
@@ -10,7 +15,7 @@ import java.util.function.BiFunction;
  * in a StringTemplate (ST) template with the given arguments.
  */
 enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[], String> {
-    fetchV {
+    fetchV(2, 8, 9) {
         @Override
         ST fill(ST fmt, Object[] args) {
             fmt.add("ref", args[0]);
@@ -26,7 +31,7 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
             return fmt;
         }
     },
-    fetchE {
+    fetchE(2, 8, 9) {
         @Override
         ST fill(ST fmt, Object[] args) {
             fmt.add("ref", args[0]);
@@ -42,7 +47,7 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
             return fmt;
         }
     },
-    matchV {
+    matchV(8, 9) {
         @Override
         ST fill(ST fmt, Object[] args) {
             fmt.add("ref", args[0]);
@@ -61,7 +66,7 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
             return fmt;
         }
     },
-    matchE {
+    matchE(8, 9) {
         @Override
         ST fill(ST fmt, Object[] args) {
             fmt.add("ref", args[0]);
@@ -78,7 +83,7 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
             return fmt;
         }
     },
-    traversal {
+    traversal(2, 19, 20) {
         @Override
         ST fill(ST fmt, Object[] args) {
             fmt.add("step_m", args[0] == null ? 0 : args[0]);
@@ -109,10 +114,76 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
             fmt.add("delete_edge", args[25]);
             return fmt;
         }
+    },
+    insertV(4) {
+        @Override
+        ST fill(ST fmt, Object[] args) {
+            fmt.add("ref", args[0]);
+            fmt.add("tag", args[1]);
+            fmt.add("properties", args[2]);
+            fmt.add("values", args[3]);
+            fmt.add("rows", args[4]);
+            fmt.add("upsert", args[5]);
+            fmt.add("ids", args[6]);
+            return fmt;
+        }
+
+        @Override
+        boolean planned() {
+            return false;
+        }
+    },
+    insertE(4) {
+        @Override
+        ST fill(ST fmt, Object[] args) {
+            fmt.add("ref", args[0]);
+            fmt.add("tag", args[1]);
+            fmt.add("properties", args[2]);
+            fmt.add("values", args[3]);
+            fmt.add("rows", args[4]);
+            fmt.add("upsert", args[5]);
+            fmt.add("ids", args[6]);
+            fmt.add("src", args[7]);
+            fmt.add("dst", args[8]);
+            fmt.add("rank", args[9]);
+            fmt.add("src_tag", args[10]);
+            fmt.add("dst_tag", args[11]);
+            return fmt;
+        }
+
+        @Override
+        boolean planned() {
+            return false;
+        }
     };
 
+    /**
+     * Argument positions holding literal values, e.g. {@code from}, {@code offset} and {@code limit},
+     * which become value slots of the render plan instead of being part of the wrapper shape.
+     */
+    private final int[] slotIndexes;
+
+    MapleDslDialectRender(int... slotIndexes) {
+        this.slotIndexes = slotIndexes;
+    }
+
     abstract ST fill(ST fmt, Object[] args);
 
+    /**
+     * Whether the statement goes through the render plan cache, the bulk statements whose shape is made of
+     * the written values never hit the cache.
+     */
+    boolean planned() {
+        return true;
+    }
+
+    boolean isSlot(int index) {
+        for (int slotIndex : slotIndexes) {
+            if (slotIndex == index) return true;
+        }
+        return false;
+    }
+
     /**
      * Apply a template using the given context and arguments.
      *
@@ -122,22 +193,100 @@ enum MapleDslDialectRender implements BiFunction<MapleDslConfiguration, Object[]
      */
     @Override
     public final String apply(MapleDslConfiguration context, Object[] args) {
-        final @NotNull String templateName = name();
-        final @NotNull ST fmt = context.templateRegistry.borrowTemplate(templateName);
+        final boolean identifierList = context.module.identifierList();
+        final Map<String, Object> boundParameters = MapleDslBoundStatement.BOUND_PARAMETERS.get();
+        if (boundParameters == null) return renderStatement(context, identifierList ? listIdentifiers(args) : args);
+
+        final Map<MapleDslDialectPredicate<?>, String> substitutes = new IdentityHashMap<>();
+        final Object[] boundArgs = args.clone();
+        for (int i = 0; i < boundArgs.length; i++) {
+            if (boundArgs[i] == null) continue;
+            if (isSlot(i)) boundArgs[i] = bindSlot(boundArgs[i], boundParameters, identifierList);
+            else bindPredicates(boundArgs[i], boundParameters, substitutes);
+        }
+
+        final Map<MapleDslDialectPredicate<?>, String> previousSubstitutes = MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.get();
+        if (previousSubstitutes != null) substitutes.putAll(previousSubstitutes);
+        MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.set(substitutes);
         try {
-            return prettyPrint(fill(fmt, args).render());
+            return renderStatement(context, boundArgs);
         } finally {
-            context.templateRegistry.returnTemplate(fmt);
+            if (previousSubstitutes == null) MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.remove();
+            else MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.set(previousSubstitutes);
+        }
+    }
+
+    /**
+     * Render the ids as list literals for the dialect taking the ids as one list, see {@link MapleDslModule#identifierList()}.
+     */
+    private Object[] listIdentifiers(Object[] args) {
+        Object[] ret = args;
+        for (int i = 0; i < args.length; i++) {
+            if (!(args[i] instanceof MapleDslDialectIdentifiers) || !isSlot(i)) continue;
+            if (ret == args) ret = args.clone();
+            ret[i] = ((MapleDslDialectIdentifiers) args[i]).list();
+        }
+        return ret;
+    }
+
+    private static Object bindSlot(Object arg, Map<String, Object> parameters, boolean identifierList) {
+        if (arg instanceof MapleDslDialectIdentifiers) return ((MapleDslDialectIdentifiers) arg).bind(parameters, identifierList);
+        if (arg instanceof MapleDslDialectRows) return ((MapleDslDialectRows) arg).bind(parameters);
+        if (arg instanceof Number) {
+            final String placeholder = MapleDslBoundStatement.placeholder(parameters, arg);
+            return placeholder == null ? arg : placeholder;
+        }
+        return arg;
+    }
+
+    private static void bindPredicates(Object arg, Map<String, Object> parameters, Map<MapleDslDialectPredicate<?>, String> substitutes) {
+        if (arg instanceof MapleDslDialectPredicate) {
+            for (MapleDslDialectPredicate<?> it = (MapleDslDialectPredicate<?>) arg; it != null; it = it.next) {
+                if (substitutes.containsKey(it)) continue;
+                final String placeholder = MapleDslBoundStatement.placeholder(parameters, it.value());
+                if (placeholder != null) substitutes.put(it, placeholder);
+            }
+        } else if (arg instanceof Collection) {
+            for (Object it : (Collection<?>) arg) bindPredicates(it, parameters, substitutes);
+        } else if (arg instanceof Object[]) {
+            for (Object it : (Object[]) arg) bindPredicates(it, parameters, substitutes);
         }
     }
 
     /**
-     * This method takes a string statement and performs a pretty printing operation on it.
+     * Render the statement through the render plan cache if enabled, otherwise through the template.
+     */
+    private String renderStatement(MapleDslConfiguration context, Object[] args) {
+        if (context.renderPlanRegistry != null && planned()) {
+            final String stmt = context.renderPlanRegistry.render(this, args);
+            if (stmt != null) return stmt;
+        }
+
+        return renderTemplate(context, args);
+    }
+
+    /**
+     * Render the template directly, bypassing the render plan cache.
+     *
+     * @param context the MapleDslConfiguration context
+     * @param args the arguments to be passed to the template
+     * @return the result of applying the template
+     */
+    final String renderTemplate(MapleDslConfiguration context, Object[] args) {
+        final @NotNull String templateName = name();
+        final @NotNull ST fmt = context.templateRegistry.fetchTemplate(templateName);
+        return prettyPrint(fill(fmt, args).render());
+    }
+
+    /**
+     * This method takes a string statement and performs a pretty printing operation on it,
+     * the quoted string literals are kept verbatim.
      *
      * @param stmt the string statement to be pretty printed
      * @return the pretty printed string statement
+     * @see MapleDslStatementNormalizer
      */
-    private String prettyPrint(String stmt) {
-        return stmt.trim().replaceAll("\\s{2,}", " ").replaceAll("\\s?,\\s?", ",");
+    String prettyPrint(String stmt) {
+        return MapleDslStatementNormalizer.normalize(stmt);
     }
 }
\ No newline at end of file
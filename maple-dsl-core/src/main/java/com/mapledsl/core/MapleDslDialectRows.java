@@ -0,0 +1,164 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.extension.introspect.BeanDefinition;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+import static com.mapledsl.core.MapleDslDialectRenderHelper.COMMA;
+
+/**
+ * The MapleDslDialectRows holds the raw key and property values of the models being written by a bulk statement.
+ * <p>
+ * The values are read once through the {@link BeanDefinition}, so the key policy strategy applies to the id/src/dst
+ * as the same as the query statements. The dialect either renders every row literally, e.g. the {@code VALUES} clause
+ * of nebula by {@link #literals(String)} and {@link #values()}, or refers the rows as a whole, which renders as
+ * the list of maps literal, e.g. {@code [{id:"p001",props:{name:"bofa"}}]}, and binds as the native parameter
+ * {@code $rows} instead.
+ */
+final class MapleDslDialectRows implements CharSequence {
+    static final String PARAMETER_NAME = "rows";
+    static final String PROPS = "props";
+
+    private final @NotNull MapleDslConfiguration context;
+    private final @NotNull List<String> keys;
+    private final @NotNull List<String> properties;
+    /** every row holds the raw key values followed by the raw property values */
+    private final @NotNull List<Object[]> rows;
+    private String fragment;
+
+    <BEAN> MapleDslDialectRows(@NotNull MapleDslConfiguration context, @NotNull BeanDefinition<BEAN> definition,
+                               @NotNull List<String> keys, @NotNull List<String> properties, @NotNull Collection<? extends BEAN> beans) {
+        this.context = context;
+        this.keys = keys;
+        this.properties = properties;
+        this.rows = new ArrayList<>(beans.size());
+
+        for (BEAN bean : beans) {
+            final Object[] row = new Object[keys.size() + properties.size()];
+            for (int i = 0; i < keys.size(); i++) row[i] = definition.property(bean, keys.get(i));
+            for (int i = 0; i < properties.size(); i++) row[keys.size() + i] = definition.property(bean, properties.get(i));
+            rows.add(row);
+        }
+    }
+
+    /**
+     * @return the property names of the rows, in the order of {@link #values()}.
+     */
+    @NotNull List<String> properties() {
+        return properties;
+    }
+
+    /**
+     * @param key the key name, e.g. id
+     * @return the literal key value of every row, null if the key value of the row is absent, e.g. the edge rank.
+     */
+    @NotNull List<String> literals(@NotNull String key) {
+        final int index = keys.indexOf(key);
+        if (index < 0) throw new IllegalArgumentException("Missing row key " + key);
+
+        final List<String> ret = new ArrayList<>(rows.size());
+        for (Object[] row : rows) ret.add(row[index] == null ? null : context.parameterized(row[index]));
+        return ret;
+    }
+
+    /**
+     * @return the literal property values of every row.
+     */
+    @NotNull List<List<String>> values() {
+        final List<List<String>> ret = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            final List<String> values = new ArrayList<>(properties.size());
+            for (int i = keys.size(); i < row.length; i++) values.add(context.parameterized(row[i]));
+            ret.add(values);
+        }
+        return ret;
+    }
+
+    /**
+     * Bind the rows as a native parameter once the dialect refers them, it keeps the literal fragment
+     * if any value does not have a native parameter representation, e.g. temporal values.
+     *
+     * @param parameters the parameters of the statement being bound
+     * @return the rows placeholder or literal fragment
+     */
+    CharSequence bind(@NotNull Map<String, Object> parameters) {
+        return new CharSequence() {
+            private String placeholder;
+
+            @Override
+            public int length() {
+                return toString().length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                return toString().charAt(index);
+            }
+
+            @Override
+            public @NotNull CharSequence subSequence(int start, int end) {
+                return toString().subSequence(start, end);
+            }
+
+            @Override
+            public @NotNull String toString() {
+                if (placeholder == null) placeholder = bindParameter(parameters);
+                return placeholder;
+            }
+        };
+    }
+
+    private String bindParameter(Map<String, Object> parameters) {
+        final List<Map<String, Object>> parameter = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            final Map<String, Object> rowParameter = new LinkedHashMap<>();
+            final Map<String, Object> propsParameter = new LinkedHashMap<>();
+            for (int i = 0; i < row.length; i++) {
+                final Object value = row[i] == null ? null : MapleDslBoundStatement.parameterized(row[i]);
+                if (row[i] != null && value == null) return toString();
+
+                if (i < keys.size()) rowParameter.put(keys.get(i), value);
+                else propsParameter.put(properties.get(i - keys.size()), value);
+            }
+            rowParameter.put(PROPS, propsParameter);
+            parameter.add(rowParameter);
+        }
+
+        parameters.put(PARAMETER_NAME, parameter);
+        return "$" + PARAMETER_NAME;
+    }
+
+    @Override
+    public int length() {
+        return toString().length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return toString().charAt(index);
+    }
+
+    @Override
+    public @NotNull CharSequence subSequence(int start, int end) {
+        return toString().subSequence(start, end);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        if (fragment == null) {
+            final StringJoiner rowsJoiner = new StringJoiner(COMMA, "[", "]");
+            for (Object[] row : rows) {
+                final StringJoiner rowJoiner = new StringJoiner(COMMA, "{", "}");
+                final StringJoiner propsJoiner = new StringJoiner(COMMA, PROPS + ":{", "}");
+                for (int i = 0; i < row.length; i++) {
+                    if (i < keys.size()) rowJoiner.add(keys.get(i) + ":" + context.parameterized(row[i]));
+                    else propsJoiner.add(properties.get(i - keys.size()) + ":" + context.parameterized(row[i]));
+                }
+                rowsJoiner.add(rowJoiner.add(propsJoiner.toString()).toString());
+            }
+            fragment = rowsJoiner.toString();
+        }
+        return fragment;
+    }
+}
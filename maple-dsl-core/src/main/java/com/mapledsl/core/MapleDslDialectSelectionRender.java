@@ -29,12 +29,31 @@ public abstract class MapleDslDialectSelectionRender implements AttributeRendere
     @Override
     public String toString(MapleDslDialectSelection value, String formatString, Locale locale) {
         if (value == null) return NULL;
-        if (!value.hasNext()) return toSelection(value);
 
-        final String nextSelection = toString(value.next, formatString, locale);
-        if (nextSelection.equals(NULL)) return toSelection(value);
+        final StringBuilder builder = new StringBuilder(64);
+        render(value, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Streams the selection chain into the builder without rendering the chain recursively,
+     * the trailing selections rendered as {@link #NULL} are dropped.
+     *
+     * @param value the head of the selection chain
+     * @param builder the builder to append to
+     */
+    public void render(@NotNull MapleDslDialectSelection<?> value, @NotNull StringBuilder builder) {
+        builder.append(toSelection(value));
+
+        int length = builder.length();
+        for (MapleDslDialectSelection<?> cur = value; cur.hasNext();) {
+            cur = cur.next;
+            final String selection = toSelection(cur);
+            builder.append(COMMA).append(selection);
+            if (!NULL.equals(selection)) length = builder.length();
+        }
 
-        return toSelection(value) + COMMA + nextSelection;
+        builder.setLength(length);
     }
 
     private String toSelection(MapleDslDialectSelection<?> value) {
@@ -47,11 +66,11 @@ public abstract class MapleDslDialectSelectionRender implements AttributeRendere
             throw new UnsupportedOperationException();
         }
 
-        if (value.v())    return vertex(value.ref(), value.label(context), value.columns(), value.aliases());
-        if (value.e())    return edge(value.ref(), value.label(context), value.columns(), value.aliases());
+        if (value.v())    return vertex(value.ref(), value.label(context), value.columns(context), value.aliases(context));
+        if (value.e())    return edge(value.ref(), value.label(context), value.columns(context), value.aliases(context));
 
-        if (value.in())   return inV(value.ref(), value.label(context), value.columns(), value.aliases());
-        if (value.out())  return outV(value.ref(), value.label(context), value.columns(), value.aliases());
+        if (value.in())   return inV(value.ref(), value.label(context), value.columns(context), value.aliases(context));
+        if (value.out())  return outV(value.ref(), value.label(context), value.columns(context), value.aliases(context));
 
         throw new UnsupportedOperationException();
     }
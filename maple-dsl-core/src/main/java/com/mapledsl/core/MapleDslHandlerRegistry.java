@@ -1,12 +1,19 @@
 package com.mapledsl.core;
 
 import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
 import com.mapledsl.core.module.*;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -16,25 +23,23 @@ import static java.util.Objects.requireNonNull;
 
 /**
  * The {@code MapleDslHandlerRegistry} class is responsible for handling the registration of parameter handlers and result handlers in the Maple DSL framework.
+ * <p></p>
+ * The registered handlers are held by an immutable snapshot which is copied on every registration, the dispatch reads
+ * the current snapshot without any lock. The handler resolved for an inbound type, including the supertype matches of
+ * the definition result handlers and the companion result handlers as well as the absent ones, is cached per class by
+ * the snapshot, so that the dispatch scans the registered types only on the first encounter of the inbound type.
  */
 final class MapleDslHandlerRegistry {
-    /**
-     * key: field type, value: parameter handler.
-     */
-    final Map<Class<?>, MapleDslParameterHandler<?>> parameterHandlerMap;
-    /**
-     * row: inbound field type, column: value: result handler.
-     */
-    final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable;
-    final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable;
-    /**
-     * key: inbound field type, value: definition result handler.
-     */
-    final Map<Class<?>, MapleDslDefinitionResultHandler<?>> definitionResultHandlerMap;
+    static final Logger LOG = LoggerFactory.getLogger(MapleDslHandlerRegistry.class);
+
     /**
      * Processed for NULL parameter value
      */
     final MapleDslParameterHandler<Object> nullParameterHandler;
+    /**
+     * The snapshot of the registered handlers, replaced on every registration.
+     */
+    private volatile Handlers handlers;
 
     /**
      * The {@code MapleDslHandlerRegistry} class is responsible for handling the registration of parameter handlers and result handlers in the Maple DSL framework.
@@ -51,11 +56,11 @@ final class MapleDslHandlerRegistry {
                 .map(MapleDslParameterHandlerCollector::nullParameterHandler)
                 .orElseGet(MapleDslParameterHandlerCollector::defaultNullParameterHandler);
 
-        this.parameterHandlerMap = Collections.synchronizedMap(Stream.concat(parameterHandlerCollectorOpt
+        final Map<Class<?>, MapleDslParameterHandler<?>> parameterHandlerMap = Stream.concat(parameterHandlerCollectorOpt
                 .map(MapleDslParameterHandlerCollector::parameterHandlers)
                 .map(Collection::stream)
                 .orElseGet(Stream::empty), MapleDslParameterHandlerCollector.defaultParameterHandlers().stream())
-                .collect(Collectors.toMap(MapleDslParameterHandler::parameterType, Function.identity())));
+                .collect(Collectors.toMap(MapleDslParameterHandler::parameterType, Function.identity()));
 
         final Optional<MapleDslResultHandlerCollector> resultHandlerCollectorOpt = StreamSupport.stream(ServiceLoader.load(MapleDslResultHandlerCollector.class).spliterator(), false)
                 .filter(Objects::nonNull)
@@ -63,24 +68,26 @@ final class MapleDslHandlerRegistry {
                 .findFirst();
 
         //noinspection UnstableApiUsage
-        this.resultHandlerTable = Tables.synchronizedTable(Stream.concat(resultHandlerCollectorOpt
+        final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable = Stream.concat(resultHandlerCollectorOpt
                 .map(MapleDslResultHandlerCollector::resultHandlers)
                 .map(Collection::stream)
                 .orElseGet(Stream::empty), MapleDslResultHandlerCollector.defaultResultHandlers().stream())
-                .collect(Tables.toTable(MapleDslResultHandler::inboundType, MapleDslResultHandler::outboundType, Function.identity(), HashBasedTable::create)));
+                .collect(Tables.toTable(MapleDslResultHandler::inboundType, MapleDslResultHandler::outboundType, Function.identity(), HashBasedTable::create));
 
         //noinspection UnstableApiUsage
-        this.companionResultHandleTable = Tables.synchronizedTable(resultHandlerCollectorOpt
+        final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable = resultHandlerCollectorOpt
                         .map(MapleDslResultHandlerCollector::companionResultHandlers)
                         .map(Collection::stream)
                         .orElseGet(Stream::empty)
-                .collect(Tables.toTable(MapleDslResultHandler::inboundType, MapleDslResultHandler::outboundType, Function.identity(), HashBasedTable::create)));
+                .collect(Tables.toTable(MapleDslResultHandler::inboundType, MapleDslResultHandler::outboundType, Function.identity(), HashBasedTable::create));
 
-        this.definitionResultHandlerMap = Collections.synchronizedMap(Stream.concat(resultHandlerCollectorOpt
+        final Map<Class<?>, MapleDslDefinitionResultHandler<?>> definitionResultHandlerMap = Stream.concat(resultHandlerCollectorOpt
                 .map(MapleDslResultHandlerCollector::definitionResultHandlers)
                 .map(Collection::stream)
                 .orElseGet(Stream::empty), MapleDslResultHandlerCollector.defaultDefinitionResultHandlers().stream())
-                .collect(Collectors.toMap(MapleDslDefinitionResultHandler::inboundType, Function.identity())));
+                .collect(Collectors.toMap(MapleDslDefinitionResultHandler::inboundType, Function.identity()));
+
+        this.handlers = new Handlers(parameterHandlerMap, resultHandlerTable, companionResultHandleTable, definitionResultHandlerMap);
     }
 
     /**
@@ -88,10 +95,14 @@ final class MapleDslHandlerRegistry {
      *
      * @param parameterHandler The parameter handler to be registered.
      */
-    void registerParameterHandler(MapleDslParameterHandler<?> parameterHandler) {
-        requireNonNull(parameterHandler.parameterType(), "parameterType must not be null");
+    synchronized void registerParameterHandler(MapleDslParameterHandler<?> parameterHandler) {
         requireNonNull(parameterHandler, "parameterHandler must not be null");
+        requireNonNull(parameterHandler.parameterType(), "parameterType must not be null");
+
+        final Handlers previous = this.handlers;
+        final Map<Class<?>, MapleDslParameterHandler<?>> parameterHandlerMap = new LinkedHashMap<>(previous.parameterHandlerMap);
         parameterHandlerMap.put(parameterHandler.parameterType(), parameterHandler);
+        this.handlers = new Handlers(parameterHandlerMap, previous.resultHandlerTable, previous.companionResultHandleTable, previous.definitionResultHandlerMap);
     }
 
     /**
@@ -100,9 +111,153 @@ final class MapleDslHandlerRegistry {
      * @param resultHandler The result handler to be registered.
      * @throws NullPointerException if resultHandler.outboundType() or resultHandler are null.
      */
-    void registerResultHandler(MapleDslResultHandler<?, ?> resultHandler) {
-        requireNonNull(resultHandler.outboundType(), "resultType must not be null");
+    synchronized void registerResultHandler(MapleDslResultHandler<?, ?> resultHandler) {
         requireNonNull(resultHandler, "resultHandler must not be null");
+        requireNonNull(resultHandler.outboundType(), "resultType must not be null");
+
+        final Handlers previous = this.handlers;
+        final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable = HashBasedTable.create(previous.resultHandlerTable);
         resultHandlerTable.put(resultHandler.inboundType(), resultHandler.outboundType(), resultHandler);
+        this.handlers = new Handlers(previous.parameterHandlerMap, resultHandlerTable, previous.companionResultHandleTable, previous.definitionResultHandlerMap);
+    }
+
+    /**
+     * @param parameterType the exact type of the parameter
+     * @return the parameter handler of the type, or null if absent.
+     */
+    @Nullable MapleDslParameterHandler<?> parameterHandler(@NotNull Class<?> parameterType) {
+        return handlers.parameterHandlerMap.get(parameterType);
+    }
+
+    /**
+     * @param outboundType the type of the outbound value
+     * @return true if any result handler or companion result handler converts to the type.
+     */
+    boolean handled(@NotNull Class<?> outboundType) {
+        return handlers.handledTypeSet.contains(outboundType);
+    }
+
+    /**
+     * @param inboundType the type of the inbound value
+     * @return the definition result handler of the type or it nearest registered supertype, or null if absent.
+     */
+    @Nullable MapleDslDefinitionResultHandler<?> definitionResultHandler(@NotNull Class<?> inboundType) {
+        return handlers.definitionResultHandlers.get(inboundType).orElse(null);
+    }
+
+    /**
+     * @param inboundType  the type of the inbound value
+     * @param outboundType the type of the outbound value
+     * @return the result handler of the pair, or the companion result handler of the inbound supertype, or null if absent.
+     */
+    @Nullable MapleDslResultHandler<?,?> resultHandler(@NotNull Class<?> inboundType, @NotNull Class<?> outboundType) {
+        return handlers.resultHandlers.get(inboundType).resolve(outboundType);
+    }
+
+    /**
+     * The immutable snapshot of the registered handlers and the handlers resolved from them.
+     */
+    static final class Handlers {
+        /**
+         * key: field type, value: parameter handler.
+         */
+        final Map<Class<?>, MapleDslParameterHandler<?>> parameterHandlerMap;
+        /**
+         * row: inbound field type, column: value: result handler.
+         */
+        final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable;
+        final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable;
+        /**
+         * key: inbound field type, value: definition result handler.
+         */
+        final Map<Class<?>, MapleDslDefinitionResultHandler<?>> definitionResultHandlerMap;
+        /**
+         * The outbound types of the result handlers and the companion result handlers.
+         */
+        final Set<Class<?>> handledTypeSet;
+
+        final ClassValue<Optional<MapleDslDefinitionResultHandler<?>>> definitionResultHandlers = new ClassValue<Optional<MapleDslDefinitionResultHandler<?>>>() {
+            @Override
+            protected Optional<MapleDslDefinitionResultHandler<?>> computeValue(Class<?> inboundType) {
+                final MapleDslDefinitionResultHandler<?> definitionResultHandler = definitionResultHandlerMap.get(inboundType);
+                if (definitionResultHandler != null) return Optional.of(definitionResultHandler);
+
+                LOG.debug("IN:{} does not found it definition result handler, inspect it superclass or superinterface in deeply.", inboundType);
+                for (Map.Entry<Class<?>, MapleDslDefinitionResultHandler<?>> entry : definitionResultHandlerMap.entrySet()) {
+                    if (entry.getKey().isAssignableFrom(inboundType)) return Optional.of(entry.getValue());
+                }
+
+                LOG.warn("IN:{} does not found it definition result handler after deep inspection. ", inboundType);
+                return Optional.empty();
+            }
+        };
+
+        final ClassValue<ResultHandlers> resultHandlers = new ClassValue<ResultHandlers>() {
+            @Override
+            protected ResultHandlers computeValue(Class<?> inboundType) {
+                return new ResultHandlers(inboundType, resultHandlerTable, companionResultHandleTable);
+            }
+        };
+
+        Handlers(Map<Class<?>, MapleDslParameterHandler<?>> parameterHandlerMap,
+                 Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable,
+                 Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable,
+                 Map<Class<?>, MapleDslDefinitionResultHandler<?>> definitionResultHandlerMap) {
+            this.parameterHandlerMap = ImmutableMap.copyOf(parameterHandlerMap);
+            this.resultHandlerTable = ImmutableTable.copyOf(resultHandlerTable);
+            this.companionResultHandleTable = ImmutableTable.copyOf(companionResultHandleTable);
+            this.definitionResultHandlerMap = ImmutableMap.copyOf(definitionResultHandlerMap);
+            this.handledTypeSet = ImmutableSet.<Class<?>>builder()
+                    .addAll(this.resultHandlerTable.columnKeySet())
+                    .addAll(this.companionResultHandleTable.columnKeySet())
+                    .build();
+        }
+
+        /**
+         * The result handlers resolved for an inbound type, key: outbound type.
+         * <p></p>
+         * It is static and holds the tables only, a value referring back to its {@link ClassValue}, e.g. through the
+         * enclosing snapshot, is never released along with the replaced snapshot, see JDK-8136353.
+         */
+        static final class ResultHandlers {
+            private final Class<?> inboundType;
+            private final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable;
+            private final Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable;
+            private final Map<Class<?>, Optional<MapleDslResultHandler<?,?>>> resolvedMap = new ConcurrentHashMap<>();
+
+            ResultHandlers(Class<?> inboundType,
+                           Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> resultHandlerTable,
+                           Table<Class<?>, Class<?>, MapleDslResultHandler<?,?>> companionResultHandleTable) {
+                this.inboundType = inboundType;
+                this.resultHandlerTable = resultHandlerTable;
+                this.companionResultHandleTable = companionResultHandleTable;
+            }
+
+            @Nullable MapleDslResultHandler<?,?> resolve(Class<?> outboundType) {
+                Optional<MapleDslResultHandler<?,?>> resolved = resolvedMap.get(outboundType);
+                if (resolved == null) {
+                    resolved = Optional.ofNullable(compute(outboundType));
+                    resolvedMap.putIfAbsent(outboundType, resolved);
+                }
+
+                return resolved.orElse(null);
+            }
+
+            private MapleDslResultHandler<?,?> compute(Class<?> outboundType) {
+                final MapleDslResultHandler<?,?> resultHandler = resultHandlerTable.get(inboundType, outboundType);
+                if (resultHandler != null) return resultHandler;
+
+                LOG.debug("IN:{},OUT:{} does not found it result handler, scanning through companion_result_handlers.", inboundType, outboundType);
+                for (Class<?> companionResultInboundType : companionResultHandleTable.rowKeySet()) {
+                    if (!companionResultInboundType.isAssignableFrom(inboundType)) continue;
+
+                    final MapleDslResultHandler<?,?> companionResultHandler = companionResultHandleTable.get(companionResultInboundType, outboundType);
+                    if (companionResultHandler != null) return companionResultHandler;
+                }
+
+                LOG.warn("IN:{},OUT:{} does not found it companion result handler.", inboundType, outboundType);
+                return null;
+            }
+        }
     }
-}
\ No newline at end of file
+}
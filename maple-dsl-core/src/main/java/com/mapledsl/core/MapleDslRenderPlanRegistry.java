@@ -0,0 +1,253 @@
+package com.mapledsl.core;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.mapledsl.core.condition.wrapper.MapleDslDialectFunction;
+import com.mapledsl.core.condition.wrapper.MapleDslDialectPredicate;
+import com.mapledsl.core.condition.wrapper.MapleDslDialectSelection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The MapleDslRenderPlanRegistry caches compiled render plans keyed by the shape of the wrapper being rendered.
+ * <p>
+ * A wrapper shape contains everything that decides the statement skeleton, e.g. labels, aliases, selections,
+ * functions, predicate columns and operators, orders and the presence of skip/limit, but none of the literal values.
+ * The first render of a shape goes through the template with slot sentinels in place of the values, the output is
+ * split into literal segments, and every following render of the same shape only splices the current values between
+ * those segments instead of evaluating the template again.
+ * <p>
+ * Literal values are the id fragment ({@code from}), {@code offset}, {@code limit} and every predicate value.
+ */
+final class MapleDslRenderPlanRegistry {
+    static final int DEFAULT_MAXIMUM_SIZE = 512;
+    static final char SLOT_OPEN = '\uE000', SLOT_CLOSE = '\uE001';
+
+    private final @NotNull MapleDslConfiguration context;
+    private final Cache<String, RenderPlan> planCache;
+    private final LongAdder hitCounter = new LongAdder();
+    private final LongAdder missCounter = new LongAdder();
+
+    MapleDslRenderPlanRegistry(@NotNull MapleDslConfiguration context, @Nullable Integer maximumSize) {
+        if (maximumSize != null && maximumSize <= 0) throw new IllegalArgumentException("renderPlanCache.maximumSize must be positive.");
+
+        this.context = context;
+        this.planCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize == null ? DEFAULT_MAXIMUM_SIZE : maximumSize)
+                .build();
+    }
+
+    /**
+     * Render the given arguments through the cached plan of their shape, compile the plan on the first encounter.
+     *
+     * @param render the dialect render of the template
+     * @param args the positional template arguments
+     * @return the rendered statement, or null if the arguments contain a value the shape can not describe
+     */
+    @Nullable String render(@NotNull MapleDslDialectRender render, @NotNull Object[] args) {
+        final StringBuilder shape = new StringBuilder(64).append(render.name());
+        final List<String> values = new ArrayList<>();
+        final Map<MapleDslDialectPredicate<?>, String> predicateSlots = new IdentityHashMap<>();
+        final int[] slotIndexes = new int[args.length];
+        Arrays.fill(slotIndexes, -1);
+
+        for (int i = 0; i < args.length; i++) {
+            shape.append('|');
+            if (args[i] != null && render.isSlot(i)) {
+                shape.append('$');
+                slotIndexes[i] = values.size();
+                values.add(String.valueOf(args[i]));
+                continue;
+            }
+            if (!appendShape(shape, args[i], values, predicateSlots)) return null;
+        }
+
+        final String shapeKey = shape.toString();
+        RenderPlan plan = planCache.getIfPresent(shapeKey);
+        if (plan == null) {
+            missCounter.increment();
+            plan = compile(render, args, slotIndexes, predicateSlots);
+            planCache.put(shapeKey, plan);
+        } else {
+            hitCounter.increment();
+        }
+
+        return plan.apply(values);
+    }
+
+    private RenderPlan compile(MapleDslDialectRender render, Object[] args, int[] slotIndexes, Map<MapleDslDialectPredicate<?>, String> predicateSlots) {
+        final Object[] slotArgs = args.clone();
+        for (int i = 0; i < slotArgs.length; i++) {
+            if (slotIndexes[i] >= 0) slotArgs[i] = sentinel(slotIndexes[i]);
+        }
+
+        // predicate values are rendered as slot sentinels while compiling instead of the parameterized value.
+        final String skeleton;
+        final Map<MapleDslDialectPredicate<?>, String> previousSubstitutes = MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.get();
+        MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.set(predicateSlots);
+        try {
+            skeleton = render.renderTemplate(context, slotArgs);
+        } finally {
+            if (previousSubstitutes == null) MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.remove();
+            else MapleDslDialectPredicateRender.VALUE_SUBSTITUTES.set(previousSubstitutes);
+        }
+
+        final List<String> segments = new ArrayList<>();
+        final List<Integer> slots = new ArrayList<>();
+        int segmentStart = 0;
+        for (int i = 0; i < skeleton.length(); i++) {
+            if (skeleton.charAt(i) != SLOT_OPEN) continue;
+            final int slotEnd = skeleton.indexOf(SLOT_CLOSE, i);
+            segments.add(skeleton.substring(segmentStart, i));
+            slots.add(Integer.parseInt(skeleton.substring(i + 1, slotEnd)));
+            segmentStart = slotEnd + 1;
+            i = slotEnd;
+        }
+        segments.add(skeleton.substring(segmentStart));
+
+        if (LOG.isDebugEnabled()) LOG.debug("Compiled render plan:{} with {} slots.", render.name(), slots.size());
+        return new RenderPlan(segments.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(), render);
+    }
+
+    /**
+     * Append the shape descriptor of the given argument, literal values met on the way are collected as slots.
+     *
+     * @return false if the argument can not be described by shape.
+     */
+    private boolean appendShape(StringBuilder shape, Object arg, List<String> values, Map<MapleDslDialectPredicate<?>, String> predicateSlots) {
+        if (arg == null) {
+            shape.append('~');
+            return true;
+        }
+        if (arg instanceof CharSequence) {
+            final String text = arg.toString();
+            shape.append('s').append(text.length()).append(':').append(text);
+            return true;
+        }
+        if (arg instanceof Number || arg instanceof Boolean || arg instanceof Enum) {
+            shape.append('n').append(arg);
+            return true;
+        }
+        if (arg instanceof Class) {
+            shape.append('c').append(((Class<?>) arg).getName());
+            return true;
+        }
+        if (arg instanceof MapleDslDialectSelection) {
+            for (MapleDslDialectSelection<?> it = (MapleDslDialectSelection<?>) arg; it != null; it = it.next) {
+                shape.append("S(");
+                appendBase(shape, it.ref(), it.label(context), it.v(), it.e(), it.in(), it.out());
+                if (it.isAllPresent()) shape.append('*');
+                else shape.append(Arrays.toString(it.columns(context))).append(Arrays.toString(it.aliases(context)));
+                shape.append(')');
+            }
+            return true;
+        }
+        if (arg instanceof MapleDslDialectFunction) {
+            for (MapleDslDialectFunction<?> it = (MapleDslDialectFunction<?>) arg; it != null; it = it.next) {
+                shape.append("F(");
+                appendBase(shape, it.ref(), it.label(context), it.v(), it.e(), it.in(), it.out());
+                shape.append(it.func()).append(',').append(it.column(context)).append(',').append(it.alias()).append(')');
+            }
+            return true;
+        }
+        if (arg instanceof MapleDslDialectPredicate) {
+            for (MapleDslDialectPredicate<?> it = (MapleDslDialectPredicate<?>) arg; it != null; it = it.next) {
+                shape.append("P(");
+                appendBase(shape, it.ref(), it.label(context), it.v(), it.e(), it.in(), it.out());
+                shape.append(it.column(context)).append(',').append(it.op()).append(',').append(it.connection)
+                        .append(it.hasPrefix ? '(' : '-').append(it.hasSuffix ? ')' : '-').append(')');
+
+                if (!predicateSlots.containsKey(it)) {
+                    predicateSlots.put(it, sentinel(values.size()));
+                    values.add(MapleDslDialectPredicateRender.value(context, it));
+                }
+            }
+            return true;
+        }
+        if (arg instanceof Object[]) {
+            return appendShape(shape, Arrays.asList((Object[]) arg), values, predicateSlots);
+        }
+        if (arg instanceof Collection) {
+            shape.append('[');
+            for (Object it : (Collection<?>) arg) {
+                if (!appendShape(shape, it, values, predicateSlots)) return false;
+                shape.append(';');
+            }
+            shape.append(']');
+            return true;
+        }
+
+        return false;
+    }
+
+    private static void appendBase(StringBuilder shape, String ref, String label, boolean v, boolean e, boolean in, boolean out) {
+        shape.append(ref).append(',').append(label).append(',')
+                .append(v ? 'v' : '-').append(e ? 'e' : '-').append(in ? 'i' : '-').append(out ? 'o' : '-').append(',');
+    }
+
+    private static String sentinel(int slot) {
+        return SLOT_OPEN + Integer.toString(slot) + SLOT_CLOSE;
+    }
+
+    long hitCount() {
+        return hitCounter.sum();
+    }
+
+    long missCount() {
+        return missCounter.sum();
+    }
+
+    long size() {
+        return planCache.size();
+    }
+
+    /**
+     * Literal segments interleaved with value slots, {@code segments.length == slots.length + 1}.
+     */
+    static final class RenderPlan {
+        final String[] segments;
+        final int[] slots;
+        final MapleDslDialectRender render;
+
+        RenderPlan(String[] segments, int[] slots, MapleDslDialectRender render) {
+            this.segments = segments;
+            this.slots = slots;
+            this.render = render;
+        }
+
+        String apply(List<String> values) {
+            int length = 0;
+            boolean whitespace = false;
+            for (String segment : segments) length += segment.length();
+            for (int slot : slots) {
+                final String value = values.get(slot);
+                length += value.length();
+                whitespace |= containsWhitespace(value);
+            }
+
+            final StringBuilder builder = new StringBuilder(length);
+            for (int i = 0; i < slots.length; i++) {
+                builder.append(segments[i]).append(values.get(slots[i]));
+            }
+            builder.append(segments[slots.length]);
+
+            // values carrying whitespace were normalized together with the template output before,
+            // keep the statement identical to the template path.
+            return whitespace ? render.prettyPrint(builder.toString()) : builder.toString();
+        }
+
+        private static boolean containsWhitespace(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (Character.isWhitespace(value.charAt(i))) return true;
+            }
+            return false;
+        }
+    }
+
+    static final Logger LOG = LoggerFactory.getLogger(MapleDslRenderPlanRegistry.class);
+}
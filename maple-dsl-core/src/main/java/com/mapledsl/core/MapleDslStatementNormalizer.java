@@ -0,0 +1,115 @@
+package com.mapledsl.core;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The MapleDslStatementNormalizer normalizes the whitespaces and commas of a rendered statement in a single pass,
+ * as the same as {@code trim().replaceAll("\\s{2,}", " ").replaceAll("\\s?,\\s?", ",")} but without compiling any
+ * pattern or allocating the intermediate strings:
+ * <ul>
+ *     <li>the leading and trailing whitespaces are trimmed.</li>
+ *     <li>a run of two or more whitespaces collapses to a single space, a single whitespace is kept as it is.</li>
+ *     <li>the whitespaces around a comma are dropped.</li>
+ * </ul>
+ * Unlike the regular expressions, the quoted string literals, e.g. {@code "bofa,  deez"} or {@code 'bofa'}, are copied
+ * verbatim with their backslash escapes, so that the written values are never rewritten.
+ * <p></p>
+ * The statement is normalized into a reusable buffer of the calling thread, and returned as it is if nothing changed.
+ */
+public final class MapleDslStatementNormalizer {
+    /**
+     * The statements longer than it are normalized into a dedicated buffer, instead of growing the buffer of the thread.
+     */
+    static final int MAX_BUFFERED_LENGTH = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private MapleDslStatementNormalizer() {
+    }
+
+    /**
+     * @param stmt the rendered statement
+     * @return the normalized statement, the same instance if it was normalized already
+     */
+    public static @NotNull String normalize(@NotNull String stmt) {
+        int begin = 0, end = stmt.length();
+        while (begin < end && stmt.charAt(begin) <= ' ') begin++;
+        while (end > begin && stmt.charAt(end - 1) <= ' ') end--;
+
+        final StringBuilder buffer;
+        if (end - begin > MAX_BUFFERED_LENGTH) buffer = new StringBuilder(end - begin);
+        else {
+            buffer = BUFFER.get();
+            buffer.setLength(0);
+        }
+
+        final boolean changed = normalize(stmt, begin, end, buffer);
+        return changed || begin > 0 || end < stmt.length() ? buffer.toString() : stmt;
+    }
+
+    /**
+     * @return true if any character has been dropped or replaced
+     */
+    private static boolean normalize(String stmt, int begin, int end, StringBuilder buffer) {
+        boolean changed = false;
+        // the whitespace run pending before the next character, its length and its first character
+        int pending = 0;
+        char pendingChar = ' ';
+        // the whitespace run following a comma is dropped
+        boolean afterComma = false;
+
+        for (int i = begin; i < end; i++) {
+            final char c = stmt.charAt(i);
+            if (isWhitespace(c)) {
+                if (pending++ == 0) pendingChar = c;
+                continue;
+            }
+
+            if (c == ',') {
+                changed |= pending > 0;
+                buffer.append(c);
+            } else {
+                if (pending > 0 && afterComma) changed = true;
+                else if (pending == 1) buffer.append(pendingChar);
+                else if (pending > 1) {
+                    buffer.append(' ');
+                    changed = true;
+                }
+
+                if (c == '"' || c == '\'') i = quoted(stmt, i, end, buffer);
+                else buffer.append(c);
+            }
+
+            pending = 0;
+            afterComma = c == ',';
+        }
+
+        return changed;
+    }
+
+    /**
+     * Copy the quoted string literal starting at the given quote verbatim.
+     *
+     * @return the index of the closing quote, or the last index if the literal is not closed.
+     */
+    private static int quoted(String stmt, int quoteIndex, int end, StringBuilder buffer) {
+        final char quote = stmt.charAt(quoteIndex);
+        int i = quoteIndex + 1;
+        while (i < end) {
+            final char c = stmt.charAt(i);
+            if (c == '\\') i += 2;
+            else if (c == quote) break;
+            else i++;
+        }
+
+        final int closeIndex = Math.min(i, end - 1);
+        buffer.append(stmt, quoteIndex, closeIndex + 1);
+        return closeIndex;
+    }
+
+    /**
+     * @return true if the character matches the {@code \s} of the regular expressions.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -4,22 +4,15 @@ import com.mapledsl.core.condition.wrapper.MapleDslDialectFunction;
 import com.mapledsl.core.condition.wrapper.MapleDslDialectPredicate;
 import com.mapledsl.core.condition.wrapper.MapleDslDialectSelection;
 import com.mapledsl.core.exception.MapleDslBindingException;
-import com.mapledsl.core.exception.MapleDslException;
-import com.mapledsl.core.exception.MapleDslExecutionException;
-import org.apache.commons.pool2.BasePooledObjectFactory;
-import org.apache.commons.pool2.PooledObject;
-import org.apache.commons.pool2.impl.DefaultPooledObject;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
+import org.stringtemplate.v4.AttributeRenderer;
+import org.stringtemplate.v4.ModelAdaptor;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
 import org.stringtemplate.v4.compiler.CompiledST;
 
-import java.util.Objects;
-import java.util.Properties;
-import java.util.ServiceLoader;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -28,15 +21,13 @@ import static java.lang.String.format;
 /**
  * The MapleDslTemplateRegistry class is responsible for managing the template registry for the Maple DSL.
  * <p></p>
- * It provides methods for borrowing and returning template objects, as well as initializing the template pool.
+ * It provides methods for fetching template instances of the dialect.
  * <p></p>
- * The template registry is implemented as a GenericObjectPool, which provides pooling functionality for the STGroup template objects.
+ * Every dialect template is compiled exactly once per configuration into an immutable {@link CompiledST}
+ * held by a frozen template group, every thread renders its own {@link ST} instance of the shared compiled template,
+ * so that fetching a template neither recompiles anything nor contends on a shared pool.
  */
 final class MapleDslTemplateRegistry {
-    static final int DEFAULT_TEMPLATE_GROUP_POOL_MAX_TOTAL = Runtime.getRuntime().availableProcessors() * 5;
-    static final int DEFAULT_TEMPLATE_GROUP_POOL_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
-    static final int DEFAULT_TEMPLATE_GROUP_POOL_MIN_IDLE = GenericObjectPoolConfig.DEFAULT_MIN_IDLE;
-
     /**
      * The MapleDslModelAdaptor class is responsible for adapting model objects to the Maple DSL.
      * <p></p>
@@ -70,9 +61,10 @@ final class MapleDslTemplateRegistry {
      */
     final MapleDslDialectPredicateRender predicateRender;
     /**
-     * The templateGroup variable represents a generic object pool that holds instances of the STGroup class.
+     * The templateGroup variable holds every dialect template compiled once, it is frozen after initialization
+     * and shared by every rendering thread, each render only creates its own {@link ST} instance.
      */
-    final GenericObjectPool<STGroup> templateGroup;
+    final CompiledSTGroup templateGroup;
     /**
      * The templateProperties variable holds the properties that are used for configuring a template.
      * This variable is of type Properties, which is a subclass of Hashtable<Object,Object>.
@@ -81,34 +73,8 @@ final class MapleDslTemplateRegistry {
      */
     final Properties templateProperties;
 
-    MapleDslTemplateRegistry(MapleDslConfiguration context, Integer maxTotal, Integer maxIdle, Integer minIdle) {
-        if (minIdle == null) minIdle = DEFAULT_TEMPLATE_GROUP_POOL_MIN_IDLE;
-        if (minIdle < DEFAULT_TEMPLATE_GROUP_POOL_MIN_IDLE) {
-            throw new IllegalArgumentException("TemplatePoolConfig#minIdle must not be negative.");
-        }
-
-        if (maxIdle == null) maxIdle = DEFAULT_TEMPLATE_GROUP_POOL_MAX_IDLE;
-        if (maxIdle < DEFAULT_TEMPLATE_GROUP_POOL_MAX_IDLE) {
-            throw new IllegalArgumentException("TemplatePoolConfig#maxIdle must be greater than `Core * 2`, it will occur thread-safe situation.");
-        }
-
-        if (maxIdle < minIdle) {
-            throw new IllegalArgumentException("TemplatePoolConfig#maxIdle must be greater than `minIdle`.");
-        }
-
-        if (maxTotal == null) maxTotal = DEFAULT_TEMPLATE_GROUP_POOL_MAX_TOTAL;
-        if (maxTotal < maxIdle) {
-            throw new IllegalArgumentException("TemplatePoolConfig#maxTotal must be greater than `maxIdle`.");
-        }
-
-        final STGroupPooledObjectFactory templateGroupPooledObjectFactory = new STGroupPooledObjectFactory();
-        final GenericObjectPoolConfig<STGroup> genericObjectPoolConfig = new GenericObjectPoolConfig<>();
-        genericObjectPoolConfig.setMaxTotal(maxTotal);
-        genericObjectPoolConfig.setMaxIdle(maxIdle);
-        genericObjectPoolConfig.setMinIdle(minIdle);
-
+    MapleDslTemplateRegistry(MapleDslConfiguration context) {
         this.templateProperties = context.module().dialectProperties(context);
-        this.templateGroup = new GenericObjectPool<>(templateGroupPooledObjectFactory, genericObjectPoolConfig);
 
         this.modelAdaptor = new MapleDslModelAdaptor(context);
         this.clazzRender = new MapleDslClazzRender().bind(context);
@@ -131,83 +97,90 @@ final class MapleDslTemplateRegistry {
                 .findFirst()
                 .orElseThrow(() -> new MapleDslBindingException("predicate renderer not found."));
 
-        try {
-            templateGroup.preparePool();
-        } catch (Exception e) {
-            throw new MapleDslExecutionException("templateGroup warmup error", e);
-        }
+        this.templateGroup = createTemplateGroup();
     }
 
-    class STGroupPooledObjectFactory extends BasePooledObjectFactory<STGroup> {
-        @Override
-        public STGroup create() {
-            final STGroup templateGroup = new STGroup();
-            templateGroup.registerModelAdaptor(Object.class, modelAdaptor);
-            templateGroup.registerRenderer(Class.class, clazzRender);
-            templateGroup.registerRenderer(MapleDslDialectSelection.class, selectionRender);
-            templateGroup.registerRenderer(MapleDslDialectFunction.class, functionRender);
-            templateGroup.registerRenderer(MapleDslDialectPredicate.class, predicateRender);
-
-            for (String templateName : templateProperties.stringPropertyNames()) {
-                final String template = templateProperties.getProperty(templateName);
-                final CompiledST compiledST = templateGroup.compile(null, null, null, template, null);
-                templateName = inspect(templateName);
-                compiledST.hasFormalArgs = false;
-                compiledST.name = templateName;
-                compiledST.defineImplicitlyDefinedTemplates(templateGroup);
-                templateGroup.rawDefineTemplate(templateName, compiledST, null);
-            }
+    /**
+     * Creates a template group with the renderers and model adaptor registered, then compiles every dialect template
+     * into it. The group is the native group of its compiled templates, which is where the interpreter looks up
+     * embedded templates, renderers and model adaptors during rendering.
+     *
+     * @return the template group holding the compiled templates
+     */
+    CompiledSTGroup createTemplateGroup() {
+        final CompiledSTGroup templateGroup = new CompiledSTGroup();
+        templateGroup.registerModelAdaptor(Object.class, modelAdaptor);
+        templateGroup.registerRenderer(Class.class, clazzRender);
+        templateGroup.registerRenderer(MapleDslDialectSelection.class, selectionRender);
+        templateGroup.registerRenderer(MapleDslDialectFunction.class, functionRender);
+        templateGroup.registerRenderer(MapleDslDialectPredicate.class, predicateRender);
+
+        for (String templateName : templateProperties.stringPropertyNames()) {
+            final String template = templateProperties.getProperty(templateName);
+            final CompiledST compiledST = templateGroup.compile(null, null, null, template, null);
+            templateName = inspect(templateName);
+            compiledST.hasFormalArgs = false;
+            compiledST.name = templateName;
+            compiledST.defineImplicitlyDefinedTemplates(templateGroup);
+            templateGroup.rawDefineTemplate(templateName, compiledST, null);
+        }
+
+        return templateGroup.freeze();
+    }
 
-            return templateGroup;
+    /**
+     * The CompiledSTGroup is an STGroup which is read-only once frozen, so that it can be shared by every thread.
+     * <p></p>
+     * The STGroup guards its template table, dictionaries, renderers and model adaptors with synchronized maps,
+     * freezing swaps the tables to concurrent ones and memorizes the renderer/adaptor resolution per type,
+     * every lookup while rendering is lock-free afterwards.
+     */
+    static final class CompiledSTGroup extends STGroup {
+        private static final Optional<AttributeRenderer<?>> NO_RENDERER = Optional.empty();
+        private final Map<Class<?>, Optional<AttributeRenderer<?>>> rendererCache = new ConcurrentHashMap<>();
+        private final Map<Class<?>, ModelAdaptor<?>> adaptorCache = new ConcurrentHashMap<>();
+
+        CompiledSTGroup freeze() {
+            this.templates = new ConcurrentHashMap<>(templates);
+            this.dictionaries = new ConcurrentHashMap<>(dictionaries);
+            return this;
         }
 
         @Override
-        public PooledObject<STGroup> wrap(STGroup stGroup) {
-            return new DefaultPooledObject<>(stGroup);
+        @SuppressWarnings("unchecked")
+        public <T> AttributeRenderer<? super T> getAttributeRenderer(Class<T> attributeType) {
+            Optional<AttributeRenderer<?>> renderer = rendererCache.get(attributeType);
+            if (renderer == null) {
+                final AttributeRenderer<?> resolvedRenderer = super.getAttributeRenderer(attributeType);
+                renderer = resolvedRenderer == null ? NO_RENDERER : Optional.of(resolvedRenderer);
+                rendererCache.put(attributeType, renderer);
+            }
+            return (AttributeRenderer<? super T>) renderer.orElse(null);
         }
 
         @Override
-        public void destroyObject(PooledObject<STGroup> p) {
-            STGroup stGroup = p.getObject();
-            if (stGroup != null) stGroup.unload();
+        @SuppressWarnings("unchecked")
+        public <T> ModelAdaptor<? super T> getModelAdaptor(Class<T> attributeType) {
+            ModelAdaptor<?> adaptor = adaptorCache.get(attributeType);
+            if (adaptor == null) {
+                adaptor = super.getModelAdaptor(attributeType);
+                if (adaptor != null) adaptorCache.put(attributeType, adaptor);
+            }
+            return (ModelAdaptor<? super T>) adaptor;
         }
     }
 
     /**
-     * Retrieves a template from the template group with the specified name.
+     * Retrieves a new instance of the compiled template with the specified name.
      *
      * @param templateName the name of the template to retrieve
      * @return the retrieved template as an instance of {@link ST}
-     * @throws MapleDslException if an error occurs during template retrieval
      * @throws MapleDslBindingException if the dialect template fetch error occurs
      */
-    @NotNull ST borrowTemplate(String templateName) {
-        try {
-            final String inspectedTemplateName = inspect(templateName);
-            final STGroup stGroup = templateGroup.borrowObject();
-            final ST fmt = stGroup.getInstanceOf(inspectedTemplateName);
-            if (fmt == null) throw new MapleDslBindingException("dialect template fetch error.");
-            return fmt;
-        } catch (MapleDslException e) {
-            throw e;
-        } catch (Exception cause) {
-            throw new MapleDslBindingException(format("Fetch template:%s failed", templateName), cause);
-        }
-    }
-
-    /**
-     * Returns a template to the template group.
-     *
-     * @param st the template to return
-     */
-    void returnTemplate(@Nullable ST st) {
-        if (st == null) return;
-        if (st.groupThatCreatedThisInstance == null) return;
-        try {
-            templateGroup.returnObject(st.groupThatCreatedThisInstance);
-        } catch (Exception cause) {
-            throw new MapleDslBindingException("DialectRender return st failed", cause);
-        }
+    @NotNull ST fetchTemplate(String templateName) {
+        final ST fmt = templateGroup.getInstanceOf(inspect(templateName));
+        if (fmt == null) throw new MapleDslBindingException(format("Fetch template:%s failed", templateName));
+        return fmt;
     }
 
     private String inspect(String templateName) {
@@ -0,0 +1,91 @@
+package com.mapledsl.core;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * The MapleDslTypeKind classifies a class by whether it may have a bean definition, it is computed once per class.
+ * <p></p>
+ * The decode path consults the classification before any bean definition lookup,
+ * so that decoding scalar, collection or other JDK values never raises an exception.
+ * The classes converted by a registered result handler are {@link #HANDLED}, which depends on the configuration,
+ * see {@link #of(Class, MapleDslHandlerRegistry)}.
+ */
+enum MapleDslTypeKind {
+    BEAN(null),
+    JDK("initialization lookup for class %s is not supported."),
+    HANDLED("Class %s is converted by result handler, it does not have bean definition."),
+    INTERFACE("Interface does not have bean definition."),
+    PRIMITIVE("Primitive does not have bean definition."),
+    ARRAY("Array does not have bean definition."),
+    NUMBER("Number does not have bean definition."),
+    CHAR_SEQUENCE("CharSequence does not have bean definition."),
+    BOOLEAN("Boolean does not have bean definition."),
+    COLLECTION("Collection does not have bean definition."),
+    MAP("Map does not have bean definition.");
+
+    static final ClassValue<MapleDslTypeKind> TYPE_KIND_CACHE = new ClassValue<MapleDslTypeKind>() {
+        @Override
+        protected MapleDslTypeKind computeValue(Class<?> type) {
+            return classify(type);
+        }
+    };
+
+    private final String reason;
+
+    MapleDslTypeKind(String reason) {
+        this.reason = reason;
+    }
+
+    /**
+     * Retrieves the cached classification of the given class.
+     *
+     * @param clazz the class to classify
+     * @return the classification of the class
+     */
+    static @NotNull MapleDslTypeKind of(@NotNull Class<?> clazz) {
+        return TYPE_KIND_CACHE.get(clazz);
+    }
+
+    /**
+     * Retrieves the classification of the given class in the configuration of the handler registry,
+     * the bean class converted by any registered result handler is classified as {@link #HANDLED}.
+     *
+     * @param clazz the class to classify
+     * @param handlerRegistry the handler registry of the configuration
+     * @return the classification of the class
+     */
+    static @NotNull MapleDslTypeKind of(@NotNull Class<?> clazz, @NotNull MapleDslHandlerRegistry handlerRegistry) {
+        final MapleDslTypeKind typeKind = TYPE_KIND_CACHE.get(clazz);
+        return typeKind.isBean() && handlerRegistry.handled(clazz) ? HANDLED : typeKind;
+    }
+
+    boolean isBean() {
+        return this == BEAN;
+    }
+
+    /**
+     * Describes why the class of this kind does not have bean definition.
+     *
+     * @param clazz the class of this kind
+     * @return the reason, or null if the class may have bean definition
+     */
+    String reason(@NotNull Class<?> clazz) {
+        return this == JDK || this == HANDLED ? String.format(reason, clazz.getName()) : reason;
+    }
+
+    private static MapleDslTypeKind classify(Class<?> clazz) {
+        if (clazz.getName().startsWith("java.") || clazz.getName().startsWith("sun.misc.")) return JDK;
+        if (clazz.isInterface()) return INTERFACE;
+        if (clazz.isPrimitive()) return PRIMITIVE;
+        if (clazz.isArray()) return ARRAY;
+        if (Number.class.isAssignableFrom(clazz)) return NUMBER;
+        if (CharSequence.class.isAssignableFrom(clazz)) return CHAR_SEQUENCE;
+        if (Boolean.class.isAssignableFrom(clazz)) return BOOLEAN;
+        if (Collection.class.isAssignableFrom(clazz)) return COLLECTION;
+        if (Map.class.isAssignableFrom(clazz)) return MAP;
+        return BEAN;
+    }
+}
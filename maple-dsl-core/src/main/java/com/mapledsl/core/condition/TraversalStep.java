@@ -1,6 +1,9 @@
 package com.mapledsl.core.condition;
 
+import com.mapledsl.core.MapleDslContinuation;
+import com.mapledsl.core.extension.func.SerializableFunction;
 import com.mapledsl.core.model.Model;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.function.Consumer;
 
@@ -46,5 +49,29 @@ public interface TraversalStep extends Traversal {
 
     interface Step<M extends Model<?>> extends Condition<M, Step<M>>, Query<M> {
         Query<M> selectAll();
+
+        /**
+         * Seeks the rows after the continuation in the ascending order of the column, see {@link MapleDslContinuation}.
+         *
+         * @param column the unique sort key column
+         * @param continuation the continuation of the previous page, or null for the first page
+         * @return the current ref of the step
+         */
+        Step<M> seek(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation);
+        Step<M> seek(String column, @Nullable MapleDslContinuation continuation);
+        Step<M> seekDesc(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation);
+        Step<M> seekDesc(String column, @Nullable MapleDslContinuation continuation);
+
+        /**
+         * Seeks the rows after the continuation in the ascending order of the column and then the id, see {@link MapleDslContinuation}.
+         *
+         * @param column the sort key column, whose tie is broken by the id
+         * @param continuation the continuation of the previous page carrying the last id, or null for the first page
+         * @return the current ref of the step
+         */
+        Step<M> seekWithId(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation);
+        Step<M> seekWithId(String column, @Nullable MapleDslContinuation continuation);
+        Step<M> seekDescWithId(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation);
+        Step<M> seekDescWithId(String column, @Nullable MapleDslContinuation continuation);
     }
 }
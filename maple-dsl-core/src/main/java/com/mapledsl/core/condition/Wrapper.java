@@ -1,5 +1,6 @@
 package com.mapledsl.core.condition;
 
+import com.mapledsl.core.MapleDslBoundStatement;
 import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.exception.MapleDslException;
 import com.mapledsl.core.model.Model;
@@ -20,6 +21,20 @@ public interface Wrapper<M extends Model<?>> extends WrapperConstants {
         return render(MapleDslConfiguration.primaryConfiguration());
     }
 
+    /**
+     * Render the statement with its literal values bound as native parameters.
+     *
+     * @param context the configuration to render with
+     * @return the statement with {@code $p0}, {@code $p1}... placeholders and its parameters
+     */
+    default MapleDslBoundStatement bind(MapleDslConfiguration context) {
+        return MapleDslBoundStatement.bind(this, context);
+    }
+
+    default MapleDslBoundStatement bind() throws MapleDslException {
+        return bind(MapleDslConfiguration.primaryConfiguration());
+    }
+
     interface UnsupportedWrapper<M extends Model<?>> extends Wrapper<M> {
         @Override
         default String render(MapleDslConfiguration context) {
@@ -37,6 +37,13 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
         tail = tail.next;
     }
 
+    /**
+     * Compares the column, either the name or the property lambda, with a value of any comparable type, e.g. the string key of the keyset pagination.
+     */
+    void compare(@NotNull Object column, @NotNull OP op, @NotNull Object value) {
+        next(new MapleDslDialectPredicate<>(column, op, value));
+    }
+
     @Override
     public ConditionWrapper<M> or() {
         connection.set(OP.OR);
@@ -82,7 +89,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public ConditionWrapper<M> eq(SerializableFunction<M, ?> column, Object value) {
         requireNonNull(column);
-        return eq(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.EQ, value));
+        return this;
     }
 
     @Override
@@ -107,7 +115,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public ConditionWrapper<M> ne(SerializableFunction<M, ?> column, Object value) {
         requireNonNull(column);
-        return ne(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.NE, value));
+        return this;
     }
 
     @Override
@@ -132,7 +141,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends Number> ConditionWrapper<M> gt(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return gt(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.GT, value));
+        return this;
     }
 
     @Override
@@ -157,7 +167,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends Number> ConditionWrapper<M> ge(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return ge(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.GE, value));
+        return this;
     }
 
     @Override
@@ -182,7 +193,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends Number> ConditionWrapper<M> lt(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return lt(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.LT, value));
+        return this;
     }
 
     @Override
@@ -207,7 +219,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends Number> ConditionWrapper<M> le(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return le(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.LE, value));
+        return this;
     }
 
     @Override
@@ -232,7 +245,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public ConditionWrapper<M> in(SerializableFunction<M, ?> column, Collection<?> value) {
         requireNonNull(column);
-        return in(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.IN, value));
+        return this;
     }
 
     @Override
@@ -257,7 +271,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends String> ConditionWrapper<M> contains(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return contains(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.CONTAINS, value));
+        return this;
     }
 
     @Override
@@ -282,7 +297,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends String> ConditionWrapper<M> startsWith(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return startsWith(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.STARTS_WITH, value));
+        return this;
     }
 
     @Override
@@ -307,7 +323,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends String> ConditionWrapper<M> notStartsWith(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return notStartsWith(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.NOT_STARTS_WITH, value));
+        return this;
     }
 
     @Override
@@ -332,7 +349,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends String> ConditionWrapper<M> endsWith(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return endsWith(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.ENDS_WITH, value));
+        return this;
     }
 
     @Override
@@ -357,7 +375,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public <R extends String> ConditionWrapper<M> notEndsWith(SerializableFunction<M, R> column, R value) {
         requireNonNull(column);
-        return notEndsWith(column.asText(), value);
+        next(new MapleDslDialectPredicate<>(column, OP.NOT_ENDS_WITH, value));
+        return this;
     }
 
     @Override
@@ -395,7 +414,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public ConditionWrapper<M> isNull(SerializableFunction<M, ?> column) {
         requireNonNull(column);
-        return isNull(column.asText());
+        next(new MapleDslDialectPredicate<>(column, OP.ISNULL));
+        return this;
     }
 
     @Override
@@ -420,7 +440,8 @@ public class ConditionWrapper<M extends Model<?>> implements Condition.Unary<M>,
     @Override
     public ConditionWrapper<M> notNull(SerializableFunction<M, ?> column) {
         requireNonNull(column);
-        return notNull(column.asText());
+        next(new MapleDslDialectPredicate<>(column, OP.NOT_NULL));
+        return this;
     }
 
     @Override
@@ -1,11 +1,14 @@
 package com.mapledsl.core.condition.wrapper;
 
+import com.mapledsl.core.MapleDslContinuation;
 import com.mapledsl.core.condition.Condition;
 import com.mapledsl.core.condition.Query;
 import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.condition.common.OP;
 import com.mapledsl.core.extension.func.SerializableFunction;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.Serializable;
 import java.util.Collection;
@@ -41,6 +44,94 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
 
     protected abstract Children instance();
 
+    /**
+     * Seeks the rows after the continuation in the ascending order of the column, the keyset pagination which never
+     * skips the previous rows, so that every page costs the same. The page size is specified by {@code limit}.
+     * <p>
+     * The column is ordered after the selections are done, under its selected alias or shadow selected otherwise,
+     * and it must be the only ordering, as the rows are seeked by it alone.
+     *
+     * @param column the unique sort key column
+     * @param continuation the continuation of the previous page, or null for the first page
+     * @return the current ref of the wrapper
+     * @see MapleDslContinuation
+     */
+    public final Children seek(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation) {
+        requireNonNull(column);
+        return seek(column, continuation, true, false);
+    }
+
+    public final Children seek(String column, @Nullable MapleDslContinuation continuation) {
+        return seek(column, continuation, true, false);
+    }
+
+    /**
+     * Seeks the rows after the continuation in the descending order of the column.
+     *
+     * @see #seek(SerializableFunction, MapleDslContinuation)
+     */
+    public final Children seekDesc(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation) {
+        requireNonNull(column);
+        return seek(column, continuation, false, false);
+    }
+
+    public final Children seekDesc(String column, @Nullable MapleDslContinuation continuation) {
+        return seek(column, continuation, false, false);
+    }
+
+    /**
+     * Seeks the rows after the continuation in the ascending order of the column and then the id, the id breaks
+     * the tie of the rows sharing the same key, so that the column need not be unique.
+     * <p>
+     * The continuation must carry the id of the last row, see {@link MapleDslContinuation#of(Object, Object)}.
+     *
+     * @param column the sort key column
+     * @param continuation the continuation of the previous page, or null for the first page
+     * @return the current ref of the wrapper
+     * @see #seek(SerializableFunction, MapleDslContinuation)
+     */
+    public final Children seekWithId(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation) {
+        requireNonNull(column);
+        return seek(column, continuation, true, true);
+    }
+
+    public final Children seekWithId(String column, @Nullable MapleDslContinuation continuation) {
+        return seek(column, continuation, true, true);
+    }
+
+    /**
+     * Seeks the rows after the continuation in the descending order of the column and then the id.
+     *
+     * @see #seekWithId(SerializableFunction, MapleDslContinuation)
+     */
+    public final Children seekDescWithId(SerializableFunction<M, ?> column, @Nullable MapleDslContinuation continuation) {
+        requireNonNull(column);
+        return seek(column, continuation, false, true);
+    }
+
+    public final Children seekDescWithId(String column, @Nullable MapleDslContinuation continuation) {
+        return seek(column, continuation, false, true);
+    }
+
+    private Children seek(Object column, MapleDslContinuation continuation, boolean ascending, boolean withId) {
+        requireNonNull(column);
+        if (continuation != null && withId) {
+            final Object lastId = continuation.lastId();
+            if (lastId == null) throw new IllegalArgumentException("The continuation must carry the last id to seek with id.");
+            // (key, id) > (k, i) as key >= k AND (key > k OR id > i), the predicate chain nests one group only.
+            this.predicate.compare(column, ascending ? OP.GE : OP.LE, continuation.lastKey());
+            this.predicate.and(it -> {
+                this.predicate.compare(column, ascending ? OP.GT : OP.LT, continuation.lastKey());
+                this.predicate.or();
+                this.predicate.compare(Model.ID, ascending ? OP.GT : OP.LT, lastId);
+            });
+        } else if (continuation != null) {
+            this.predicate.compare(column, ascending ? OP.GT : OP.LT, continuation.lastKey());
+        }
+        this.selection.seek(column, ascending, withId);
+        return instance();
+    }
+
     @Override
     public final Children or() {
         this.predicate.or();
@@ -499,7 +590,9 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
     @Override
     public final <R extends Serializable> SortWrapper<M> count(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return count(column.asText(), alias);
+        requireNonNull(alias);
+        this.selection.count(column, alias);
+        return selection;
     }
 
     @Override
@@ -513,7 +606,9 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
     @Override
     public final <R extends Serializable> SortWrapper<M> sum(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return sum(column.asText(), alias);
+        requireNonNull(alias);
+        this.selection.sum(column, alias);
+        return selection;
     }
 
     @Override
@@ -527,7 +622,9 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
     @Override
     public final <R extends Serializable> SortWrapper<M> avg(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return avg(column.asText(), alias);
+        requireNonNull(alias);
+        this.selection.avg(column, alias);
+        return selection;
     }
 
     @Override
@@ -541,7 +638,9 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
     @Override
     public final <R extends Serializable> SortWrapper<M> min(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return min(column.asText(), alias);
+        requireNonNull(alias);
+        this.selection.min(column, alias);
+        return selection;
     }
 
     @Override
@@ -555,6 +654,8 @@ abstract class DuplexWrapper<M extends Model<?>, Children> implements Query<M>,
     @Override
     public final <R extends Serializable> SortWrapper<M> max(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return max(column.asText(), alias);
+        requireNonNull(alias);
+        this.selection.max(column, alias);
+        return selection;
     }
 }
@@ -8,6 +8,7 @@ import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
+import java.util.HashSet;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -37,7 +38,7 @@ public class FetchWrapper<M extends Model<?>> implements Wrapper<M>, Query<M> {
     final SortWrapper<M> selection;
     final BiFunction<MapleDslConfiguration, Object[], String> renderFunc;
 
-    protected <R> FetchWrapper(@NotNull String reference, @NotNull String label, String fromFragment, BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Consumer<MapleDslDialectBase<M>> renderModelDecorator) {
+    protected <R> FetchWrapper(@NotNull String reference, @NotNull String label, CharSequence fromFragment, BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Consumer<MapleDslDialectBase<M>> renderModelDecorator) {
         this.selection = new SortWrapper<>(renderModelDecorator, this);
         this.renderFunc = renderFunc;
         this.arguments[REF_INDEX] = reference;
@@ -45,7 +46,7 @@ public class FetchWrapper<M extends Model<?>> implements Wrapper<M>, Query<M> {
         this.arguments[FROM_INDEX] = fromFragment;
     }
 
-    protected <R> FetchWrapper(@NotNull String reference, @NotNull Class<M> labelClazz, String fromFragment, BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Consumer<MapleDslDialectBase<M>> renderModelDecorator) {
+    protected <R> FetchWrapper(@NotNull String reference, @NotNull Class<M> labelClazz, CharSequence fromFragment, BiFunction<MapleDslConfiguration, Object[], String> renderFunc, Consumer<MapleDslDialectBase<M>> renderModelDecorator) {
         this.selection = new SortWrapper<>(renderModelDecorator, this);
         this.renderFunc = renderFunc;
         this.arguments[REF_INDEX] = reference;
@@ -60,10 +61,11 @@ public class FetchWrapper<M extends Model<?>> implements Wrapper<M>, Query<M> {
         }
 
         this.arguments[SELECTION_INDEX] = selection.headSelect;
-        this.arguments[SHADOW_SELECTION_INDEX] = selection.headShadowSelect;
+        this.arguments[SHADOW_SELECTION_INDEX] = selection.headShadowSelect == null ? null :
+                MapleDslDialectSelection.distinct(context, selection.headShadowSelect, MapleDslDialectSelection.selected(context, selection.headSelect, new HashSet<>()));
         this.arguments[FUNCTION_INDEX] = selection.headFunc;
-        this.arguments[ORDER_ASC_INDEX] = selection.orderAscSet.isEmpty() ? null : selection.orderAscSet;
-        this.arguments[ORDER_DESC_INDEX] = selection.orderDescSet.isEmpty() ? null : selection.orderDescSet;
+        this.arguments[ORDER_ASC_INDEX] = selection.orderAscSet.isEmpty() ? null : MapleDslDialectBase.columns(selection.orderAscSet, context);
+        this.arguments[ORDER_DESC_INDEX] = selection.orderDescSet.isEmpty() ? null : MapleDslDialectBase.columns(selection.orderDescSet, context);
         this.arguments[SKIP_INDEX] = selection.skip;
         this.arguments[LIMIT_INDEX] = selection.limit;
 
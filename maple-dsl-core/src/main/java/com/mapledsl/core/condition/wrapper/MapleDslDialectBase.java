@@ -1,9 +1,15 @@
 package com.mapledsl.core.condition.wrapper;
 
 import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.func.SerializableFunction;
+import com.mapledsl.core.extension.lambda.LambdaMeta;
 import com.mapledsl.core.model.Model;
 import org.apiguardian.api.API;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 @API(status = API.Status.INTERNAL)
 public class MapleDslDialectBase<M extends Model<?>> {
     protected String instantiatedLabel;
@@ -17,6 +23,38 @@ public class MapleDslDialectBase<M extends Model<?>> {
         return ctx.label(instantiatedLabelClazz);
     }
 
+    /**
+     * Resolves the column, which is kept as the name or the property lambda until render time,
+     * so that the lambda is named by the naming strategy of the render configuration rather than the primary one.
+     */
+    static String column(Object column, MapleDslConfiguration ctx) {
+        if (column instanceof SerializableFunction) return ((SerializableFunction<?, ?>) column).asText(ctx);
+        return (String) column;
+    }
+
+    static String[] columns(Object[] columns, MapleDslConfiguration ctx) {
+        if (columns == null) return null;
+        final String[] names = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) names[i] = column(columns[i], ctx);
+        return names;
+    }
+
+    static Set<String> columns(Collection<?> columns, MapleDslConfiguration ctx) {
+        final Set<String> names = new LinkedHashSet<>(columns.size() << 1);
+        for (Object column : columns) names.add(column(column, ctx));
+        return names;
+    }
+
+    /**
+     * The key which tells whether two columns are the same before they are resolved, the lambdas referring to the same
+     * property are the same, while a lambda never equals a column name, see {@link MapleDslDialectSelection#distinct}.
+     */
+    static Object columnKey(Object column) {
+        if (!(column instanceof SerializableFunction)) return column;
+        final LambdaMeta meta = LambdaMeta.resolve((SerializableFunction<?, ?>) column);
+        return meta.getInstantiatedClass().getName() + '#' + meta.getImplMethodName();
+    }
+
     MapleDslDialectBase<M> merge(MapleDslDialectBase<M> merge) {
         this.instantiatedAlias = merge.instantiatedAlias;
         this.instantiatedLabel = merge.instantiatedLabel;
@@ -1,5 +1,6 @@
 package com.mapledsl.core.condition.wrapper;
 
+import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.condition.common.Func;
 import com.mapledsl.core.model.Model;
 import org.apiguardian.api.API;
@@ -8,7 +9,7 @@ import org.jetbrains.annotations.Nullable;
 
 @API(status = API.Status.INTERNAL)
 public final class MapleDslDialectFunction<M extends Model<?>> extends MapleDslDialectBase<M> {
-    private final @Nullable String column;
+    final @Nullable Object column;
     private final @NotNull String alias;
     private final @NotNull Func func;
     public MapleDslDialectFunction<M> next;
@@ -19,14 +20,14 @@ public final class MapleDslDialectFunction<M extends Model<?>> extends MapleDslD
         this.func = func;
     }
 
-    MapleDslDialectFunction(@NotNull String column, @NotNull Func func, @NotNull String alias) {
+    MapleDslDialectFunction(@NotNull Object column, @NotNull Func func, @NotNull String alias) {
         this.column = column;
         this.alias = alias;
         this.func = func;
     }
 
-    public String column() {
-        return column;
+    public String column(MapleDslConfiguration ctx) {
+        return column == null ? null : column(column, ctx);
     }
 
     public String alias() {
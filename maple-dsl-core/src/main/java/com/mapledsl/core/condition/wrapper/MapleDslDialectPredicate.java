@@ -1,12 +1,13 @@
 package com.mapledsl.core.condition.wrapper;
 
+import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.condition.common.OP;
 import com.mapledsl.core.model.Model;
 import org.apiguardian.api.API;
 
 @API(status = API.Status.INTERNAL)
 public final class MapleDslDialectPredicate<M extends Model<?>> extends MapleDslDialectBase<M> {
-    private final String column;
+    private final Object column;
     private final OP op;
     private final Object value;
 
@@ -15,11 +16,11 @@ public final class MapleDslDialectPredicate<M extends Model<?>> extends MapleDsl
 
     public boolean hasPrefix, hasSuffix;
 
-    MapleDslDialectPredicate(String column, OP op) {
+    MapleDslDialectPredicate(Object column, OP op) {
         this(column, op, null);
     }
 
-    MapleDslDialectPredicate(String column, OP op, Object value) {
+    MapleDslDialectPredicate(Object column, OP op, Object value) {
         this.column = column;
         this.op = op;
         this.value = value;
@@ -29,8 +30,8 @@ public final class MapleDslDialectPredicate<M extends Model<?>> extends MapleDsl
         return next != null;
     }
 
-    public String column() {
-        return column;
+    public String column(MapleDslConfiguration ctx) {
+        return column(column, ctx);
     }
 
     public Object value() {
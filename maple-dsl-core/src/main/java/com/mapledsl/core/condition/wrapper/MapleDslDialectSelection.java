@@ -1,12 +1,17 @@
 package com.mapledsl.core.condition.wrapper;
 
+import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.model.Model;
 import org.apiguardian.api.API;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 @API(status = API.Status.INTERNAL)
 public final class MapleDslDialectSelection<M extends Model<?>> extends MapleDslDialectBase<M> {
-    private final String[] columns;
-    private final String[] aliases;
+    final Object[] columns;
+    final Object[] aliases;
     private boolean all;
     public MapleDslDialectSelection<M> next;
 
@@ -16,20 +21,20 @@ public final class MapleDslDialectSelection<M extends Model<?>> extends MapleDsl
         this.all = all;
     }
 
-    MapleDslDialectSelection(String column) {
+    MapleDslDialectSelection(Object column) {
         this(column, column);
     }
 
-    MapleDslDialectSelection(String[] column) {
+    MapleDslDialectSelection(Object[] column) {
         this(column, column);
     }
 
-    MapleDslDialectSelection(String column, String alias) {
-        this.columns = new String[] { column };
-        this.aliases = new String[] { alias };
+    MapleDslDialectSelection(Object column, Object alias) {
+        this.columns = new Object[] { column };
+        this.aliases = new Object[] { alias };
     }
 
-    MapleDslDialectSelection(String[] columns, String[] aliases) {
+    MapleDslDialectSelection(Object[] columns, Object[] aliases) {
         this.columns = columns;
         this.aliases = aliases;
     }
@@ -42,12 +47,73 @@ public final class MapleDslDialectSelection<M extends Model<?>> extends MapleDsl
         return all;
     }
 
-    public String[] aliases() {
-        return aliases;
-    }
-
-    public String[] columns() {
-        return columns;
+    public String[] aliases(MapleDslConfiguration ctx) {
+        return columns(aliases, ctx);
+    }
+
+    public String[] columns(MapleDslConfiguration ctx) {
+        return columns(columns, ctx);
+    }
+
+    MapleDslDialectSelection<M> copy() {
+        return (all ? new MapleDslDialectSelection<M>(true) : new MapleDslDialectSelection<M>(columns, aliases)).merge(this);
+    }
+
+    /**
+     * Collects the ref-qualified aliases of the selection chain.
+     */
+    static Set<String> selected(MapleDslConfiguration ctx, MapleDslDialectSelection<?> head, Set<String> selected) {
+        for (MapleDslDialectSelection<?> cur = head; cur != null; cur = cur.next) {
+            if (cur.isAllPresent()) continue;
+            for (String alias : cur.aliases(ctx)) selected.add(cur.ref() + '.' + alias);
+        }
+        return selected;
+    }
+
+    /**
+     * Drops the shadow selections of the columns which have been selected under the same name, e.g.
+     * {@code select("age").sum(Person::getAge, "sum_age")}, as the lambda is only named at render time.
+     * The given chain is never modified, the kept shadow selections are copied once any of them is dropped.
+     *
+     * @param ctx the render configuration
+     * @param head the head of the shadow selection chain
+     * @param selected the ref-qualified aliases selected so far, the aliases of the kept shadow selections are added
+     * @return the head of the kept shadow selections
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static MapleDslDialectSelection<?> distinct(MapleDslConfiguration ctx, MapleDslDialectSelection<?> head, Set<String> selected) {
+        if (head == null) return null;
+
+        final List<MapleDslDialectSelection<?>> kept = new ArrayList<>();
+        for (MapleDslDialectSelection<?> cur = head; cur != null; cur = cur.next) {
+            if (cur.isAllPresent()) {
+                kept.add(cur);
+                continue;
+            }
+
+            final String[] aliases = cur.aliases(ctx);
+            // only the column shadowed as itself is dropped, e.g. the id shadowed as `dst_id` is always kept.
+            if (cur.columns.length == 1 && cur.columns[0] == cur.aliases[0] && selected.contains(cur.ref() + '.' + aliases[0])) continue;
+            for (String alias : aliases) selected.add(cur.ref() + '.' + alias);
+            kept.add(cur);
+        }
+
+        if (kept.isEmpty()) return null;
+        if (kept.size() == length(head)) return head;
+
+        final MapleDslDialectSelection copyHead = kept.get(0).copy();
+        MapleDslDialectSelection copyTail = copyHead;
+        for (int i = 1; i < kept.size(); i++) {
+            copyTail.next = kept.get(i).copy();
+            copyTail = copyTail.next;
+        }
+        return copyHead;
+    }
+
+    private static int length(MapleDslDialectSelection<?> head) {
+        int length = 0;
+        for (MapleDslDialectSelection<?> cur = head; cur != null; cur = cur.next) length++;
+        return length;
     }
 
     @Override
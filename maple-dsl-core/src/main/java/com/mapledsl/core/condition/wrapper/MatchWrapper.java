@@ -4,6 +4,7 @@ import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.model.Model;
 
+import java.util.HashSet;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -56,13 +57,15 @@ public class MatchWrapper<M extends Model<?>> extends DuplexWrapper<M, MatchWrap
         if (selection.headSelect == null && selection.headShadowSelect == null) {
             selection.shadow(new MapleDslDialectSelection<>(true));
         }
+        selection.resolveSeek();
 
         this.arguments[PREDICATE_INDEX] = predicate.head;
         this.arguments[SELECTION_INDEX] = selection.headSelect;
-        this.arguments[SHADOW_SELECTION_INDEX] = selection.headShadowSelect;
+        this.arguments[SHADOW_SELECTION_INDEX] = selection.headShadowSelect == null ? null :
+                MapleDslDialectSelection.distinct(context, selection.headShadowSelect, MapleDslDialectSelection.selected(context, selection.headSelect, new HashSet<>()));
         this.arguments[FUNCTION_INDEX] = selection.headFunc;
-        this.arguments[ORDER_ASC_INDEX] = selection.orderAscSet.isEmpty() ? null : selection.orderAscSet;
-        this.arguments[ORDER_DESC_INDEX] = selection.orderDescSet.isEmpty() ? null : selection.orderDescSet;
+        this.arguments[ORDER_ASC_INDEX] = selection.orderAscSet.isEmpty() ? null : MapleDslDialectBase.columns(selection.orderAscSet, context);
+        this.arguments[ORDER_DESC_INDEX] = selection.orderDescSet.isEmpty() ? null : MapleDslDialectBase.columns(selection.orderDescSet, context);
         this.arguments[SKIP_INDEX] = selection.skip;
         this.arguments[LIMIT_INDEX] = selection.limit;
 
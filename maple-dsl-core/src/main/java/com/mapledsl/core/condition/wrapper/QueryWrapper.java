@@ -8,7 +8,6 @@ import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -18,8 +17,9 @@ public abstract class QueryWrapper<M extends Model<?>> implements Query<M>, Wrap
     MapleDslDialectFunction<M> headFunc, tailFunc;
     Integer skip, limit;
 
-    private final Set<String> selectionColumnSet = new LinkedHashSet<>();
-    private final Set<String> selectionAliaSet = new LinkedHashSet<>();
+    // the keys of the columns, see MapleDslDialectBase#columnKey.
+    private final Set<Object> selectionColumnSet = new LinkedHashSet<>();
+    private final Set<Object> selectionAliaSet = new LinkedHashSet<>();
     private final Consumer<MapleDslDialectBase<M>> dialectBaseConsumer;
     private final Wrapper<M> delegateWrapper;
 
@@ -111,8 +111,9 @@ public abstract class QueryWrapper<M extends Model<?>> implements Query<M>, Wrap
         // `age` was missing selected, checking from column_set whether contains.
         // e.g. selectAs("name","person_name").count("person_name","cnt_n")
         // `person_name` should check from alias_set whether contains.
-        if (next.column() != null && !selectionColumnSet.contains(next.column()) && !selectionAliaSet.contains(next.column())) {
-            shadow(new MapleDslDialectSelection<>(next.column()));
+        if (next.column != null) {
+            final Object key = MapleDslDialectBase.columnKey(next.column);
+            if (!selectionColumnSet.contains(key) && !selectionAliaSet.contains(key)) shadow(new MapleDslDialectSelection<>(next.column));
         }
 
         if (headFunc == null) {
@@ -129,8 +130,8 @@ public abstract class QueryWrapper<M extends Model<?>> implements Query<M>, Wrap
         dialectBaseConsumer.accept(next);
 
         if (!next.isAllPresent()) {
-            Collections.addAll(selectionAliaSet, next.aliases());
-            Collections.addAll(selectionColumnSet, next.columns());
+            for (Object alias : next.aliases) selectionAliaSet.add(MapleDslDialectBase.columnKey(alias));
+            for (Object column : next.columns) selectionColumnSet.add(MapleDslDialectBase.columnKey(column));
         }
 
         if (headSelect == null) {
@@ -147,8 +148,8 @@ public abstract class QueryWrapper<M extends Model<?>> implements Query<M>, Wrap
         dialectBaseConsumer.accept(shadow);
 
         if (!shadow.isAllPresent()) {
-            Collections.addAll(selectionAliaSet, shadow.aliases());
-            Collections.addAll(selectionColumnSet, shadow.columns());
+            for (Object alias : shadow.aliases) selectionAliaSet.add(MapleDslDialectBase.columnKey(alias));
+            for (Object column : shadow.columns) selectionColumnSet.add(MapleDslDialectBase.columnKey(column));
         }
 
         if (headShadowSelect == null) {
@@ -3,12 +3,12 @@ package com.mapledsl.core.condition.wrapper;
 import com.mapledsl.core.condition.Query;
 import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.condition.common.Func;
+import com.mapledsl.core.exception.MapleDslExecutionException;
 import com.mapledsl.core.extension.func.SerializableFunction;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.Serializable;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -17,9 +17,12 @@ import java.util.function.Consumer;
 import static java.util.Objects.requireNonNull;
 
 public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements Query.Sort<M> {
-    protected final Set<String> orderAscSet = new LinkedHashSet<>();
-    protected final Set<String> orderDescSet = new LinkedHashSet<>();
-    private String[] orderCandidateArr;
+    // the order aliases are kept as the names or the property lambdas, which are resolved at render time.
+    protected final Set<Object> orderAscSet = new LinkedHashSet<>();
+    protected final Set<Object> orderDescSet = new LinkedHashSet<>();
+    private Object[] orderCandidateArr;
+    private Object seekColumn;
+    private boolean seekAscending, seekWithId;
 
     SortWrapper(@NotNull Consumer<MapleDslDialectBase<M>> mapleDslDialectBaseConsumer, @NotNull Wrapper<M> delegateWrapper) {
         super(mapleDslDialectBaseConsumer, delegateWrapper);
@@ -28,14 +31,14 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     protected synchronized void next(@NotNull MapleDslDialectFunction<M> next) {
         super.next(next);
-        orderCandidateArr = new String[] { next.alias() };
+        orderCandidateArr = new Object[] { next.alias() };
     }
 
     @Override
     protected synchronized void next(@NotNull MapleDslDialectSelection<M> next) {
         super.next(next);
         if (next.isAllPresent()) return;
-        orderCandidateArr = next.aliases();
+        orderCandidateArr = next.aliases;
     }
 
     @Override
@@ -59,7 +62,7 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> select(SerializableFunction<M, R> col) {
         requireNonNull(col);
-        next(new MapleDslDialectSelection<>(col.asText()));
+        next(new MapleDslDialectSelection<>((Object) col));
         return this;
     }
 
@@ -73,7 +76,7 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     public <R extends Serializable> SortWrapper<M> select(SerializableFunction<M, R> col1, SerializableFunction<M, ?> col2) {
         requireNonNull(col1);
         requireNonNull(col2);
-        next(new MapleDslDialectSelection<>(new String[] { col1.asText(), col2.asText() }));
+        next(new MapleDslDialectSelection<>(new Object[] { col1, col2 }));
         return this;
     }
 
@@ -88,7 +91,7 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
         requireNonNull(col1);
         requireNonNull(col2);
         requireNonNull(col3);
-        next(new MapleDslDialectSelection<>(new String[] { col1.asText(), col2.asText(), col3.asText() }));
+        next(new MapleDslDialectSelection<>(new Object[] { col1, col2, col3 }));
         return this;
     }
 
@@ -106,11 +109,9 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
         requireNonNull(col3);
         requireNonNull(others);
 
-        next(new MapleDslDialectSelection<>(new String[]{ col1.asText(), col2.asText(), col3.asText() }));
+        next(new MapleDslDialectSelection<>(new Object[]{ col1, col2, col3 }));
         if (others.length == 0) return this;
-        final String[] columns = new String[others.length];
-        Arrays.setAll(columns, i -> others[i].asText());
-        next(new MapleDslDialectSelection<>(columns));
+        next(new MapleDslDialectSelection<>((Object[]) others.clone()));
         return this;
     }
 
@@ -133,7 +134,7 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     public SortWrapper<M> selectAs(SerializableFunction<M, ?> column, String alias) {
         requireNonNull(column);
         requireNonNull(alias);
-        next(new MapleDslDialectSelection<>(column.asText(), alias));
+        next(new MapleDslDialectSelection<>(column, alias));
         return this;
     }
 
@@ -157,7 +158,9 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> count(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return count(column.asText(), alias);
+        requireNonNull(alias);
+        next(new MapleDslDialectFunction<>(column, Func.CNT, alias));
+        return this;
     }
 
     @Override
@@ -172,7 +175,9 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> sum(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return sum(column.asText(), alias);
+        requireNonNull(alias);
+        next(new MapleDslDialectFunction<>(column, Func.SUM, alias));
+        return this;
     }
 
     @Override
@@ -187,7 +192,9 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> avg(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return avg(column.asText(), alias);
+        requireNonNull(alias);
+        next(new MapleDslDialectFunction<>(column, Func.AVG, alias));
+        return this;
     }
 
     @Override
@@ -202,7 +209,9 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> min(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return min(column.asText(), alias);
+        requireNonNull(alias);
+        next(new MapleDslDialectFunction<>(column, Func.MIN, alias));
+        return this;
     }
 
     @Override
@@ -217,7 +226,58 @@ public class SortWrapper<M extends Model<?>> extends QueryWrapper<M> implements
     @Override
     public <R extends Serializable> SortWrapper<M> max(SerializableFunction<M, R> column, String alias) {
         requireNonNull(column);
-        return max(column.asText(), alias);
+        requireNonNull(alias);
+        next(new MapleDslDialectFunction<>(column, Func.MAX, alias));
+        return this;
+    }
+
+    /**
+     * Orders by the seek column once the selections are done, see {@link #resolveSeek()}.
+     */
+    synchronized void seek(@NotNull Object column, boolean ascending, boolean withId) {
+        seekColumn = column;
+        seekAscending = ascending;
+        seekWithId = withId;
+    }
+
+    /**
+     * Orders by the alias of the seek column and then the id if seeking with id, the columns are shadow selected
+     * unless they have been selected.
+     *
+     * @return whether the seek is resolved
+     * @throws MapleDslExecutionException if any other ordering is present
+     */
+    synchronized boolean resolveSeek() {
+        if (seekColumn == null) return false;
+        if (!orderAscSet.isEmpty() || !orderDescSet.isEmpty()) {
+            throw new MapleDslExecutionException("The seek must be the only ordering, the rows are seeked by its sort key alone.");
+        }
+
+        final Set<Object> orderSet = seekAscending ? orderAscSet : orderDescSet;
+        orderSet.add(seekAlias(seekColumn));
+        if (seekWithId) orderSet.add(seekAlias(Model.ID));
+        seekColumn = null;
+        return true;
+    }
+
+    private Object seekAlias(Object column) {
+        Object alias = alias(headSelect, column);
+        if (alias == null) alias = alias(headShadowSelect, column);
+        if (alias != null) return alias;
+
+        shadow(new MapleDslDialectSelection<>(column));
+        return column;
+    }
+
+    private static Object alias(MapleDslDialectSelection<?> head, Object column) {
+        final Object key = MapleDslDialectBase.columnKey(column);
+        for (MapleDslDialectSelection<?> cur = head; cur != null; cur = cur.next) {
+            if (cur.isAllPresent()) continue;
+            for (int i = 0; i < cur.columns.length; i++) {
+                if (MapleDslDialectBase.columnKey(cur.columns[i]).equals(key)) return cur.aliases[i];
+            }
+        }
+        return null;
     }
 
     @Override
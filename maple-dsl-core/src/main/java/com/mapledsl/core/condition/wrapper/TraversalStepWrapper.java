@@ -3,20 +3,21 @@ package com.mapledsl.core.condition.wrapper;
 import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.condition.TraversalStep;
 import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.extension.func.SerializableFunction;
+import com.mapledsl.core.extension.lambda.LambdaMeta;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 public class TraversalStepWrapper extends TraversalWrapper implements TraversalStep {
     protected TraversalStepWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc) {
         super(renderFunc);
     }
 
-    public TraversalStepWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String fromFragment) {
+    public TraversalStepWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, CharSequence fromFragment) {
         super(renderFunc, fromFragment);
     }
 
@@ -398,7 +399,7 @@ public class TraversalStepWrapper extends TraversalWrapper implements TraversalS
                     // It should be referenced the outer `this`
                     selection -> {
                         if (selection.isAllPresent()) return;
-                        Collections.addAll(TraversalStepWrapper.this.curTraversalCompanionSet, selection.aliases());
+                        Collections.addAll(TraversalStepWrapper.this.curTraversalCompanionSet, selection.aliases);
                     },
                     function -> TraversalStepWrapper.this.curTraversalCompanionSet.add(function.alias())
             );
@@ -424,11 +425,10 @@ public class TraversalStepWrapper extends TraversalWrapper implements TraversalS
             for (MapleDslDialectSelection<M> cur = selection.headSelect;;cur = cur.next) {
                 if (cur.isAllPresent()) continue;
 
-                int index = Arrays.binarySearch(cur.columns(), Model.ID,
-                        Comparator.comparing(Function.identity(), String::compareToIgnoreCase)
-                );
-                if (index > -1) {
-                    nextTraversalFrom = cur.aliases()[index];
+                for (int i = 0; i < cur.columns.length; i++) {
+                    if (!isId(cur.columns[i])) continue;
+                    // the id property is named `id` whatever the naming strategy is.
+                    nextTraversalFrom = cur.aliases[i] instanceof String ? (String) cur.aliases[i] : Model.ID;
                     return;
                 }
 
@@ -436,7 +436,18 @@ public class TraversalStepWrapper extends TraversalWrapper implements TraversalS
             }
         }
 
+        private boolean isId(Object column) {
+            if (column instanceof SerializableFunction) return Model.ID.equals(LambdaMeta.resolve((SerializableFunction<?, ?>) column).getImplMethodName());
+            return Model.ID.equalsIgnoreCase((String) column);
+        }
+
         private void sink() {
+            final boolean seek = selection.resolveSeek();
+            final boolean ordered = !selection.orderAscSet.isEmpty() || !selection.orderDescSet.isEmpty();
+            if (seek && (!orderAscList.isEmpty() || !orderDescList.isEmpty()) || !seek && seeking && ordered) {
+                throw new MapleDslExecutionException("The seek must be the only ordering, the rows are seeked by its sort key alone.");
+            }
+            seeking |= seek;
             if (selection.headSelect != null)          selectionList.add(selection.headSelect);
             if (selection.headShadowSelect != null)    shadowSelectionList.add(selection.headShadowSelect);
             if (selection.headFunc != null)            functionList.add(selection.headFunc);
@@ -56,29 +56,38 @@ public abstract class TraversalWrapper implements Traversal, Wrapper<Model<?>> {
      * [21] has_next        [22] next
      * [23] delete_vertex   [24] detach_vertex      [25] delete_edge
      * </pre>
+     * The steps are stored in the order of traversal, and rendered one by one into a shared buffer.
      */
-    final LinkedList<Object[]> argumentsList = new LinkedList<>();
-    final List<String> orderAscList = new LinkedList<>();
-    final List<String> orderDescList = new LinkedList<>();
-
-    final Set<String> curTraversalCompanionSet = new LinkedHashSet<>();
-    final Set<String> nextTraversalCompanionSet = new LinkedHashSet<>();
+    final List<Object[]> argumentsList = new ArrayList<>();
+    // the orders and the companions are kept as the names or the property lambdas until render time.
+    final List<Object> orderAscList = new ArrayList<>();
+    final List<Object> orderDescList = new ArrayList<>();
+    // whether a step has seeked, whose ordering must be the only one among the steps.
+    boolean seeking;
+
+    final Set<Object> curTraversalCompanionSet = new LinkedHashSet<>();
+    final Set<Object> nextTraversalCompanionSet = new LinkedHashSet<>();
     final BiFunction<MapleDslConfiguration, Object[], String> renderFunc;
 
     Object[] arguments = new Object[LENGTH];
     String nextTraversalFrom;
+    /**
+     * The companions carried by the next steps, shared by the steps until any new companion is selected.
+     */
+    Set<Object> nextTraversalCompanions;
 
-    List<MapleDslDialectPredicate<?>> predicateList = new LinkedList<>();
-    List<MapleDslDialectSelection<?>> selectionList = new LinkedList<>();
-    List<MapleDslDialectSelection<?>> shadowSelectionList = new LinkedList<>();
-    List<MapleDslDialectFunction<?>> functionList = new LinkedList<>();
+    // handed over to the step once filled, the empty lists are kept for the next step.
+    List<MapleDslDialectPredicate<?>> predicateList = new ArrayList<>();
+    List<MapleDslDialectSelection<?>> selectionList = new ArrayList<>();
+    List<MapleDslDialectSelection<?>> shadowSelectionList = new ArrayList<>();
+    List<MapleDslDialectFunction<?>> functionList = new ArrayList<>();
 
     protected TraversalWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc) {
         this.renderFunc = renderFunc;
         this.arguments[FROM_MATCH_INDEX] = DEFAULT_VERTEX_ALIAS;
     }
 
-    protected TraversalWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, String fromFragment) {
+    protected TraversalWrapper(BiFunction<MapleDslConfiguration, Object[], String> renderFunc, CharSequence fromFragment) {
         this.renderFunc = renderFunc;
         this.arguments[FROM_INDEX] = fromFragment;
     }
@@ -87,21 +96,55 @@ public abstract class TraversalWrapper implements Traversal, Wrapper<Model<?>> {
     public String render(MapleDslConfiguration configuration) {
         nextTraversal(true);
 
-        final StringJoiner builder = new StringJoiner(MapleDslDialectRenderHelper.BLANK);
-        for (int i = 0; i < argumentsList.size(); i++) {
-            final Object[] arguments = argumentsList.get(i);
-            if (i == argumentsList.size() - 1) {
-                arguments[ORDER_ASC_INDEX]  = orderAscList.isEmpty()    ? null : orderAscList;
-                arguments[ORDER_DSC_INDEX]  = orderDescList.isEmpty()   ? null : orderDescList;
-            }
-
-            final String sql = renderFunc.apply(configuration, arguments);
-            builder.add(sql);
+        final int size = argumentsList.size();
+        final Object[] lastArguments = argumentsList.get(size - 1);
+        lastArguments[ORDER_ASC_INDEX]  = orderAscList.isEmpty()    ? null : orderAscList;
+        lastArguments[ORDER_DSC_INDEX]  = orderDescList.isEmpty()   ? null : orderDescList;
+
+        // every step is rendered as a statement of its own, which the render plan cache and the statement normalizer
+        // work on, so the steps are only concatenated here, the copying grows linearly with the hops.
+        final StringBuilder builder = new StringBuilder(size * 128);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) builder.append(MapleDslDialectRenderHelper.BLANK);
+            builder.append(renderFunc.apply(configuration, resolveColumns(configuration, argumentsList.get(i))));
         }
 
         return builder.toString();
     }
 
+    /**
+     * Resolves the companions, the orders and the shadow selections of the step with the render configuration,
+     * the step itself is left untouched.
+     */
+    @SuppressWarnings("unchecked")
+    private static Object[] resolveColumns(MapleDslConfiguration configuration, Object[] arguments) {
+        if (arguments[COMPANION_INDEX] == null && arguments[ORDER_ASC_INDEX] == null && arguments[ORDER_DSC_INDEX] == null
+                && arguments[SHADOW_SELECTION_INDEX] == null) return arguments;
+
+        final Object[] resolved = arguments.clone();
+        for (int index : new int[] { COMPANION_INDEX, ORDER_ASC_INDEX, ORDER_DSC_INDEX }) {
+            if (resolved[index] == null) continue;
+            resolved[index] = MapleDslDialectBase.columns((Collection<?>) resolved[index], configuration);
+        }
+
+        if (resolved[SHADOW_SELECTION_INDEX] != null) {
+            final Set<String> selected = new HashSet<>();
+            if (resolved[SELECTION_INDEX] != null) {
+                for (MapleDslDialectSelection<?> head : (List<MapleDslDialectSelection<?>>) resolved[SELECTION_INDEX]) {
+                    MapleDslDialectSelection.selected(configuration, head, selected);
+                }
+            }
+
+            final List<MapleDslDialectSelection<?>> shadowSelections = new ArrayList<>();
+            for (MapleDslDialectSelection<?> head : (List<MapleDslDialectSelection<?>>) resolved[SHADOW_SELECTION_INDEX]) {
+                final MapleDslDialectSelection<?> distinct = MapleDslDialectSelection.distinct(configuration, head, selected);
+                if (distinct != null) shadowSelections.add(distinct);
+            }
+            resolved[SHADOW_SELECTION_INDEX] = shadowSelections.isEmpty() ? null : shadowSelections;
+        }
+        return resolved;
+    }
+
     @Override
     public abstract TraversalStepWrapper inE(int stepM, int stepN, Collection<Class<? extends Model.E<?,?>>> over);
 
@@ -328,26 +371,26 @@ public abstract class TraversalWrapper implements Traversal, Wrapper<Model<?>> {
 
         if (!predicateList.isEmpty()) {
             arguments[PREDICATE_INDEX] = predicateList;
-            predicateList = new LinkedList<>();
+            predicateList = new ArrayList<>();
         }
         if (!selectionList.isEmpty()) {
             arguments[SELECTION_INDEX] = selectionList;
-            selectionList = new LinkedList<>();
+            selectionList = new ArrayList<>();
         }
         if (!shadowSelectionList.isEmpty()){
             arguments[SHADOW_SELECTION_INDEX] = shadowSelectionList;
-            shadowSelectionList = new LinkedList<>();
+            shadowSelectionList = new ArrayList<>();
         }
         if (!functionList.isEmpty()) {
             arguments[FUNCTION_INDEX] = functionList;
-            functionList = new LinkedList<>();
+            functionList = new ArrayList<>();
         }
 
         // e.g. MATCH (n) - [:follow] - (m)
         // WITH m, ...
         // MATCH (new_m)
         // `WITH m` should be modified as `WITH m as new_m`
-        if (!argumentsList.isEmpty()) argumentsList.peekLast()[NEXT_INDEX] = arguments[IN_ALIAS_INDEX];
+        if (!argumentsList.isEmpty()) argumentsList.get(argumentsList.size() - 1)[NEXT_INDEX] = arguments[IN_ALIAS_INDEX];
 
         argumentsList.add(arguments);
         // check next_traversal should be terminated or mark it `has_next`.
@@ -360,8 +403,11 @@ public abstract class TraversalWrapper implements Traversal, Wrapper<Model<?>> {
         // clear dst_id var for next filling.
         nextTraversalFrom = null;
 
-        nextTraversalCompanionSet.addAll(curTraversalCompanionSet);
+        // copy the companions only if changed, the steps never modify them.
+        if (nextTraversalCompanionSet.addAll(curTraversalCompanionSet)) {
+            nextTraversalCompanions = Collections.unmodifiableSet(new LinkedHashSet<>(nextTraversalCompanionSet));
+        }
         curTraversalCompanionSet.clear();
-        arguments[COMPANION_INDEX] = nextTraversalCompanionSet.isEmpty() ? null : new LinkedHashSet<>(nextTraversalCompanionSet);
+        arguments[COMPANION_INDEX] = nextTraversalCompanions;
     }
 }
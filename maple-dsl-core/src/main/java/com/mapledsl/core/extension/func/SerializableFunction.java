@@ -36,12 +36,18 @@ public interface SerializableFunction<T, R> extends Function<T, R>, Serializable
      */
     @API(status = API.Status.INTERNAL)
     default String asText() {
-        @NotNull LambdaMeta meta = LambdaMeta.extract(this);
-        @NotNull Class<?> instantiatedClass = meta.getInstantiatedClass();
-        @NotNull String implMethodName = meta.getImplMethodName();
+        return asText(MapleDslConfiguration.primaryConfiguration());
+    }
 
-        return MapleDslConfiguration.primaryConfiguration()
-                .beanDefinitionUnchecked(instantiatedClass)
-                .propertyName(implMethodName);
+    /**
+     * Retrieves the property name of the implementation method resolved with the given configuration.
+     * The lambda metadata is resolved once per call site and cached.
+     *
+     * @param context The configuration which decides the naming strategy of the property.
+     * @return The property name of the implementation method as a String.
+     */
+    @API(status = API.Status.INTERNAL)
+    default String asText(@NotNull MapleDslConfiguration context) {
+        return LambdaMeta.resolve(this).propertyName(context);
     }
 }
@@ -17,6 +17,7 @@ import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
@@ -62,6 +63,10 @@ public class BeanDefinition<BEAN> {
     private final Map<String, Class<?>> propertyTypeMap = new HashMap<>();
     /** item: property name, exclude the fields which annotated with @Property(defined=false) */
     private final Set<String> definedPropertyNameSet = new HashSet<>();
+    /** key: result column names, value: row plan */
+    private final Map<List<String>, BeanRowPlan<BEAN>> rowPlanMap = new ConcurrentHashMap<>();
+    /** the row plan of the last result column list, reused while the result set keeps handing out the same list */
+    private volatile RowPlanRef<BEAN> lastRowPlan;
 
     @SuppressWarnings("unchecked")
     BeanDefinition(@NotNull MapleDslConfiguration context, @NotNull Class<BEAN> beanClazz, @Nullable String label) {
@@ -107,6 +112,16 @@ public class BeanDefinition<BEAN> {
         return propertyKeys;
     }
 
+    /**
+     * Returns the names of the properties which have a setter method, the other result columns are
+     * injected by the property customizer writer, e.g. the props of the model.
+     *
+     * @return an unmodifiable set of property names
+     */
+    public @NotNull Set<String> writablePropertyNames() {
+        return Collections.unmodifiableSet(propertyWriterMap.keySet());
+    }
+
     /**
      * Diff reflecting the according object to invoke getter method return the value of the property.
      *
@@ -116,20 +131,25 @@ public class BeanDefinition<BEAN> {
      */
     public String getter(BEAN target, String propertyName) {
         if (target == null) return null;
+        return context.parameterized(property(target, propertyName));
+    }
 
-        Object propertyValue = null;
-        if (propertyAccessorMap.containsKey(propertyName)) {
-            final BeanPropertyAccessor beanPropertyAccessor = propertyAccessorMap.get(propertyName);
-            propertyValue = beanPropertyAccessor.delegate.apply(target);
-            return context.parameterized(propertyValue);
-        }
+    /**
+     * Diff reflecting the according object to invoke getter method return the raw value of the property,
+     * the id/src/dst are generated by the key policy strategy as the same as {@link #getter(Object, String)}.
+     *
+     * @param target       the target model to invoke getter method.
+     * @param propertyName property name.
+     * @return the raw value of the property.
+     */
+    public @Nullable Object property(BEAN target, String propertyName) {
+        if (target == null) return null;
 
-        if (propertyCustomizerAccessor != null) {
-            propertyValue = propertyCustomizerAccessor.getter(target, propertyName, context);
-            return context.parameterized(propertyValue);
-        }
+        final BeanPropertyAccessor beanPropertyAccessor = propertyAccessorMap.get(propertyName);
+        if (beanPropertyAccessor != null) return beanPropertyAccessor.delegate.apply(target);
+        if (propertyCustomizerAccessor != null) return propertyCustomizerAccessor.getter(target, propertyName, context);
 
-        return context.parameterized(propertyValue);
+        return null;
     }
 
     /**
@@ -156,6 +176,39 @@ public class BeanDefinition<BEAN> {
         if (propertyCustomizerWriter != null) propertyCustomizerWriter.setter(target, propertyName, resultant, context);
     }
 
+    /**
+     * Returns the row plan of the given result columns, the plan is compiled on the first encounter of
+     * the column list and reused across the result sets of the same shape.
+     *
+     * @param columnNames the column names of the result row.
+     * @return the row plan mapping the columns by index.
+     */
+    public @NotNull BeanRowPlan<BEAN> rowPlan(@NotNull List<String> columnNames) {
+        final RowPlanRef<BEAN> last = lastRowPlan;
+        if (last != null && last.columnNames == columnNames) return last.plan;
+
+        BeanRowPlan<BEAN> plan = rowPlanMap.get(columnNames);
+        if (plan == null) {
+            plan = new BeanRowPlan<>(context, this, columnNames);
+            if (rowPlanMap.size() < MAX_ROW_PLAN_SIZE) rowPlanMap.putIfAbsent(Collections.unmodifiableList(new ArrayList<>(columnNames)), plan);
+        }
+
+        lastRowPlan = new RowPlanRef<>(columnNames, plan);
+        return plan;
+    }
+
+    @Nullable BeanPropertyWriter propertyWriter(String propertyName) {
+        return propertyWriterMap.get(propertyName);
+    }
+
+    @Nullable Class<?> propertyType(String propertyName) {
+        return propertyTypeMap.get(propertyName);
+    }
+
+    void customizerSetter(BEAN target, String propertyName, Object resultant) {
+        if (propertyCustomizerWriter != null) propertyCustomizerWriter.setter(target, propertyName, resultant, context);
+    }
+
     void addDefinedBeanPropertyName(String propertyName) {
         if (definedPropertyNameSet.contains(propertyName)) throw new MapleDslBindingException("Duplicate defined property " + propertyName);
         definedPropertyNameSet.add(propertyName);
@@ -208,6 +261,21 @@ public class BeanDefinition<BEAN> {
         propertyWriterMap.put(propertyName, new BeanPropertyWriter(lookup, setterMethod));
     }
 
+    /**
+     * The upper bound of the row plans per bean, the result column lists beyond it are compiled without being cached.
+     */
+    static final int MAX_ROW_PLAN_SIZE = 256;
+
+    static final class RowPlanRef<BEAN> {
+        final List<String> columnNames;
+        final BeanRowPlan<BEAN> plan;
+
+        RowPlanRef(List<String> columnNames, BeanRowPlan<BEAN> plan) {
+            this.columnNames = columnNames;
+            this.plan = plan;
+        }
+    }
+
     /**
      * Allow private access to fields across using a JVM version-appropriate strategy
      * without having a compile-time dependency on Java 9+.
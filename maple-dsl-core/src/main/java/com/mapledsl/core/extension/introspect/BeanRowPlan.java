@@ -0,0 +1,83 @@
+package com.mapledsl.core.extension.introspect;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The BeanRowPlan maps the columns of a result row onto a bean, it is compiled once per result column list of
+ * a {@link BeanDefinition} and resolves the writer and target type of every column up front, so that mapping
+ * a cell is an array lookup by column index instead of the property name lookups of {@link BeanDefinition#setter}.
+ * <p></p>
+ * The columns without writer fall back to the property customizer writer, e.g. the props of the model.
+ *
+ * @param <BEAN> the type of the bean
+ * @see BeanDefinition#rowPlan(List)
+ */
+public final class BeanRowPlan<BEAN> {
+    private final @NotNull MapleDslConfiguration context;
+    private final @NotNull BeanDefinition<BEAN> definition;
+    private final @NotNull String[] columns;
+    private final @Nullable BeanPropertyWriter[] writers;
+    private final @Nullable Class<?>[] types;
+    /** the columns without writer which has been reported, only once per plan */
+    private final boolean[] reported;
+
+    BeanRowPlan(@NotNull MapleDslConfiguration context, @NotNull BeanDefinition<BEAN> definition, @NotNull List<String> columns) {
+        this.context = context;
+        this.definition = definition;
+        this.columns = columns.toArray(new String[0]);
+        this.writers = new BeanPropertyWriter[this.columns.length];
+        this.types = new Class<?>[this.columns.length];
+        this.reported = new boolean[this.columns.length];
+
+        for (int i = 0; i < this.columns.length; i++) {
+            writers[i] = definition.propertyWriter(this.columns[i]);
+            types[i] = definition.propertyType(this.columns[i]);
+        }
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int size() {
+        return columns.length;
+    }
+
+    /**
+     * @param columnIndex the column index
+     * @return the column name
+     */
+    public @NotNull String column(int columnIndex) {
+        return columns[columnIndex];
+    }
+
+    /**
+     * Converts the value to the property type of the column then invokes it setter method,
+     * as the same as {@link BeanDefinition#setter(Object, String, Object)} with the column name.
+     *
+     * @param target        the target object to inject into the properties.
+     * @param columnIndex   the column index in the row.
+     * @param propertyValue the property value.
+     */
+    public void setter(BEAN target, int columnIndex, Object propertyValue) {
+        if (target == null) return;
+        if (propertyValue == null) return;
+
+        final Class<?> propertyType = types[columnIndex];
+        final Object resultant = propertyType == null ? context.resultant(propertyValue) : context.resultant(propertyValue, propertyType);
+        final BeanPropertyWriter beanPropertyWriter = writers[columnIndex];
+        if (beanPropertyWriter != null) {
+            beanPropertyWriter.delegate.accept(target, resultant);
+            return;
+        }
+
+        if (!reported[columnIndex]) {
+            reported[columnIndex] = true;
+            if (definition.label() != null && BeanDefinition.LOG.isWarnEnabled()) BeanDefinition.LOG.warn("Property:{} does not found it writer.", columns[columnIndex]);
+        }
+        definition.customizerSetter(target, columns[columnIndex], resultant);
+    }
+}
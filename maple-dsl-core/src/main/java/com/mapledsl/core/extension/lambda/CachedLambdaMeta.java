@@ -0,0 +1,75 @@
+package com.mapledsl.core.extension.lambda;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.func.SerializableFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The CachedLambdaMeta class is an immutable implementation of the LambdaMeta interface,
+ * which is resolved once per lambda class, i.e. once per call site of the lambda or method reference.
+ * <p></p>
+ * It also memorizes the property name resolved with the last configuration,
+ * since the property name depends on the naming strategy of the configuration.
+ */
+final class CachedLambdaMeta implements LambdaMeta {
+    static final ClassValue<Holder> LAMBDA_META_CACHE = new ClassValue<Holder>() {
+        @Override
+        protected Holder computeValue(Class<?> type) {
+            return new Holder();
+        }
+    };
+
+    private final String implMethodName;
+    private final Class<?> instantiatedClass;
+    private volatile PropertyName propertyName;
+
+    CachedLambdaMeta(LambdaMeta meta) {
+        this.implMethodName = meta.getImplMethodName();
+        this.instantiatedClass = meta.getInstantiatedClass();
+    }
+
+    static LambdaMeta resolve(SerializableFunction<?, ?> func) {
+        final Holder holder = LAMBDA_META_CACHE.get(func.getClass());
+        CachedLambdaMeta meta = holder.meta;
+        if (meta == null) {
+            // racing threads resolve the same immutable meta, the last one wins.
+            meta = new CachedLambdaMeta(LambdaMeta.extract(func));
+            holder.meta = meta;
+        }
+        return meta;
+    }
+
+    @Override
+    public String getImplMethodName() {
+        return implMethodName;
+    }
+
+    @Override
+    public Class<?> getInstantiatedClass() {
+        return instantiatedClass;
+    }
+
+    @Override
+    public String propertyName(@NotNull MapleDslConfiguration context) {
+        final PropertyName memorized = this.propertyName;
+        if (memorized != null && memorized.context == context) return memorized.name;
+
+        final String name = LambdaMeta.super.propertyName(context);
+        this.propertyName = new PropertyName(context, name);
+        return name;
+    }
+
+    static final class Holder {
+        volatile CachedLambdaMeta meta;
+    }
+
+    static final class PropertyName {
+        final MapleDslConfiguration context;
+        final String name;
+
+        PropertyName(MapleDslConfiguration context, String name) {
+            this.context = context;
+            this.name = name;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.mapledsl.core.extension.lambda;
 
+import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.exception.MapleDslReflectionException;
 import com.mapledsl.core.extension.func.SerializableFunction;
+import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
@@ -34,6 +36,30 @@ public interface LambdaMeta {
         });
     }
 
+    /**
+     * Resolves the property name which the lambda function refers to, with the given configuration.
+     *
+     * @param context the configuration which decides the naming strategy of the property.
+     * @return The property name of the implementation method.
+     */
+    default String propertyName(@NotNull MapleDslConfiguration context) {
+        return context.beanDefinitionUnchecked(getInstantiatedClass())
+                .propertyName(getImplMethodName());
+    }
+
+    /**
+     * Resolves metadata about a lambda function, the metadata is extracted once per lambda class and cached afterwards,
+     * so that neither the reflective {@code writeReplace} nor the serialization round trip is paid per call.
+     *
+     * @param func The lambda function to resolve metadata from.
+     * @return An instance of LambdaMeta that contains the resolved metadata.
+     */
+    static LambdaMeta resolve(SerializableFunction<?, ?> func) {
+        // idea evaluate mode using proxy, the proxy class is shared by different lambdas.
+        if (func instanceof Proxy) return extract(func);
+        return CachedLambdaMeta.resolve(func);
+    }
+
     /**
      * Extracts metadata about a lambda function.
      *
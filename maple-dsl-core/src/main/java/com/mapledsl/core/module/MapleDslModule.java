@@ -67,6 +67,17 @@ public abstract class MapleDslModule {
         return KeyPolicyStrategies.MANUAL;
     }
 
+    /**
+     * Returns whether the dialect takes the vertex/edge ids of a statement as one list, e.g. {@code WHERE v.id IN $p0},
+     * so that the bound statement stays the same however many ids are given.
+     * The ids of the dialect taking no list, e.g. nebula {@code FETCH} and {@code GO FROM}, are bound one by one.
+     *
+     * @return true if the ids are rendered and bound as one list.
+     */
+    public boolean identifierList() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return version();
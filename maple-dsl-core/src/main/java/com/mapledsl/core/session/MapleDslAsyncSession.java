@@ -0,0 +1,108 @@
+package com.mapledsl.core.session;
+
+import com.mapledsl.core.MapleDslBoundStatement;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The MapleDslAsyncSession interface represents a session for executing Maple DSL queries asynchronously,
+ * every query returns a {@link CompletableFuture} instead of blocking the calling thread.
+ * <p></p>
+ * Every invocation acquires an underlying session of its own and releases it once the future is completed,
+ * so an async session can be shared between threads and several queries can be in-flight at the same time.
+ * Failures complete the future exceptionally with a {@link com.mapledsl.core.exception.MapleDslException}.
+ *
+ * @see MapleDslSessionFactory#openAsyncSession()
+ */
+public interface MapleDslAsyncSession {
+    /**
+     * Retrieve a single row mapped from the statement key and parameter asynchronously.
+     *
+     * @param <T>  the returned model(vertex/edge) type.
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @param mappedEntityType mapped entity type
+     * @return future of mapped object, completed with null if there is no row
+     */
+    @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType);
+
+    default @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Class<T> mappedEntityType) {
+        return selectOneAsync(stmt, Collections.emptyMap(), mappedEntityType);
+    }
+
+    default @NotNull <T> CompletableFuture<T> selectOneAsync(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectOneAsync(boundStatement.statement(), boundStatement.parameters(), mappedEntityType);
+    }
+
+    /**
+     * Retrieve a list of mapped objects from the statement key and parameter asynchronously.
+     *
+     * @param <T>  the returned model(vertex/edge) type.
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @param mappedEntityType mapped entity type
+     * @return future of the list of mapped object
+     */
+    @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType);
+
+    default @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Class<T> mappedEntityType) {
+        return selectListAsync(stmt, Collections.emptyMap(), mappedEntityType);
+    }
+
+    default @NotNull <T> CompletableFuture<List<T>> selectListAsync(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectListAsync(boundStatement.statement(), boundStatement.parameters(), mappedEntityType);
+    }
+
+    /**
+     * Retrieve the rows as key pair data from the statement key and parameter asynchronously.
+     *
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @return future of the rows containing key pair data.
+     */
+    @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters);
+
+    default @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt) {
+        return selectMapsAsync(stmt, Collections.emptyMap());
+    }
+
+    default @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull Wrapper<?> stmtWrapper) {
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectMapsAsync(boundStatement.statement(), boundStatement.parameters());
+    }
+
+    /**
+     * Execute a execution statement with the given parameters asynchronously.
+     *
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @return future of whether the execution succeeded.
+     */
+    @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters);
+
+    default @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt) {
+        return executeAsync(stmt, Collections.emptyMap());
+    }
+
+    default @NotNull CompletableFuture<Boolean> executeAsync(@NotNull Wrapper<?> stmtWrapper) {
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return executeAsync(boundStatement.statement(), boundStatement.parameters());
+    }
+
+    /**
+     * Retrieves configuration
+     *
+     * @return configuration
+     */
+    @NotNull MapleDslConfiguration configuration();
+}
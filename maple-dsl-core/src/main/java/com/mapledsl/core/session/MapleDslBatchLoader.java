@@ -0,0 +1,162 @@
+package com.mapledsl.core.session;
+
+import com.mapledsl.core.G;
+import com.mapledsl.core.model.Model;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * The MapleDslBatchLoader collects the single-id fetches of a vertex label issued within a small window, and loads
+ * them by one fetch statement, e.g. the {@code FETCH PROP ON tag id1,id2,...} of nebula or the
+ * {@code WHERE v.id IN [...]} of cypher, rendered by {@link G#vertex(Class, Collection)}.
+ * <p></p>
+ * A batch is dispatched once it reaches the maximum batch size, or the maximum delay elapsed since its first fetch.
+ * The duplicate ids within a batch are fetched once and share the same future, and every future is completed by
+ * the vertex of its id, or null if the vertex does not exist. The id of the fetched vertex must equal the requested
+ * one, e.g. of the same type.
+ * <p></p>
+ * The batches are executed by the async session, e.g. the {@link MapleDslSessionTemplate} or
+ * {@link MapleDslExecutorAsyncSession}, so the calling threads are never blocked by the fetch.
+ *
+ * @param <ID> the type of vertex id
+ * @param <V>  the type of vertex class
+ */
+public class MapleDslBatchLoader<ID, V extends Model.V<ID>> {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(2);
+
+    private final MapleDslAsyncSession asyncSession;
+    private final Class<V> label;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The fetches of the current batch by their ids, in the order of the first request.
+     */
+    private Map<ID, CompletableFuture<V>> pendingFetches = new LinkedHashMap<>();
+    private ScheduledFuture<?> pendingDispatch;
+
+    public MapleDslBatchLoader(@NotNull MapleDslAsyncSession asyncSession, @NotNull Class<V> label, @NotNull ScheduledExecutorService scheduler) {
+        this(asyncSession, label, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY, scheduler);
+    }
+
+    /**
+     * Creates an instance of MapleDslBatchLoader.
+     *
+     * @param asyncSession the async session executing the batches
+     * @param label        the vertex class to fetch
+     * @param maxBatchSize the maximum number of distinct ids fetched by one statement
+     * @param maxDelay     the maximum delay of a fetch waiting for its batch
+     * @param scheduler    the scheduler dispatching the batches on their delay
+     */
+    public MapleDslBatchLoader(@NotNull MapleDslAsyncSession asyncSession, @NotNull Class<V> label, int maxBatchSize, @NotNull Duration maxDelay, @NotNull ScheduledExecutorService scheduler) {
+        if (maxBatchSize <= 0) throw new IllegalArgumentException("Max batch size must be positive, but " + maxBatchSize);
+        if (maxDelay.isNegative()) throw new IllegalArgumentException("Max delay must not be negative, but " + maxDelay);
+        this.asyncSession = Objects.requireNonNull(asyncSession, "asyncSession must not be null.");
+        this.label = Objects.requireNonNull(label, "label must not be null.");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.scheduler = Objects.requireNonNull(scheduler, "scheduler must not be null.");
+    }
+
+    /**
+     * Fetches the vertex of the id within the current batch.
+     *
+     * @param id the vertex id
+     * @return the future of the vertex, completed by null if the vertex does not exist
+     */
+    public @NotNull CompletableFuture<V> load(@NotNull ID id) {
+        Objects.requireNonNull(id, "id must not be null.");
+
+        final CompletableFuture<V> future;
+        final Map<ID, CompletableFuture<V>> batch;
+        synchronized (this) {
+            final CompletableFuture<V> pendingFetch = pendingFetches.get(id);
+            if (pendingFetch != null) return pendingFetch;
+
+            future = new CompletableFuture<>();
+            pendingFetches.put(id, future);
+            if (pendingFetches.size() >= maxBatchSize) batch = drain();
+            else {
+                if (pendingFetches.size() == 1) pendingDispatch = scheduler.schedule(() -> dispatch(), maxDelayNanos, TimeUnit.NANOSECONDS);
+                batch = null;
+            }
+        }
+
+        if (batch != null) dispatch(batch);
+        return future;
+    }
+
+    /**
+     * Fetches the vertices of the ids within the current batch.
+     *
+     * @param ids the vertex ids
+     * @return the future of the vertices in the order of the ids, the absent vertices are null
+     */
+    public @NotNull CompletableFuture<List<V>> loadMany(@NotNull Collection<ID> ids) {
+        final List<CompletableFuture<V>> futures = new ArrayList<>(ids.size());
+        for (ID id : ids) futures.add(load(id));
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            final List<V> vertices = new ArrayList<>(futures.size());
+            for (CompletableFuture<V> future : futures) vertices.add(future.join());
+            return vertices;
+        });
+    }
+
+    /**
+     * Dispatches the current batch immediately.
+     */
+    public void dispatch() {
+        final Map<ID, CompletableFuture<V>> batch;
+        synchronized (this) {
+            if (pendingFetches.isEmpty()) return;
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    private Map<ID, CompletableFuture<V>> drain() {
+        final Map<ID, CompletableFuture<V>> batch = pendingFetches;
+        pendingFetches = new LinkedHashMap<>();
+        if (pendingDispatch != null) {
+            pendingDispatch.cancel(false);
+            pendingDispatch = null;
+        }
+        return batch;
+    }
+
+    private void dispatch(Map<ID, CompletableFuture<V>> batch) {
+        final CompletableFuture<List<V>> vertices;
+        try {
+            vertices = asyncSession.selectListAsync(G.vertex(label, batch.keySet()), label);
+        } catch (RuntimeException e) {
+            for (CompletableFuture<V> future : batch.values()) future.completeExceptionally(e);
+            return;
+        }
+
+        vertices.whenComplete((ret, t) -> {
+            if (t != null) {
+                final Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                for (CompletableFuture<V> future : batch.values()) future.completeExceptionally(cause);
+                return;
+            }
+
+            final Map<ID, V> vertexMap = new HashMap<>(ret.size() * 4 / 3 + 1);
+            for (V vertex : ret) {
+                if (vertex != null) vertexMap.putIfAbsent(vertex.id(), vertex);
+            }
+            for (Map.Entry<ID, CompletableFuture<V>> entry : batch.entrySet()) {
+                entry.getValue().complete(vertexMap.get(entry.getKey()));
+            }
+        });
+    }
+}
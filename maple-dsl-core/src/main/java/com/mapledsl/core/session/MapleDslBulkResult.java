@@ -0,0 +1,111 @@
+package com.mapledsl.core.session;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The MapleDslBulkResult reports the outcome of a bulk write chunk by chunk, a failed chunk keeps its models
+ * and its offset in the written collection, so that the caller is able to retry or log exactly the failed part.
+ *
+ * @param <M> the type of the written models
+ * @see MapleDslBulkWriter
+ */
+public final class MapleDslBulkResult<M> {
+    private final int total;
+    private final int chunks;
+    private final @NotNull List<Failure<M>> failures;
+
+    MapleDslBulkResult(int total, int chunks, @NotNull List<Failure<M>> failures) {
+        this.total = total;
+        this.chunks = chunks;
+        this.failures = Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * @return true if every chunk succeeded
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * @return the number of models to write
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * @return the number of models in the succeeded chunks
+     */
+    public int written() {
+        int failed = 0;
+        for (Failure<M> failure : failures) failed += failure.models.size();
+        return total - failed;
+    }
+
+    /**
+     * @return the number of executed chunks
+     */
+    public int chunks() {
+        return chunks;
+    }
+
+    /**
+     * @return the failed chunks in the order of their offset
+     */
+    public @NotNull List<Failure<M>> failures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return "MapleDslBulkResult{written=" + written() + "/" + total + ", chunks=" + chunks + ", failures=" + failures + "}";
+    }
+
+    /**
+     * A failed chunk of the bulk write.
+     *
+     * @param <M> the type of the written models
+     */
+    public static final class Failure<M> {
+        private final int offset;
+        private final @NotNull List<M> models;
+        private final @Nullable Throwable cause;
+
+        Failure(int offset, @NotNull List<M> models, @Nullable Throwable cause) {
+            this.offset = offset;
+            this.models = models;
+            this.cause = cause;
+        }
+
+        /**
+         * @return the offset of the first model of the chunk in the written collection
+         */
+        public int offset() {
+            return offset;
+        }
+
+        /**
+         * @return the models of the chunk
+         */
+        public @NotNull List<M> models() {
+            return models;
+        }
+
+        /**
+         * @return the exception of the chunk, or null if the statement was executed but reported unsuccessful
+         */
+        public @Nullable Throwable cause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{offset=" + offset + ", size=" + models.size() + ", cause=" + cause + "}";
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.mapledsl.core.session;
+
+import com.mapledsl.core.G;
+import com.mapledsl.core.MapleDslBoundStatement;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.model.Model;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The MapleDslBulkWriter writes large collections of models by splitting them into chunks of the configured size,
+ * every chunk is rendered as one bulk statement, e.g. the multi-row {@code INSERT VERTEX ... VALUES} of nebula or
+ * the {@code UNWIND $rows AS r MERGE ...} of cypher, and the chunks are executed in parallel by the async session.
+ * <p></p>
+ * At most {@code parallelism} chunks are in flight at once, every chunk is rendered only when it is dispatched and
+ * the next chunk is dispatched as soon as one completes, so neither the rendered statements nor the queue of the
+ * async session grow with the size of the collection. The parallelism should stay within the capacity of the async
+ * session, e.g. the queue of the executor behind a {@link MapleDslExecutorAsyncSession}, which rejects the overflow.
+ * <p></p>
+ * A chunk whose statement exceeds the configured byte length is split in halves until it fits, a single model
+ * exceeding it is still sent on its own. The rows bound as native parameter do not count into the statement length.
+ * <p></p>
+ * The {@link MapleDslExecutorAsyncSession} runs every chunk on a pooled session of its executor, so a
+ * {@link MapleDslSessionTemplate} is the usual async session to write with.
+ *
+ * @see G#insertVertex(Collection)
+ * @see G#upsertVertex(Collection)
+ * @see G#insertEdge(Collection)
+ * @see G#upsertEdge(Collection)
+ */
+public class MapleDslBulkWriter {
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+    /**
+     * The default statement byte length, as the same as the default {@code max_allowed_query_size} of nebula graphd.
+     */
+    public static final int DEFAULT_MAX_STATEMENT_BYTES = 4 * 1024 * 1024;
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final MapleDslAsyncSession asyncSession;
+    private final int chunkSize;
+    private final int maxStatementBytes;
+    private final int parallelism;
+
+    public MapleDslBulkWriter(@NotNull MapleDslAsyncSession asyncSession) {
+        this(asyncSession, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MapleDslBulkWriter(@NotNull MapleDslAsyncSession asyncSession, int chunkSize) {
+        this(asyncSession, chunkSize, DEFAULT_MAX_STATEMENT_BYTES);
+    }
+
+    public MapleDslBulkWriter(@NotNull MapleDslAsyncSession asyncSession, int chunkSize, int maxStatementBytes) {
+        this(asyncSession, chunkSize, maxStatementBytes, DEFAULT_PARALLELISM);
+    }
+
+    public MapleDslBulkWriter(@NotNull MapleDslAsyncSession asyncSession, int chunkSize, int maxStatementBytes, int parallelism) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive, but " + chunkSize);
+        if (maxStatementBytes <= 0) throw new IllegalArgumentException("Max statement bytes must be positive, but " + maxStatementBytes);
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive, but " + parallelism);
+        this.asyncSession = asyncSession;
+        this.chunkSize = chunkSize;
+        this.maxStatementBytes = maxStatementBytes;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Inserts the vertices chunk by chunk, the existing vertices are left untouched.
+     *
+     * @param <V>      the type of vertex class, every vertex must be the same class.
+     * @param vertices the vertices to insert
+     * @return the result reporting the failed chunks
+     */
+    public <V extends Model.V<?>> @NotNull MapleDslBulkResult<V> insertVertices(@NotNull Collection<V> vertices) {
+        return write(vertices, G::insertVertex);
+    }
+
+    /**
+     * Inserts the vertices chunk by chunk, the properties of the existing vertices are overwritten.
+     *
+     * @param <V>      the type of vertex class, every vertex must be the same class.
+     * @param vertices the vertices to upsert
+     * @return the result reporting the failed chunks
+     */
+    public <V extends Model.V<?>> @NotNull MapleDslBulkResult<V> upsertVertices(@NotNull Collection<V> vertices) {
+        return write(vertices, G::upsertVertex);
+    }
+
+    /**
+     * Inserts the edges chunk by chunk, the existing edges are left untouched.
+     *
+     * @param <E>   the type of edge class, every edge must be the same class.
+     * @param edges the edges to insert
+     * @return the result reporting the failed chunks
+     */
+    public <E extends Model.E<?,?>> @NotNull MapleDslBulkResult<E> insertEdges(@NotNull Collection<E> edges) {
+        return write(edges, G::insertEdge);
+    }
+
+    /**
+     * Inserts the edges chunk by chunk, the existing edges are left untouched, the endpoints are matched by their labels.
+     *
+     * @param <E>      the type of edge class, every edge must be the same class.
+     * @param edges    the edges to insert
+     * @param srcLabel the vertex class of the source vertices
+     * @param dstLabel the vertex class of the destination vertices
+     * @return the result reporting the failed chunks
+     * @see G#insertEdge(Collection, Class, Class)
+     */
+    public <E extends Model.E<?,?>> @NotNull MapleDslBulkResult<E> insertEdges(@NotNull Collection<E> edges, @NotNull Class<? extends Model.V<?>> srcLabel,
+                                                                              @NotNull Class<? extends Model.V<?>> dstLabel) {
+        return write(edges, chunk -> G.insertEdge(chunk, srcLabel, dstLabel));
+    }
+
+    /**
+     * Inserts the edges chunk by chunk, the properties of the existing edges are overwritten.
+     *
+     * @param <E>   the type of edge class, every edge must be the same class.
+     * @param edges the edges to upsert
+     * @return the result reporting the failed chunks
+     */
+    public <E extends Model.E<?,?>> @NotNull MapleDslBulkResult<E> upsertEdges(@NotNull Collection<E> edges) {
+        return write(edges, G::upsertEdge);
+    }
+
+    /**
+     * Inserts the edges chunk by chunk, the properties of the existing edges are overwritten, the endpoints are matched by their labels.
+     *
+     * @param <E>      the type of edge class, every edge must be the same class.
+     * @param edges    the edges to upsert
+     * @param srcLabel the vertex class of the source vertices
+     * @param dstLabel the vertex class of the destination vertices
+     * @return the result reporting the failed chunks
+     * @see G#upsertEdge(Collection, Class, Class)
+     */
+    public <E extends Model.E<?,?>> @NotNull MapleDslBulkResult<E> upsertEdges(@NotNull Collection<E> edges, @NotNull Class<? extends Model.V<?>> srcLabel,
+                                                                              @NotNull Class<? extends Model.V<?>> dstLabel) {
+        return write(edges, chunk -> G.upsertEdge(chunk, srcLabel, dstLabel));
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    public int maxStatementBytes() {
+        return maxStatementBytes;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Writes the models chunk by chunk, and blocks until every chunk completes. The rows are always bound as native
+     * parameter where the dialect refers them as a whole.
+     */
+    private <M extends Model<?>> MapleDslBulkResult<M> write(Collection<M> models, Function<List<M>, Wrapper<?>> stmtFunc) {
+        if (models.isEmpty()) return new MapleDslBulkResult<>(0, 0, new ArrayList<>(0));
+
+        final List<M> modelList = models instanceof List ? (List<M>) models : new ArrayList<>(models);
+        final BulkWrite<M> bulkWrite = new BulkWrite<>(modelList, stmtFunc);
+        try {
+            return bulkWrite.start(Math.min(parallelism, bulkWrite.pending.size())).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
+        }
+    }
+
+    static int utf8Length(CharSequence text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c < 0x80) length += 1;
+            else if (c < 0x800) length += 2;
+            else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else length += 3;
+        }
+        return length;
+    }
+
+    /**
+     * The state of one write, shared by its lanes, the chunks are the {@code [from, to)} ranges of the models.
+     */
+    final class BulkWrite<M extends Model<?>> extends MapleDslLaneDispatcher<int[], Boolean, MapleDslBulkResult<M>> {
+        final MapleDslConfiguration context = asyncSession.configuration();
+        final List<M> models;
+        final Function<List<M>, Wrapper<?>> stmtFunc;
+        /**
+         * The ranges of the chunks left, the halves of a split chunk are pushed back to its head.
+         */
+        final Deque<int[]> pending = new ArrayDeque<>();
+        final List<MapleDslBulkResult.Failure<M>> failures = new ArrayList<>();
+        final AtomicInteger chunks = new AtomicInteger();
+
+        BulkWrite(List<M> models, Function<List<M>, Wrapper<?>> stmtFunc) {
+            this.models = models;
+            this.stmtFunc = stmtFunc;
+            for (int from = 0; from < models.size(); from += chunkSize) {
+                pending.add(new int[]{ from, Math.min(from + chunkSize, models.size()) });
+            }
+        }
+
+        @Override
+        int[] next() {
+            synchronized (pending) {
+                return pending.poll();
+            }
+        }
+
+        /**
+         * Renders the chunk only when it is dispatched, splits it in halves if the statement exceeds the byte length.
+         */
+        @Override
+        CompletableFuture<Boolean> dispatch(int[] range) {
+            final MapleDslBoundStatement stmt = MapleDslBoundStatement.bind(stmtFunc.apply(models.subList(range[0], range[1])), context);
+            if (range[1] - range[0] > 1 && utf8Length(stmt.statement()) > maxStatementBytes) {
+                final int mid = (range[0] + range[1]) >>> 1;
+                synchronized (pending) {
+                    pending.addFirst(new int[]{ mid, range[1] });
+                    pending.addFirst(new int[]{ range[0], mid });
+                }
+                return null;
+            }
+
+            chunks.incrementAndGet();
+            return asyncSession.executeAsync(stmt.statement(), stmt.parameters());
+        }
+
+        /**
+         * Records the failed chunk, the write goes on with the chunks left.
+         */
+        @Override
+        boolean complete(int[] range, Boolean succeeded, Throwable t) {
+            if (t == null && Boolean.TRUE.equals(succeeded)) return true;
+
+            synchronized (failures) {
+                failures.add(new MapleDslBulkResult.Failure<>(range[0], models.subList(range[0], range[1]), unwrap(t)));
+            }
+            return true;
+        }
+
+        /**
+         * Reports the failed chunks in the order of their offset.
+         */
+        @Override
+        void finish() {
+            failures.sort(Comparator.comparingInt(MapleDslBulkResult.Failure::offset));
+            ret.complete(new MapleDslBulkResult<>(models.size(), chunks.get(), failures));
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.mapledsl.core.session;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.exception.MapleDslException;
+import com.mapledsl.core.model.Model;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The MapleDslCachingSessionFactory decorates a session factory with a result cache shared by its sessions,
+ * the query results are cached by the rendered statement, the bound parameters and the mapped type,
+ * and evicted once the cache exceeds the maximum size or the entries expire after the time-to-live.
+ * <p></p>
+ * A query served by the cache never opens the underlying session. An {@code execute} through the sessions of this
+ * factory invalidates the cached results of the labels it mentions, and the whole cache if it mentions no known label,
+ * e.g. {@code DELETE VERTEX "p001"}. The labels are the ones of the model classes resolved by the configuration, see
+ * {@link MapleDslConfiguration#labels()}, the cached results mentioning no known label are invalidated by every
+ * {@code execute}. A statement deleting vertices also drops their edges and properties of the labels it does not
+ * mention, e.g. {@code DELETE VERTEX ... WITH EDGE} of nebula, {@code DETACH DELETE} of cypher or the deletes piped
+ * after a traversal, so every {@code DELETE} other than {@code DELETE EDGE} and {@code DELETE TAG} invalidates the
+ * whole cache. The writes which do not go through this factory are only caught up by the expiration.
+ * <p></p>
+ * The cached results are shared between the callers, the lists and maps are unmodifiable, and the mapped beans
+ * should be treated as read-only. The cursors are never cached.
+ * <p></p>
+ * The hit ratio, the evictions and the load latency are exposed as metrics, e.g. {@link #hitRate()}.
+ */
+public class MapleDslCachingSessionFactory implements MapleDslSessionFactory {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final MapleDslSessionFactory sessionFactory;
+    private final @Nullable Executor executor;
+    private final Cache<CacheKey, Object> resultCache;
+    /**
+     * key: label, value: the keys of the cached results mentioning the label,
+     * the results mentioning no known label are kept under {@link #UNLABELED}.
+     */
+    private final Map<String, Set<CacheKey>> labelIndex = new ConcurrentHashMap<>();
+    /**
+     * Bumped by every invalidation, a result loaded across an invalidation is not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder loadCounter = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder invalidationCounter = new LongAdder();
+
+    private static final String UNLABELED = "";
+
+    public MapleDslCachingSessionFactory(@NotNull MapleDslSessionFactory sessionFactory) {
+        this(sessionFactory, DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE, null);
+    }
+
+    /**
+     * Creates an instance of MapleDslCachingSessionFactory.
+     *
+     * @param sessionFactory the decorated session factory
+     * @param maximumSize    the maximum number of cached results
+     * @param timeToLive     the duration a result is cached after it was loaded
+     * @param executor       the executor of the async sessions, which are not supported if null
+     */
+    public MapleDslCachingSessionFactory(@NotNull MapleDslSessionFactory sessionFactory, long maximumSize, @NotNull Duration timeToLive, @Nullable Executor executor) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive.");
+        if (timeToLive.isNegative() || timeToLive.isZero()) throw new IllegalArgumentException("timeToLive must be positive.");
+
+        this.sessionFactory = Objects.requireNonNull(sessionFactory, "sessionFactory must not be null.");
+        this.executor = executor;
+        this.resultCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS)
+                .removalListener(notification -> {
+                    // the replaced key is indexed already by its replacement.
+                    if (notification.getCause() != RemovalCause.REPLACED) unindex((CacheKey) notification.getKey());
+                })
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public MapleDslSession openSession() {
+        return new CachingSession();
+    }
+
+    @Override
+    public MapleDslAsyncSession openAsyncSession() {
+        if (executor == null) return MapleDslSessionFactory.super.openAsyncSession();
+        return new MapleDslExecutorAsyncSession(this, executor);
+    }
+
+    @Override
+    public MapleDslConfiguration configuration() {
+        return sessionFactory.configuration();
+    }
+
+    /**
+     * Invalidates the cached results mentioning the label, and the ones mentioning no known label.
+     *
+     * @param label the label of vertex or edge
+     */
+    public void invalidate(@NotNull String label) {
+        invalidate(Collections.singletonList(label));
+    }
+
+    /**
+     * Invalidates every cached result.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidationCounter.increment();
+        resultCache.invalidateAll();
+    }
+
+    /**
+     * @return the ratio of the queries served by the cache, 1.0 if no query has been made
+     */
+    public double hitRate() {
+        return resultCache.stats().hitRate();
+    }
+
+    public long hitCount() {
+        return resultCache.stats().hitCount();
+    }
+
+    public long missCount() {
+        return resultCache.stats().missCount();
+    }
+
+    /**
+     * @return the number of results evicted by the maximum size or the expiration, the invalidations are not counted
+     */
+    public long evictionCount() {
+        return resultCache.stats().evictionCount();
+    }
+
+    /**
+     * @return the number of invalidations made by the executions or explicitly
+     */
+    public long invalidationCount() {
+        return invalidationCounter.sum();
+    }
+
+    /**
+     * @return the number of results loaded from the underlying sessions
+     */
+    public long loadCount() {
+        return loadCounter.sum();
+    }
+
+    /**
+     * @return the average nanoseconds spent loading a result from the underlying sessions
+     */
+    public double averageLoadPenalty() {
+        final long loadCount = loadCounter.sum();
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime.sum() / loadCount;
+    }
+
+    /**
+     * @return the approximate number of cached results
+     */
+    public long size() {
+        return resultCache.size();
+    }
+
+    /**
+     * Returns the cached result of the key, or loads it through the underlying session and caches it
+     * unless an invalidation happened meanwhile.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T cached(CacheKey key, Supplier<T> loader) {
+        final Object cached = resultCache.getIfPresent(key);
+        if (cached != null) return cached == NullResult.INSTANCE ? null : (T) cached;
+
+        final long loadGeneration = generation.get();
+        final long startTime = System.nanoTime();
+        final T result = loader.get();
+        totalLoadTime.add(System.nanoTime() - startTime);
+        loadCounter.increment();
+
+        if (generation.get() != loadGeneration) return result;
+
+        final CacheKey copiedKey = key.copy();
+        index(copiedKey);
+        resultCache.put(copiedKey, result == null ? NullResult.INSTANCE : result);
+        // an invalidation raced with the put may have missed the index.
+        if (generation.get() != loadGeneration) resultCache.invalidate(copiedKey);
+
+        return result;
+    }
+
+    /**
+     * Invalidates the cached results of the labels mentioned by the executed statement,
+     * or every cached result if the statement deletes vertices or mentions no known label.
+     */
+    void invalidateExecuted(@NotNull String stmt) {
+        final List<String> labels = deletesVertices(stmt) ? Collections.emptyList() : labels(stmt);
+        if (labels.isEmpty()) invalidateAll();
+        else invalidate(labels);
+    }
+
+    private void invalidate(Collection<String> labels) {
+        generation.incrementAndGet();
+        invalidationCounter.increment();
+        for (String label : labels) invalidateIndexed(label);
+        invalidateIndexed(UNLABELED);
+    }
+
+    private void invalidateIndexed(String label) {
+        final Set<CacheKey> keys = labelIndex.remove(label);
+        if (keys != null) resultCache.invalidateAll(keys);
+    }
+
+    private void index(CacheKey key) {
+        if (key.labels.isEmpty()) {
+            labelIndex.computeIfAbsent(UNLABELED, it -> ConcurrentHashMap.newKeySet()).add(key);
+            return;
+        }
+        for (String label : key.labels) labelIndex.computeIfAbsent(label, it -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private void unindex(CacheKey key) {
+        if (key.labels.isEmpty()) {
+            final Set<CacheKey> keys = labelIndex.get(UNLABELED);
+            if (keys != null) keys.remove(key);
+            return;
+        }
+        for (String label : key.labels) {
+            final Set<CacheKey> keys = labelIndex.get(label);
+            if (keys != null) keys.remove(key);
+        }
+    }
+
+    /**
+     * Collects the known labels mentioned by the statement out of the quoted string literals.
+     */
+    List<String> labels(String stmt) {
+        final Set<String> knownLabels = configuration().labels();
+        if (knownLabels.isEmpty()) return Collections.emptyList();
+
+        List<String> labels = Collections.emptyList();
+        for (int i = 0, length = stmt.length(); i < length; i++) {
+            final char c = stmt.charAt(i);
+            if (c == '"' || c == '\'') {
+                // skip the string literal with its backslash escapes.
+                for (i++; i < length && stmt.charAt(i) != c; i++) {
+                    if (stmt.charAt(i) == '\\') i++;
+                }
+                continue;
+            }
+            if (!isIdentifierPart(c)) continue;
+
+            final int begin = i;
+            while (i + 1 < length && isIdentifierPart(stmt.charAt(i + 1))) i++;
+            final String token = stmt.substring(begin, i + 1);
+            if (!knownLabels.contains(token) || labels.contains(token)) continue;
+
+            if (labels.isEmpty()) labels = new ArrayList<>(2);
+            labels.add(token);
+        }
+
+        return labels;
+    }
+
+    /**
+     * Whether the statement has a {@code DELETE} out of the quoted string literals, which is not followed by
+     * {@code EDGE} or {@code TAG}, e.g. {@code DELETE VERTEX}, {@code DETACH DELETE v} or {@code | DELETE $-.dst}.
+     */
+    private static boolean deletesVertices(String stmt) {
+        for (int i = 0, length = stmt.length(); i < length; i++) {
+            final char c = stmt.charAt(i);
+            if (c == '"' || c == '\'') {
+                // skip the string literal with its backslash escapes.
+                for (i++; i < length && stmt.charAt(i) != c; i++) {
+                    if (stmt.charAt(i) == '\\') i++;
+                }
+                continue;
+            }
+            if (!isIdentifierPart(c)) continue;
+
+            final int begin = i;
+            while (i + 1 < length && isIdentifierPart(stmt.charAt(i + 1))) i++;
+            if (i + 1 - begin != 6 || !stmt.regionMatches(true, begin, "DELETE", 0, 6)) continue;
+
+            int next = i + 1;
+            while (next < length && Character.isWhitespace(stmt.charAt(next))) next++;
+            int end = next;
+            while (end < length && isIdentifierPart(stmt.charAt(end))) end++;
+            final boolean edge = end - next == 4 && stmt.regionMatches(true, next, "EDGE", 0, 4);
+            final boolean tag = end - next == 3 && stmt.regionMatches(true, next, "TAG", 0, 3);
+            if (!edge && !tag) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Wraps the rows as well as the list, the rows are shared by every later hit of the cache.
+     */
+    private static List<Map<String, Object>> unmodifiableRows(List<Map<String, Object>> rows) {
+        final List<Map<String, Object>> ret = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) ret.add(Collections.unmodifiableMap(row));
+        return Collections.unmodifiableList(ret);
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * The cache key made of the kind of query, the rendered statement, the bound parameters and the mapped type.
+     */
+    final class CacheKey {
+        final String kind;
+        final String stmt;
+        final Map<String, Object> parameters;
+        final @Nullable Class<?> mappedType;
+        final List<String> labels;
+        private final int hash;
+
+        CacheKey(String kind, String stmt, Map<String, Object> parameters, @Nullable Class<?> mappedType) {
+            this(kind, stmt, parameters, mappedType, null);
+        }
+
+        private CacheKey(String kind, String stmt, Map<String, Object> parameters, @Nullable Class<?> mappedType, @Nullable List<String> labels) {
+            this.kind = kind;
+            this.stmt = stmt;
+            this.parameters = parameters;
+            this.mappedType = mappedType;
+            this.labels = labels == null ? Collections.emptyList() : labels;
+            this.hash = Objects.hash(kind, stmt, parameters, mappedType);
+        }
+
+        /**
+         * @return the key owning a copy of the parameters, with the mentioned labels resolved
+         */
+        CacheKey copy() {
+            final Map<String, Object> copiedParameters = parameters.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(parameters));
+            return new CacheKey(kind, stmt, copiedParameters, mappedType, labels(stmt));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof CacheKey)) return false;
+
+            final CacheKey that = (CacheKey) o;
+            return hash == that.hash && kind.equals(that.kind) && stmt.equals(that.stmt)
+                    && Objects.equals(mappedType, that.mappedType) && parameters.equals(that.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The placeholder of the cached null results, the cache does not hold null.
+     */
+    enum NullResult {
+        INSTANCE
+    }
+
+    /**
+     * The session serving the queries from the result cache, the underlying session is opened on the first miss
+     * and closed with this session.
+     */
+    final class CachingSession implements MapleDslSession {
+        private MapleDslSession session;
+
+        private MapleDslSession session() {
+            if (session == null) session = sessionFactory.openSession();
+            return session;
+        }
+
+        private <T> T cached(String kind, String stmt, Map<String, Object> parameters, @Nullable Class<?> mappedType, Function<MapleDslSession, T> loader) {
+            return MapleDslCachingSessionFactory.this.cached(new CacheKey(kind, stmt, parameters, mappedType), () -> loader.apply(session()));
+        }
+
+        @Override
+        public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt) {
+            return selectVertex(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("V", stmt, parameters, null, it -> it.selectVertex(stmt, parameters));
+        }
+
+        @Override
+        public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt) {
+            return selectVertexList(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("VL", stmt, parameters, null, it -> Collections.unmodifiableList(it.<ID>selectVertexList(stmt, parameters)));
+        }
+
+        @Override
+        public <ID, R> Model.@Nullable E<ID, R> selectEdge(@NotNull String stmt) {
+            return selectEdge(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public <ID, R> Model.@Nullable E<ID, R> selectEdge(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("E", stmt, parameters, null, it -> it.selectEdge(stmt, parameters));
+        }
+
+        @Override
+        public <ID, R> @NotNull List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt) {
+            return selectEdgeList(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public <ID, R> @NotNull List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("EL", stmt, parameters, null, it -> Collections.unmodifiableList(it.<ID, R>selectEdgeList(stmt, parameters)));
+        }
+
+        @Override
+        public <T> T selectOne(String stmt, Class<T> mappedEntityType) {
+            return selectOne(stmt, Collections.emptyMap(), mappedEntityType);
+        }
+
+        @Override
+        public <T> T selectOne(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+            return cached("O", stmt, parameters, mappedEntityType, it -> it.selectOne(stmt, parameters, mappedEntityType));
+        }
+
+        @Override
+        public <T> @NotNull List<T> selectList(String stmt, Class<T> mappedEntityType) {
+            return selectList(stmt, Collections.emptyMap(), mappedEntityType);
+        }
+
+        @Override
+        public <T> @NotNull List<T> selectList(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+            return cached("L", stmt, parameters, mappedEntityType, it -> Collections.unmodifiableList(it.selectList(stmt, parameters, mappedEntityType)));
+        }
+
+        @Override
+        public <T> @NotNull MapleDslCursor<T> selectCursor(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+            return session().selectCursor(stmt, parameters, mappedEntityType, fetchSize);
+        }
+
+        @Override
+        public @NotNull Map<String, Object> selectMap(@NotNull String stmt) {
+            return selectMap(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public @NotNull Map<String, Object> selectMap(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("M", stmt, parameters, null, it -> Collections.unmodifiableMap(it.selectMap(stmt, parameters)));
+        }
+
+        @Override
+        public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt) {
+            return selectMaps(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            return cached("ML", stmt, parameters, null, it -> unmodifiableRows(it.selectMaps(stmt, parameters)));
+        }
+
+        @Override
+        public boolean execute(@NotNull String stmt) throws MapleDslException {
+            return execute(stmt, Collections.emptyMap());
+        }
+
+        /**
+         * Executes the statement on the underlying session, then invalidates the cached results of the labels
+         * mentioned by the statement, even if the execution failed halfway.
+         */
+        @Override
+        public boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) throws MapleDslException {
+            try {
+                return session().execute(stmt, parameters);
+            } finally {
+                invalidateExecuted(stmt);
+            }
+        }
+
+        /**
+         * Executes the statements on the underlying session, then invalidates every cached result.
+         */
+        @Override
+        public boolean executeBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers) throws MapleDslException {
+            try {
+                return session().executeBatch(stmtWrappers);
+            } finally {
+                invalidateAll();
+            }
+        }
+
+        @Override
+        public void close() {
+            if (session == null) return;
+            session.close();
+            session = null;
+        }
+
+        @Override
+        public @NotNull MapleDslConfiguration configuration() {
+            return MapleDslCachingSessionFactory.this.configuration();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.mapledsl.core.session;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The MapleDslCursor represents the rows of a query mapped lazily while iterating, instead of being collected
+ * into a list up-front.
+ * <p></p>
+ * A cursor holds the underlying result(and possibly the session) until it is exhausted or closed, so it should be
+ * used in a try-with-resources block, or through {@link #stream()} whose {@code close} closes the cursor.
+ *
+ * @param <T> the mapped entity type
+ * @see MapleDslSession#selectCursor(String, java.util.Map, Class, int)
+ */
+public interface MapleDslCursor<T> extends Iterator<T>, Closeable {
+    /**
+     * The default number of rows fetched and mapped at a time, aligned with the default fetch size of the Neo4j driver.
+     */
+    int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * Closes the cursor and releases the underlying result, remaining rows are discarded.
+     */
+    @Override void close();
+
+    /**
+     * Returns a sequential stream over the remaining rows, closing the stream closes the cursor.
+     *
+     * @return the stream of mapped rows
+     */
+    default @NotNull Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    /**
+     * Returns a cursor which runs the given handler after this cursor is closed, either explicitly or once it is exhausted.
+     *
+     * @param closeHandler the handler to run on close
+     * @return the cursor delegating to this cursor
+     */
+    default @NotNull MapleDslCursor<T> onClose(@NotNull Runnable closeHandler) {
+        return new MapleDslIteratorCursor<>(this, () -> {
+            try {
+                close();
+            } finally {
+                closeHandler.run();
+            }
+        });
+    }
+
+    /**
+     * Returns a cursor over the rows already collected by the given iterator.
+     *
+     * @param iterator the iterator of the rows
+     * @param <T> the mapped entity type
+     * @return the cursor over the iterator
+     */
+    static <T> @NotNull MapleDslCursor<T> of(@NotNull Iterator<T> iterator) {
+        return new MapleDslIteratorCursor<>(iterator, null);
+    }
+
+    /**
+     * Returns a cursor over the rows already collected by the given iterator, which runs the handler on close.
+     *
+     * @param iterator the iterator of the rows
+     * @param closeHandler the handler to run on close
+     * @param <T> the mapped entity type
+     * @return the cursor over the iterator
+     */
+    static <T> @NotNull MapleDslCursor<T> of(@NotNull Iterator<T> iterator, @Nullable Runnable closeHandler) {
+        return new MapleDslIteratorCursor<>(iterator, closeHandler);
+    }
+}
@@ -0,0 +1,80 @@
+package com.mapledsl.core.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.exception.MapleDslException;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * The MapleDslExecutorAsyncSession runs the blocking sessions of a session factory on the given executor,
+ * for drivers without a native asynchronous API.
+ * <p></p>
+ * Every invocation opens a session on the executor, runs the query and closes it, so the number of in-flight queries
+ * is bounded by the executor rather than by the calling threads. A saturated executor completes the future exceptionally
+ * instead of blocking the caller.
+ */
+public class MapleDslExecutorAsyncSession implements MapleDslAsyncSession {
+    private final MapleDslSessionFactory sessionFactory;
+    private final Executor executor;
+
+    public MapleDslExecutorAsyncSession(@NotNull MapleDslSessionFactory sessionFactory, @NotNull Executor executor) {
+        this.sessionFactory = sessionFactory;
+        this.executor = executor;
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return supplyAsync(session -> session.selectOne(stmt, parameters, mappedEntityType));
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return supplyAsync(session -> session.selectList(stmt, parameters, mappedEntityType));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return supplyAsync(session -> session.selectMaps(stmt, parameters));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return supplyAsync(session -> session.execute(stmt, parameters));
+    }
+
+    @Override
+    public @NotNull MapleDslConfiguration configuration() {
+        return sessionFactory.configuration();
+    }
+
+    private <R> CompletableFuture<R> supplyAsync(Function<MapleDslSession, R> sessionFunc) {
+        final CompletableFuture<R> ret = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // complete after the session is closed, so the session is back to the pool once the caller observes the result.
+                final R result;
+                try (MapleDslSession session = sessionFactory.openSession()) {
+                    result = sessionFunc.apply(session);
+                } catch (MapleDslException e) {
+                    ret.completeExceptionally(e);
+                    return;
+                } catch (Throwable t) {
+                    ret.completeExceptionally(new MapleDslExecutionException(t));
+                    return;
+                }
+                ret.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            ret.completeExceptionally(new MapleDslExecutionException("Async execution rejected. Cause: " + e.getMessage(), e));
+        }
+
+        return ret;
+    }
+}
@@ -0,0 +1,219 @@
+package com.mapledsl.core.session;
+
+import com.mapledsl.core.G;
+import com.mapledsl.core.MapleDslBoundStatement;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.exception.MapleDslException;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The MapleDslFanOutReader reads the rows of very large id collections by splitting the ids into chunks of the
+ * configured size, every chunk is rendered by the same wrapper shape, e.g. {@code ids -> G.vertex(Person.class, ids)}
+ * or {@code ids -> G.traverse(ids).outE(Follow.class)}, and the chunks are executed concurrently by the async session.
+ * <p></p>
+ * At most {@code parallelism} chunks are in flight at once, the next chunk is dispatched as soon as one completes.
+ * The rows are merged in the order of the chunks, sorted by the given comparator if any, and cut to the given limit.
+ * Without a comparator, the chunks left are never dispatched once the limit is reached; with a comparator every
+ * chunk is read, so the limit is better applied to the chunk wrapper as well, e.g. {@code orderByDesc} and
+ * {@code limit}, to keep the merged rows small. The first failed chunk fails the whole read.
+ * <p></p>
+ * The async session is usually a {@link MapleDslExecutorAsyncSession} over the executor of {@link #newExecutor(int)},
+ * so every chunk runs on a pooled session of its own.
+ *
+ * @see G#vertex(Class, Collection)
+ * @see G#traverse(Collection)
+ */
+public class MapleDslFanOutReader {
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+    public static final int DEFAULT_PARALLELISM = 8;
+    /**
+     * Represents the absence of the limit.
+     */
+    public static final int NO_LIMIT = -1;
+    /**
+     * The queued chunks per thread before the executor of {@link #newExecutor(int)} rejects new ones.
+     */
+    static final int EXECUTOR_QUEUE_CAPACITY_PER_THREAD = 32;
+
+    private final MapleDslAsyncSession asyncSession;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public MapleDslFanOutReader(@NotNull MapleDslAsyncSession asyncSession) {
+        this(asyncSession, DEFAULT_CHUNK_SIZE);
+    }
+
+    public MapleDslFanOutReader(@NotNull MapleDslAsyncSession asyncSession, int chunkSize) {
+        this(asyncSession, chunkSize, DEFAULT_PARALLELISM);
+    }
+
+    public MapleDslFanOutReader(@NotNull MapleDslAsyncSession asyncSession, int chunkSize, int parallelism) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Chunk size must be positive, but " + chunkSize);
+        if (parallelism <= 0) throw new IllegalArgumentException("Parallelism must be positive, but " + parallelism);
+        this.asyncSession = asyncSession;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates the executor to run the chunks on, the virtual thread per task executor on Java 21 and later,
+     * otherwise a pool of {@code parallelism} daemon threads, whose bounded queue rejects the overflow, which
+     * completes the chunk exceptionally through the {@link MapleDslExecutorAsyncSession}.
+     *
+     * @param parallelism the number of threads of the pool, ignored by the virtual threads
+     * @return the executor, to be shut down by the caller
+     */
+    public static @NotNull ExecutorService newExecutor(int parallelism) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ignored) {
+            // prior to Java 21.
+        }
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ThreadPoolExecutor ret = new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism * EXECUTOR_QUEUE_CAPACITY_PER_THREAD), runnable -> {
+            final Thread thread = new Thread(runnable, "maple-dsl-fan-out-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        ret.allowCoreThreadTimeOut(true);
+        return ret;
+    }
+
+    public <ID, T> @NotNull List<T> selectList(@NotNull Collection<ID> ids, @NotNull Function<List<ID>, Wrapper<?>> stmtFunc,
+                                               @NotNull Class<T> mappedEntityType) {
+        return selectList(ids, stmtFunc, mappedEntityType, null, NO_LIMIT);
+    }
+
+    public <ID, T> @NotNull List<T> selectList(@NotNull Collection<ID> ids, @NotNull Function<List<ID>, Wrapper<?>> stmtFunc,
+                                               @NotNull Class<T> mappedEntityType, int limit) {
+        return selectList(ids, stmtFunc, mappedEntityType, null, limit);
+    }
+
+    /**
+     * Reads the rows of the ids chunk by chunk, and blocks until merged.
+     *
+     * @param <ID>             the type of id
+     * @param <T>              the mapped entity type
+     * @param ids              the ids to read
+     * @param stmtFunc         renders the wrapper of the chunk ids
+     * @param mappedEntityType the mapped entity type
+     * @param order            the order of the merged rows, or null to keep the order of the chunks
+     * @param limit            the maximum number of the merged rows, or {@link #NO_LIMIT}
+     * @return the merged rows
+     * @throws MapleDslException if any chunk failed
+     */
+    public <ID, T> @NotNull List<T> selectList(@NotNull Collection<ID> ids, @NotNull Function<List<ID>, Wrapper<?>> stmtFunc,
+                                               @NotNull Class<T> mappedEntityType, @Nullable Comparator<? super T> order, int limit) {
+        try {
+            return selectListAsync(ids, stmtFunc, mappedEntityType, order, limit).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MapleDslException) throw (MapleDslException) e.getCause();
+            throw new MapleDslExecutionException(e.getCause());
+        }
+    }
+
+    /**
+     * Reads the rows of the ids chunk by chunk asynchronously.
+     *
+     * @see #selectList(Collection, Function, Class, Comparator, int)
+     */
+    public <ID, T> @NotNull CompletableFuture<List<T>> selectListAsync(@NotNull Collection<ID> ids, @NotNull Function<List<ID>, Wrapper<?>> stmtFunc,
+                                                                      @NotNull Class<T> mappedEntityType, @Nullable Comparator<? super T> order, int limit) {
+        if (limit < NO_LIMIT) throw new IllegalArgumentException("Limit must not be negative, but " + limit);
+        if (ids.isEmpty() || limit == 0) return CompletableFuture.completedFuture(new ArrayList<>(0));
+
+        final List<ID> idList = ids instanceof List ? (List<ID>) ids : new ArrayList<>(ids);
+        final FanOut<ID, T> fanOut = new FanOut<>(idList, stmtFunc, mappedEntityType, order, limit);
+        return fanOut.start(Math.min(parallelism, fanOut.chunks.length));
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * The state of one read, shared by its lanes, the chunks are the indexes into the chunks of the ids.
+     */
+    final class FanOut<ID, T> extends MapleDslLaneDispatcher<Integer, List<T>, List<T>> {
+        final MapleDslConfiguration context = asyncSession.configuration();
+        final List<ID> ids;
+        final Function<List<ID>, Wrapper<?>> stmtFunc;
+        final Class<T> mappedEntityType;
+        final Comparator<? super T> order;
+        final int limit;
+        final List<T>[] chunks;
+        final AtomicInteger nextChunk = new AtomicInteger(), rows = new AtomicInteger();
+
+        @SuppressWarnings("unchecked")
+        FanOut(List<ID> ids, Function<List<ID>, Wrapper<?>> stmtFunc, Class<T> mappedEntityType, Comparator<? super T> order, int limit) {
+            this.ids = ids;
+            this.stmtFunc = stmtFunc;
+            this.mappedEntityType = mappedEntityType;
+            this.order = order;
+            this.limit = limit;
+            this.chunks = new List[(ids.size() + chunkSize - 1) / chunkSize];
+        }
+
+        @Override
+        Integer next() {
+            final int chunk = nextChunk.getAndIncrement();
+            if (chunk >= chunks.length || (order == null && limit != NO_LIMIT && rows.get() >= limit)) return null;
+            return chunk;
+        }
+
+        @Override
+        CompletableFuture<List<T>> dispatch(Integer chunk) {
+            final List<ID> chunkIds = ids.subList(chunk * chunkSize, Math.min((chunk + 1) * chunkSize, ids.size()));
+            final MapleDslBoundStatement stmt = MapleDslBoundStatement.of(stmtFunc.apply(chunkIds), context);
+            return asyncSession.selectListAsync(stmt.statement(), stmt.parameters(), mappedEntityType);
+        }
+
+        /**
+         * @return false if the read failed
+         */
+        @Override
+        boolean complete(Integer chunk, List<T> chunkRows, Throwable t) {
+            if (t != null) {
+                ret.completeExceptionally(unwrap(t));
+                return false;
+            }
+
+            if (chunkRows != null) {
+                chunks[chunk] = chunkRows;
+                rows.addAndGet(chunkRows.size());
+            }
+            return true;
+        }
+
+        /**
+         * Merges the rows of the completed chunks.
+         */
+        @Override
+        void finish() {
+            final List<T> merged = new ArrayList<>(rows.get());
+            for (List<T> chunkRows : chunks) {
+                if (chunkRows != null) merged.addAll(chunkRows);
+            }
+
+            if (order != null) merged.sort(order);
+            ret.complete(limit != NO_LIMIT && merged.size() > limit ? new ArrayList<>(merged.subList(0, limit)) : merged);
+        }
+    }
+}
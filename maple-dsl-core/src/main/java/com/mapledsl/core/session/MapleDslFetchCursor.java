@@ -0,0 +1,83 @@
+package com.mapledsl.core.session;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The MapleDslFetchCursor is the base of cursors which map the rows of an underlying result lazily,
+ * {@code fetchSize} rows at a time.
+ * <p></p>
+ * Only the rows of the current fetch are held as mapped entities, the next fetch is triggered once they are consumed.
+ * The cursor releases the underlying result as soon as it is exhausted, closed, or the fetch fails.
+ *
+ * @param <T> the mapped entity type
+ */
+public abstract class MapleDslFetchCursor<T> implements MapleDslCursor<T> {
+    private final int fetchSize;
+    private final List<T> buffer;
+    private int position;
+    private boolean exhausted, closed;
+
+    protected MapleDslFetchCursor(int fetchSize) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("fetchSize must be positive.");
+        this.fetchSize = fetchSize;
+        this.buffer = new ArrayList<>(Math.min(fetchSize, MapleDslCursor.DEFAULT_FETCH_SIZE));
+    }
+
+    /**
+     * Maps up to {@code fetchSize} rows of the underlying result into the buffer, a row may be mapped to
+     * none or several entities.
+     *
+     * @param fetchSize the maximum number of rows to map
+     * @param buffer the buffer to add the mapped entities to
+     * @return false if the underlying result is exhausted
+     */
+    protected abstract boolean fetch(int fetchSize, @NotNull List<T> buffer);
+
+    /**
+     * Releases the underlying result, called once.
+     */
+    protected abstract void release();
+
+    @Override
+    public final boolean hasNext() {
+        while (position == buffer.size()) {
+            if (closed) return false;
+            if (exhausted) {
+                close();
+                return false;
+            }
+
+            buffer.clear();
+            position = 0;
+            try {
+                exhausted = !fetch(fetchSize, buffer);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public final T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        final T next = buffer.get(position);
+        buffer.set(position++, null);
+        return next;
+    }
+
+    @Override
+    public final void close() {
+        if (closed) return;
+        closed = true;
+        buffer.clear();
+        position = 0;
+        release();
+    }
+}
@@ -0,0 +1,48 @@
+package com.mapledsl.core.session;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The cursor over an iterator, the close handler runs once on close or as soon as the iterator is exhausted.
+ *
+ * @param <T> the mapped entity type
+ */
+final class MapleDslIteratorCursor<T> implements MapleDslCursor<T> {
+    private final @NotNull Iterator<T> iterator;
+    private @Nullable Runnable closeHandler;
+    private boolean closed;
+
+    MapleDslIteratorCursor(@NotNull Iterator<T> iterator, @Nullable Runnable closeHandler) {
+        this.iterator = iterator;
+        this.closeHandler = closeHandler;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) return false;
+        if (iterator.hasNext()) return true;
+
+        close();
+        return false;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        return iterator.next();
+    }
+
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+
+        final Runnable handler = closeHandler;
+        closeHandler = null;
+        if (handler != null) handler.run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.mapledsl.core.session;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The MapleDslLaneDispatcher bounds the chunks in flight of one read or write to the number of its lanes, every lane
+ * dispatches one chunk at a time and takes the next chunk once it completes, the last lane running out of chunks
+ * finishes the result.
+ *
+ * @param <C> the type of chunk
+ * @param <R> the result type of a dispatched chunk
+ * @param <T> the result type of the whole read or write
+ * @see MapleDslFanOutReader
+ * @see MapleDslBulkWriter
+ */
+abstract class MapleDslLaneDispatcher<C, R, T> {
+    final CompletableFuture<T> ret = new CompletableFuture<>();
+    private final AtomicInteger lanes = new AtomicInteger();
+
+    /**
+     * @return the next chunk, or null if no chunk is left
+     */
+    abstract @Nullable C next();
+
+    /**
+     * @return the future of the dispatched chunk, or null if the chunk is not dispatched but pushed back, e.g. split
+     */
+    abstract @Nullable CompletableFuture<R> dispatch(C chunk);
+
+    /**
+     * @return false to stop the lane, e.g. the result has been failed
+     */
+    abstract boolean complete(C chunk, @Nullable R chunkResult, @Nullable Throwable t);
+
+    /**
+     * Finishes the result, the lanes are done writing their chunks as every lane has run out of chunks.
+     */
+    abstract void finish();
+
+    /**
+     * Starts the lanes, at least one.
+     */
+    final CompletableFuture<T> start(int lanes) {
+        this.lanes.set(lanes);
+        for (int i = 0; i < lanes; i++) run();
+        return ret;
+    }
+
+    /**
+     * Dispatches the next chunks of the lane, loops over the chunks completed at once instead of recursing.
+     */
+    private void run() {
+        for (; ; ) {
+            if (ret.isDone()) return;
+
+            final C chunk = next();
+            if (chunk == null) {
+                if (lanes.decrementAndGet() == 0) finish();
+                return;
+            }
+
+            final CompletableFuture<R> future;
+            try {
+                future = dispatch(chunk);
+            } catch (RuntimeException e) {
+                ret.completeExceptionally(e);
+                return;
+            }
+            if (future == null) continue;
+
+            if (!future.isDone()) {
+                future.whenComplete((chunkResult, t) -> {
+                    if (complete(chunk, chunkResult, t)) run();
+                });
+                return;
+            }
+
+            final R chunkResult;
+            try {
+                chunkResult = future.join();
+            } catch (CompletionException | CancellationException e) {
+                if (complete(chunk, null, e)) continue;
+                return;
+            }
+            if (!complete(chunk, chunkResult, null)) return;
+        }
+    }
+
+    static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+}
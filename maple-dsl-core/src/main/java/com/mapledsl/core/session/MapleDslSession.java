@@ -1,21 +1,30 @@
 package com.mapledsl.core.session;
 
+import com.mapledsl.core.MapleDslBoundStatement;
 import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.exception.MapleDslException;
+import com.mapledsl.core.exception.MapleDslExecutionException;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * The MapleDslSession interface represents a session for executing Maple DSL queries.
  * This session is responsible for maintaining the connection to the database and executing the queries.
+ * <p></p>
+ * The statements with bound parameters, e.g. {@link #selectList(String, Map, Class)}, fall back to the literal
+ * statements by default, a session whose dialect binds the parameters overrides them, otherwise a non-empty
+ * parameters is rejected with {@link MapleDslExecutionException}.
  *
  * @see Closeable
  */
@@ -28,8 +37,13 @@ public interface MapleDslSession extends Closeable {
      * @return the selected vertex of type `Model.V`
      */
     @Nullable <ID> Model.V<ID> selectVertex(@NotNull String stmt);
+    default @Nullable <ID> Model.V<ID> selectVertex(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectVertex(stmt);
+    }
     default @Nullable <ID> Model.V<ID> selectVertex(@NotNull Wrapper<? extends Model.V<?>> stmtWrapper) {
-        return selectVertex(stmtWrapper.render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectVertex(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -40,8 +54,13 @@ public interface MapleDslSession extends Closeable {
      * @return a list of selected vertices of type `Model.V`
      */
     @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull String stmt);
+    default @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectVertexList(stmt);
+    }
     default @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull Wrapper<? extends Model.V<?>> stmtWrapper) {
-        return selectVertexList(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectVertexList(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -53,8 +72,13 @@ public interface MapleDslSession extends Closeable {
      * @return the selected edge of type Model.E
      */
     @Nullable <ID, R> Model.E<ID, R> selectEdge(@NotNull String stmt);
+    default @Nullable <ID, R> Model.E<ID, R> selectEdge(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectEdge(stmt);
+    }
     default @Nullable <ID, R> Model.E<ID, R> selectEdge(@NotNull Wrapper<? extends Model.E<?,?>> stmtWrapper) {
-        return selectEdge(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectEdge(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -66,8 +90,13 @@ public interface MapleDslSession extends Closeable {
      * @return a list of selected edges of type `Model.E`
      */
     @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt);
+    default @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectEdgeList(stmt);
+    }
     default @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull Wrapper<? extends Model.E<?,?>> stmtWrapper) {
-        return selectEdgeList(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectEdgeList(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -80,8 +109,14 @@ public interface MapleDslSession extends Closeable {
      */
     @Nullable <T> T selectOne(String stmt, Class<T> mappedEntityType);
 
+    default @Nullable <T> T selectOne(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectOne(stmt, mappedEntityType);
+    }
+
     default @Nullable <T> T selectOne(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
-        return selectOne(requireNonNull(stmtWrapper).render(configuration()), mappedEntityType);
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectOne(boundStatement.statement(), boundStatement.parameters(), mappedEntityType);
     }
 
     /**
@@ -94,8 +129,72 @@ public interface MapleDslSession extends Closeable {
      */
     @NotNull <T> List<T> selectList(String stmt, Class<T> mappedEntityType);
 
+    default @NotNull <T> List<T> selectList(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectList(stmt, mappedEntityType);
+    }
+
     default @NotNull <T> List<T> selectList(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
-        return selectList(requireNonNull(stmtWrapper).render(configuration()), mappedEntityType);
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectList(boundStatement.statement(), boundStatement.parameters(), mappedEntityType);
+    }
+
+    /**
+     * Retrieve a cursor of mapped objects from the statement key and parameter, the rows are mapped lazily
+     * {@code fetchSize} rows at a time while iterating.
+     * <p></p>
+     * The default implementation collects the rows by {@link #selectList(String, Map, Class)} up-front.
+     *
+     * @param <T>  the returned model(vertex/edge) type.
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @param mappedEntityType mapped entity type
+     * @param fetchSize the number of rows mapped at a time
+     * @return cursor of mapped object, which should be closed after use
+     */
+    default @NotNull <T> MapleDslCursor<T> selectCursor(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+        if (fetchSize <= 0) throw new IllegalArgumentException("fetchSize must be positive.");
+        return MapleDslCursor.of(selectList(stmt, parameters, mappedEntityType).iterator());
+    }
+
+    default @NotNull <T> MapleDslCursor<T> selectCursor(String stmt, Class<T> mappedEntityType) {
+        return selectCursor(stmt, Collections.emptyMap(), mappedEntityType, MapleDslCursor.DEFAULT_FETCH_SIZE);
+    }
+
+    default @NotNull <T> MapleDslCursor<T> selectCursor(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
+        return selectCursor(stmtWrapper, mappedEntityType, MapleDslCursor.DEFAULT_FETCH_SIZE);
+    }
+
+    default @NotNull <T> MapleDslCursor<T> selectCursor(Wrapper<?> stmtWrapper, Class<T> mappedEntityType, int fetchSize) {
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectCursor(boundStatement.statement(), boundStatement.parameters(), mappedEntityType, fetchSize);
+    }
+
+    /**
+     * Retrieve a stream of mapped objects from the statement key and parameter, backed by
+     * {@link #selectCursor(String, Map, Class, int)}.
+     *
+     * @param <T>  the returned model(vertex/edge) type.
+     * @param stmt complete sql statement
+     * @param parameters the bound parameters of the statement
+     * @param mappedEntityType mapped entity type
+     * @param fetchSize the number of rows mapped at a time
+     * @return stream of mapped object, which should be closed after use
+     */
+    default @NotNull <T> Stream<T> selectStream(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+        return selectCursor(stmt, parameters, mappedEntityType, fetchSize).stream();
+    }
+
+    default @NotNull <T> Stream<T> selectStream(String stmt, Class<T> mappedEntityType) {
+        return selectCursor(stmt, mappedEntityType).stream();
+    }
+
+    default @NotNull <T> Stream<T> selectStream(Wrapper<?> stmtWrapper, Class<T> mappedEntityType) {
+        return selectCursor(stmtWrapper, mappedEntityType).stream();
+    }
+
+    default @NotNull <T> Stream<T> selectStream(Wrapper<?> stmtWrapper, Class<T> mappedEntityType, int fetchSize) {
+        return selectCursor(stmtWrapper, mappedEntityType, fetchSize).stream();
     }
 
     /**
@@ -108,8 +207,14 @@ public interface MapleDslSession extends Closeable {
      */
     @NotNull Map<String, Object> selectMap(@NotNull String stmt);
 
+    default @NotNull Map<String, Object> selectMap(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectMap(stmt);
+    }
+
     default @NotNull Map<String, Object> selectMap(@NotNull Wrapper<?> stmtWrapper) {
-        return selectMap(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectMap(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -122,8 +227,14 @@ public interface MapleDslSession extends Closeable {
      */
     @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt);
 
+    default @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return selectMaps(stmt);
+    }
+
     default @NotNull List<Map<String, Object>> selectMaps(@NotNull Wrapper<?> stmtWrapper) {
-        return selectMaps(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return selectMaps(boundStatement.statement(), boundStatement.parameters());
     }
 
     /**
@@ -134,8 +245,47 @@ public interface MapleDslSession extends Closeable {
      */
     boolean execute(@NotNull String stmt) throws MapleDslException;
 
+    default boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) throws MapleDslException {
+        if (!parameters.isEmpty()) throw new MapleDslExecutionException("The session does not support the bound parameters.");
+        return execute(stmt);
+    }
+
     default boolean execute(Wrapper<?> stmtWrapper) {
-        return execute(requireNonNull(stmtWrapper).render(configuration()));
+        final MapleDslBoundStatement boundStatement = MapleDslBoundStatement.of(requireNonNull(stmtWrapper), configuration());
+        return execute(boundStatement.statement(), boundStatement.parameters());
+    }
+
+    /**
+     * Execute several execution statements in one unit of work, stops at the first failing statement.
+     * <p></p>
+     * The default implementation executes the statements one by one on this session.
+     *
+     * @param stmtWrappers the statements to execute in order
+     * @return true if every statement succeeded
+     */
+    default boolean executeBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers) throws MapleDslException {
+        for (Wrapper<?> stmtWrapper : stmtWrappers) {
+            if (!execute(stmtWrapper)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retrieve the mapped objects of several statements in one unit of work, the results are in the order of the statements.
+     * <p></p>
+     * The default implementation selects the statements one by one on this session.
+     *
+     * @param <T>  the returned model(vertex/edge) type.
+     * @param stmtWrappers the statements to select in order
+     * @param mappedEntityType mapped entity type
+     * @return List of the mapped objects per statement
+     */
+    default @NotNull <T> List<List<T>> selectBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers, Class<T> mappedEntityType) {
+        final List<List<T>> ret = new ArrayList<>(stmtWrappers.size());
+        for (Wrapper<?> stmtWrapper : stmtWrappers) {
+            ret.add(selectList(stmtWrapper, mappedEntityType));
+        }
+        return ret;
     }
 
     /**
@@ -14,6 +14,16 @@ public interface MapleDslSessionFactory {
      */
     MapleDslSession openSession();
 
+    /**
+     * Opens an asynchronous session for executing Maple DSL queries without blocking the calling thread.
+     *
+     * @return a MapleDslAsyncSession instance, which can be shared between threads
+     * @throws UnsupportedOperationException if the factory does not support asynchronous execution
+     */
+    default MapleDslAsyncSession openAsyncSession() {
+        throw new UnsupportedOperationException("Asynchronous sessions are not supported by " + getClass().getName());
+    }
+
     /**
      * Returns the configuration used by the MapleDslSessionFactory.
      *
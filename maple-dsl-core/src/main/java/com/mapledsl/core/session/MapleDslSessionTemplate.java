@@ -1,35 +1,166 @@
 package com.mapledsl.core.session;
 
 import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.exception.MapleDslException;
 import com.mapledsl.core.model.Model;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
  * The MapleDslSessionTemplate class represents a session template for executing Maple DSL queries.
  * It implements the MapleDslSession and MapleDslSessionFactory interfaces.
+ * <p></p>
+ * Every query opens a session of the session factory and closes it once done, unless it runs within
+ * {@link #inSession(Function)}, which binds one session to the calling thread for the whole unit of work.
+ * <p></p>
+ * In the single-flight mode, the concurrent queries with the identical statement, parameters and result type share
+ * one in-flight execution, the callers joining it receive the same result(or failure) as the one executing it.
+ * Unlike a result cache, a query never sees a result completed before it was issued. The executions and the queries
+ * within {@link #inSession(Function)} are never coalesced. As the results are shared between the callers, the lists
+ * and maps of the coalescable queries are unmodifiable, and the mapped beans should be treated as read-only.
+ * <p></p>
+ * The asynchronous queries are delegated to the async session opened by the session factory on first use.
  *
  * @see MapleDslSession
+ * @see MapleDslAsyncSession
  * @see MapleDslSessionFactory
  */
-public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSessionFactory {
-    private final MapleDslSession sessionProxy;
+public class MapleDslSessionTemplate implements MapleDslSession, MapleDslAsyncSession, MapleDslSessionFactory {
     private final MapleDslSessionFactory sessionFactory;
+    private final ThreadLocal<MapleDslSession> scopedSession = new ThreadLocal<>();
+    /**
+     * The in-flight queries by their keys, null if the single-flight mode is disabled.
+     */
+    private final @Nullable Map<QueryKey, CompletableFuture<Object>> inFlightQueries;
+    private final LongAdder coalescedCounter = new LongAdder();
+    private volatile MapleDslAsyncSession asyncSession;
 
-    private MapleDslSessionTemplate(MapleDslSessionFactory sessionFactory) {
+    private MapleDslSessionTemplate(MapleDslSessionFactory sessionFactory, boolean singleFlight) {
         this.sessionFactory = sessionFactory;
-        this.sessionProxy = (MapleDslSession) Proxy.newProxyInstance(MapleDslSession.class.getClassLoader(), new Class[]{ MapleDslSession.class }, new MapleDslSessionInterceptor());
+        this.inFlightQueries = singleFlight ? new ConcurrentHashMap<>() : null;
     }
 
     public static MapleDslSessionTemplate newInstance(MapleDslSessionFactory sessionFactory) {
-        return new MapleDslSessionTemplate(sessionFactory);
+        return new MapleDslSessionTemplate(sessionFactory, false);
+    }
+
+    /**
+     * @param sessionFactory the session factory
+     * @param singleFlight   whether the identical concurrent queries share one in-flight execution
+     * @return the session template
+     */
+    public static MapleDslSessionTemplate newInstance(MapleDslSessionFactory sessionFactory, boolean singleFlight) {
+        return new MapleDslSessionTemplate(sessionFactory, singleFlight);
+    }
+
+    /**
+     * Runs the unit of work on one session, the session is bound to the calling thread until the work is done,
+     * so that the queries of this template within the work reuse it instead of opening a session per query.
+     * <p></p>
+     * The nested scopes join the outer one, the session is closed by the outermost scope, and should not be closed
+     * by the work itself.
+     *
+     * @param work the unit of work
+     * @param <R>  the result type of the work
+     * @return the result of the work
+     */
+    public <R> R inSession(@NotNull Function<? super MapleDslSession, ? extends R> work) {
+        final MapleDslSession session = scopedSession.get();
+        if (session != null) return work.apply(session);
+
+        try (MapleDslSession autoSession = openSession()) {
+            scopedSession.set(autoSession);
+            return work.apply(autoSession);
+        } finally {
+            scopedSession.remove();
+        }
+    }
+
+    /**
+     * Delegates the query to the session bound to the calling thread, or a session opened for the query only.
+     * The failures are rethrown as {@link MapleDslException}.
+     */
+    private <R> R delegate(Function<MapleDslSession, R> query) {
+        try {
+            return inSession(query);
+        } catch (MapleDslException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new MapleDslException(e);
+        }
+    }
+
+    /**
+     * Delegates the query as {@link #delegate(Function)}, and shares the in-flight execution of the identical query
+     * in the single-flight mode.
+     */
+    @SuppressWarnings("unchecked")
+    private <R> R query(String kind, String stmt, Map<String, Object> parameters, @Nullable Class<?> mappedType, Function<MapleDslSession, R> query) {
+        if (inFlightQueries == null || scopedSession.get() != null) return delegate(query);
+
+        final QueryKey key = new QueryKey(kind, stmt, parameters, mappedType);
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = inFlightQueries.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            coalescedCounter.increment();
+            return (R) join(inFlight);
+        }
+
+        try {
+            final R ret = unmodifiable(kind, delegate(query));
+            // leaves the flight before completing it, the following queries never see a completed result.
+            inFlightQueries.remove(key, flight);
+            flight.complete(ret);
+            return ret;
+        } catch (Throwable t) {
+            inFlightQueries.remove(key, flight);
+            flight.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * Wraps the lists and maps of the result shared with the joining queries, including the rows of {@code selectMaps}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R unmodifiable(String kind, R ret) {
+        if (ret instanceof Map) return (R) Collections.unmodifiableMap((Map<?, ?>) ret);
+        if (!(ret instanceof List)) return ret;
+
+        if (!"ML".equals(kind)) return (R) Collections.unmodifiableList((List<?>) ret);
+        final List<Map<String, Object>> rows = (List<Map<String, Object>>) ret;
+        final List<Map<String, Object>> unmodifiableRows = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) unmodifiableRows.add(Collections.unmodifiableMap(row));
+        return (R) Collections.unmodifiableList(unmodifiableRows);
+    }
+
+    private static Object join(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw new MapleDslException(e.getCause());
+        }
+    }
+
+    /**
+     * @return the number of queries which joined an identical in-flight query instead of executing it
+     */
+    public long coalescedCount() {
+        return coalescedCounter.sum();
     }
 
     /**
@@ -40,7 +171,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt) {
-        return sessionProxy.selectVertex(stmt);
+        return query("V", stmt, Collections.emptyMap(), null, session -> session.selectVertex(stmt));
+    }
+
+    @Override
+    public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("V", stmt, parameters, null, session -> session.selectVertex(stmt, parameters));
     }
 
     /**
@@ -51,7 +187,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt) {
-        return sessionProxy.selectVertexList(stmt);
+        return query("VL", stmt, Collections.emptyMap(), null, session -> session.selectVertexList(stmt));
+    }
+
+    @Override
+    public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("VL", stmt, parameters, null, session -> session.selectVertexList(stmt, parameters));
     }
 
     /**
@@ -62,7 +203,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <ID, R> Model.@Nullable E<ID, R> selectEdge(@NotNull String stmt) {
-        return sessionProxy.selectEdge(stmt);
+        return query("E", stmt, Collections.emptyMap(), null, session -> session.selectEdge(stmt));
+    }
+
+    @Override
+    public <ID, R> Model.@Nullable E<ID, R> selectEdge(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("E", stmt, parameters, null, session -> session.selectEdge(stmt, parameters));
     }
 
     /**
@@ -73,7 +219,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <ID, R> @NotNull List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt) {
-        return sessionProxy.selectEdgeList(stmt);
+        return query("EL", stmt, Collections.emptyMap(), null, session -> session.selectEdgeList(stmt));
+    }
+
+    @Override
+    public <ID, R> @NotNull List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("EL", stmt, parameters, null, session -> session.selectEdgeList(stmt, parameters));
     }
 
     /**
@@ -86,7 +237,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <T> T selectOne(String stmt, Class<T> mappedEntityType) {
-        return sessionProxy.selectOne(stmt, mappedEntityType);
+        return query("O", stmt, Collections.emptyMap(), mappedEntityType, session -> session.selectOne(stmt, mappedEntityType));
+    }
+
+    @Override
+    public <T> T selectOne(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return query("O", stmt, parameters, mappedEntityType, session -> session.selectOne(stmt, parameters, mappedEntityType));
     }
 
     /**
@@ -99,7 +255,37 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public <T> @NotNull List<T> selectList(String stmt, Class<T> mappedEntityType) {
-        return sessionProxy.selectList(stmt, mappedEntityType);
+        return query("L", stmt, Collections.emptyMap(), mappedEntityType, session -> session.selectList(stmt, mappedEntityType));
+    }
+
+    @Override
+    public <T> @NotNull List<T> selectList(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return query("L", stmt, parameters, mappedEntityType, session -> session.selectList(stmt, parameters, mappedEntityType));
+    }
+
+    /**
+     * Opens a session which stays open until the returned cursor is exhausted or closed,
+     * or reuses the session bound to the calling thread.
+     *
+     * @param <T>                the type of the mapped objects in the cursor
+     * @param stmt               the SQL statement to execute
+     * @param parameters         the bound parameters of the statement
+     * @param mappedEntityType   the class representing the entity type to be mapped
+     * @param fetchSize          the number of rows mapped at a time
+     * @return a cursor of mapped objects of type T
+     */
+    @Override
+    public <T> @NotNull MapleDslCursor<T> selectCursor(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+        final MapleDslSession scoped = scopedSession.get();
+        if (scoped != null) return scoped.selectCursor(stmt, parameters, mappedEntityType, fetchSize);
+
+        final MapleDslSession session = openSession();
+        try {
+            return session.selectCursor(stmt, parameters, mappedEntityType, fetchSize).onClose(session::close);
+        } catch (RuntimeException e) {
+            session.close();
+            throw e;
+        }
     }
 
     /**
@@ -110,7 +296,12 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public @NotNull Map<String, Object> selectMap(@NotNull String stmt) {
-        return sessionProxy.selectMap(stmt);
+        return query("M", stmt, Collections.emptyMap(), null, session -> session.selectMap(stmt));
+    }
+
+    @Override
+    public @NotNull Map<String, Object> selectMap(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("M", stmt, parameters, null, session -> session.selectMap(stmt, parameters));
     }
 
     /**
@@ -121,17 +312,73 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
      */
     @Override
     public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt) {
-        return sessionProxy.selectMaps(stmt);
+        return query("ML", stmt, Collections.emptyMap(), null, session -> session.selectMaps(stmt));
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return query("ML", stmt, parameters, null, session -> session.selectMaps(stmt, parameters));
     }
 
     @Override
     public boolean execute(@NotNull String stmt) throws MapleDslException {
-        return sessionProxy.execute(stmt);
+        return delegate(session -> session.execute(stmt));
+    }
+
+    @Override
+    public boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) throws MapleDslException {
+        return delegate(session -> session.execute(stmt, parameters));
+    }
+
+    /**
+     * Executes the statements on one session.
+     *
+     * @param stmtWrappers the statements to execute in order
+     * @return true if every statement succeeded
+     */
+    @Override
+    public boolean executeBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers) throws MapleDslException {
+        return delegate(session -> session.executeBatch(stmtWrappers));
+    }
+
+    /**
+     * Selects the statements on one session.
+     *
+     * @param <T>                the type of the mapped objects in the list
+     * @param stmtWrappers       the statements to select in order
+     * @param mappedEntityType   the class representing the entity type to be mapped
+     * @return a list of mapped objects of type T per statement
+     */
+    @Override
+    public <T> @NotNull List<List<T>> selectBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers, Class<T> mappedEntityType) {
+        return delegate(session -> session.selectBatch(stmtWrappers, mappedEntityType));
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return asyncSession().selectOneAsync(stmt, parameters, mappedEntityType);
     }
 
+    @Override
+    public @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return asyncSession().selectListAsync(stmt, parameters, mappedEntityType);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return asyncSession().selectMapsAsync(stmt, parameters);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return asyncSession().executeAsync(stmt, parameters);
+    }
+
+    /**
+     * The template does not hold any session out of {@link #inSession(Function)}, nothing to close.
+     */
     @Override
     public void close() {
-        sessionProxy.close();
     }
 
     @Override
@@ -144,19 +391,52 @@ public class MapleDslSessionTemplate implements MapleDslSession, MapleDslSession
         return sessionFactory.openSession();
     }
 
+    @Override
+    public MapleDslAsyncSession openAsyncSession() {
+        return sessionFactory.openAsyncSession();
+    }
+
+    private MapleDslAsyncSession asyncSession() {
+        MapleDslAsyncSession ret = asyncSession;
+        if (ret != null) return ret;
+
+        synchronized (this) {
+            if (asyncSession == null) asyncSession = openAsyncSession();
+            return asyncSession;
+        }
+    }
+
     /**
-     * The MapleDslSessionInterceptor class is an {@link InvocationHandler} that intercepts method invocations
-     * on a MapleDslSession proxy. It is responsible for opening a MapleDslSession and invoking the corresponding
-     * method on it.
+     * The key of the query made of the kind of query, the rendered statement, the bound parameters and the result type.
      */
-    class MapleDslSessionInterceptor implements InvocationHandler {
+    static final class QueryKey {
+        final String kind;
+        final String stmt;
+        final Map<String, Object> parameters;
+        final @Nullable Class<?> mappedType;
+        private final int hash;
+
+        QueryKey(String kind, String stmt, Map<String, Object> parameters, @Nullable Class<?> mappedType) {
+            this.kind = kind;
+            this.stmt = stmt;
+            this.parameters = parameters;
+            this.mappedType = mappedType;
+            this.hash = Objects.hash(kind, stmt, parameters, mappedType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof QueryKey)) return false;
+
+            final QueryKey that = (QueryKey) o;
+            return hash == that.hash && kind.equals(that.kind) && stmt.equals(that.stmt)
+                    && Objects.equals(mappedType, that.mappedType) && parameters.equals(that.parameters);
+        }
+
         @Override
-        public Object invoke(Object proxy, Method method, Object[] args) {
-            try (MapleDslSession autoSession = openSession()) {
-                return method.invoke(autoSession, args);
-            } catch (Throwable t) {
-                throw new MapleDslException(t);
-            }
+        public int hashCode() {
+            return hash;
         }
     }
 }
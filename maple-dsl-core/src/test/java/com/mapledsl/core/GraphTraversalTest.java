@@ -22,7 +22,6 @@ public class GraphTraversalTest {
     public static void init() {
         new MapleDslConfiguration.Builder()
                 .module(MapleDslMockModule.class)
-                .templatePoolConfig(200, Runtime.getRuntime().availableProcessors() * 2, 2)
                 .namingStrategy(NamingStrategies.SNAKE_CASE)
                 .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
                 .dateFormatter("yyyy-MM-dd")
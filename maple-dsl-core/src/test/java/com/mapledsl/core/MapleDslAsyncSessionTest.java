@@ -0,0 +1,72 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import com.mapledsl.core.session.MapleDslExecutorAsyncSession;
+import com.mapledsl.core.session.MapleDslSession;
+import com.mapledsl.core.session.MapleDslSessionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslAsyncSessionTest {
+    MapleDslConfiguration context;
+
+    @BeforeEach
+    public void init() {
+        context = MapleDslMockSessionFactory.newConfiguration();
+    }
+
+    @Test
+    public void should_run_queries_concurrently_and_close_sessions() throws Exception {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(4));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final MapleDslAsyncSession asyncSession = new MapleDslExecutorAsyncSession(sessionFactory, executor);
+            final List<CompletableFuture<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) futures.add(asyncSession.selectListAsync("q" + i, String.class));
+
+            // every query waits for the others, which only completes if all of them are in-flight at the same time.
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+            for (int i = 0; i < 4; i++) assertEquals(Collections.singletonList("q" + i), futures.get(i).get());
+            assertEquals(4, sessionFactory.closed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_complete_exceptionally_on_failure_or_rejection() {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslAsyncSession asyncSession = new MapleDslExecutorAsyncSession(sessionFactory, Runnable::run);
+        final ExecutionException failure = assertThrows(ExecutionException.class, () -> asyncSession.selectOneAsync("fail", String.class).get());
+        assertTrue(failure.getCause() instanceof MapleDslExecutionException);
+        assertEquals(1, sessionFactory.closed.get());
+
+        final MapleDslAsyncSession rejected = new MapleDslExecutorAsyncSession(sessionFactory, command -> {
+            throw new RejectedExecutionException("saturated");
+        });
+        final CompletableFuture<Boolean> future = rejected.executeAsync("q");
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void should_delegate_template_to_async_session() throws Exception {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory);
+        assertEquals("q", template.selectOneAsync("q", String.class).get());
+        assertTrue(template.executeAsync("q").get());
+    }
+
+    @Test
+    public void should_fall_back_to_literal_statement_without_parameters() {
+        final MapleDslSession session = new MapleDslMockSessionFactory.MockSession(new MapleDslMockSessionFactory(context, new CountDownLatch(0)));
+        assertEquals("q", session.selectOne("q", Collections.emptyMap(), String.class));
+        assertThrows(MapleDslExecutionException.class, () -> session.selectOne("q", Collections.singletonMap("p0", 1), String.class));
+        assertThrows(MapleDslExecutionException.class, () -> session.selectMaps("q", Collections.singletonMap("p0", 1)));
+    }
+}
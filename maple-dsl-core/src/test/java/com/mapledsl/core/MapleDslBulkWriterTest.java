@@ -0,0 +1,204 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.MapleDslMockModels.Follow;
+import com.mapledsl.core.MapleDslMockModels.Person;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import com.mapledsl.core.session.MapleDslBulkResult;
+import com.mapledsl.core.session.MapleDslBulkWriter;
+import com.mapledsl.core.session.MapleDslExecutorAsyncSession;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.mapledsl.core.G.*;
+import static com.mapledsl.core.MapleDslMockModels.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslBulkWriterTest {
+    static MapleDslConfiguration context;
+
+    @BeforeAll
+    public static void init() {
+        context = MapleDslMockSessionFactory.newConfiguration();
+    }
+
+    @Test
+    public void should_render_rows_literal_and_bound() {
+        final List<Person> persons = Arrays.asList(person("p001", "bofa", 18), person("p002", null, 20));
+
+        assertEquals("INSERT person(age,name) VALUES \"p001\":(18,\"bofa\"),\"p002\":(20,NULL) " +
+                "ROWS [{id:\"p001\",props:{age:18,name:\"bofa\"}},{id:\"p002\",props:{age:20,name:NULL}}]", insertVertex(persons).render(context));
+
+        final MapleDslBoundStatement bound = upsertVertex(persons).bind(context);
+        assertEquals("INSERT person(age,name) VALUES \"p001\":(18,\"bofa\"),\"p002\":(20,NULL) ROWS $rows UPSERT", bound.statement());
+
+        final Map<String, Object> row = new LinkedHashMap<>();
+        final Map<String, Object> props = new LinkedHashMap<>();
+        row.put("id", "p002");
+        props.put("age", 20);
+        props.put("name", null);
+        row.put("props", props);
+        assertEquals(row, ((List<?>) bound.parameters().get("rows")).get(1));
+    }
+
+    @Test
+    public void should_reject_empty_or_mixed_vertices() {
+        assertThrows(IllegalArgumentException.class, () -> insertVertex(Collections.<Person>emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> insertVertex(Arrays.<Model.V<String>>asList(person("p001", "bofa", 18), new Model.V<>())));
+    }
+
+    @Test
+    public void should_render_edge_rows_without_absent_rank() {
+        final List<Follow> follows = Arrays.asList(follow("p001", "p002", 0.5), follow("p002", "p003", null));
+
+        assertEquals("INSERT follow(weight) VALUES \"p001\"->\"p002\":(0.5),\"p002\"->\"p003\":(NULL) " +
+                "ROWS [{id:\"p001-p002\",src:\"p001\",dst:\"p002\",rank:NULL,props:{weight:0.5}},{id:\"p002-p003\",src:\"p002\",dst:\"p003\",rank:NULL,props:{weight:NULL}}]",
+                insertEdge(follows).render(context));
+        assertTrue(upsertEdge(follows).bind(context).statement().endsWith("ROWS $rows UPSERT"));
+    }
+
+    @Test
+    public void should_write_chunks_in_parallel() {
+        final List<Person> persons = persons(5);
+        final StubAsyncSession asyncSession = new StubAsyncSession();
+        final MapleDslBulkResult<Person> result = new MapleDslBulkWriter(asyncSession, 2).upsertVertices(persons);
+
+        assertTrue(result.isSuccess());
+        assertEquals(5, result.written());
+        assertEquals(3, result.chunks());
+        assertEquals(3, asyncSession.statements.size());
+        assertTrue(asyncSession.statements.contains(upsertVertex(persons.subList(4, 5)).bind(context).statement()));
+        assertTrue(new MapleDslBulkWriter(asyncSession).insertVertices(Collections.emptyList()).isSuccess());
+        assertThrows(IllegalArgumentException.class, () -> new MapleDslBulkWriter(asyncSession, 0));
+    }
+
+    @Test
+    public void should_split_chunks_exceeding_statement_bytes() {
+        final List<Person> persons = persons(8);
+        final int maxStatementBytes = insertVertex(persons.subList(0, 3)).bind(context).statement().length();
+        final StubAsyncSession asyncSession = new StubAsyncSession();
+        final MapleDslBulkResult<Person> result = new MapleDslBulkWriter(asyncSession, 8, maxStatementBytes).insertVertices(persons);
+
+        assertTrue(result.isSuccess());
+        assertEquals(4, result.chunks());
+        for (String statement : asyncSession.statements) assertTrue(statement.length() <= maxStatementBytes);
+    }
+
+    @Test
+    public void should_report_failed_chunks() {
+        final List<Follow> follows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) follows.add(follow("p00" + i, "p00" + (i + 1), (double) i));
+
+        final StubAsyncSession asyncSession = new StubAsyncSession();
+        asyncSession.failure = "\"p002\"->\"p003\"";
+        final MapleDslBulkResult<Follow> result = new MapleDslBulkWriter(asyncSession, 2).insertEdges(follows);
+
+        assertFalse(result.isSuccess());
+        assertEquals(3, result.written());
+        assertEquals(1, result.failures().size());
+        assertEquals(2, result.failures().get(0).offset());
+        assertEquals(follows.subList(2, 4), result.failures().get(0).models());
+        assertTrue(result.failures().get(0).cause() instanceof MapleDslExecutionException);
+    }
+
+    @Test
+    public void should_bound_in_flight_chunks_to_saturating_executor() throws Exception {
+        final int parallelism = 4;
+        // two threads and a queue of the parallelism, which rejects the overflow as the executor of nebula does.
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(parallelism));
+        try {
+            final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+            final MapleDslAsyncSession asyncSession = new MapleDslExecutorAsyncSession(sessionFactory, executor);
+            final List<Person> persons = persons(40);
+            final MapleDslBulkResult<Person> result = new MapleDslBulkWriter(asyncSession, 1, MapleDslBulkWriter.DEFAULT_MAX_STATEMENT_BYTES, parallelism)
+                    .upsertVertices(persons);
+
+            assertTrue(result.isSuccess(), () -> String.valueOf(result.failures().get(0).cause()));
+            assertEquals(40, result.chunks());
+            assertEquals(40, sessionFactory.statements.size());
+            assertEquals(40, sessionFactory.closed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MapleDslBulkWriter(new StubAsyncSession(), 1, 1, 0));
+    }
+
+    @Test
+    public void should_render_chunk_when_dispatched() throws Exception {
+        final PendingAsyncSession asyncSession = new PendingAsyncSession();
+        final List<Person> persons = persons(6);
+        final CompletableFuture<MapleDslBulkResult<Person>> future = CompletableFuture.supplyAsync(() ->
+                new MapleDslBulkWriter(asyncSession, 1, MapleDslBulkWriter.DEFAULT_MAX_STATEMENT_BYTES, 2).insertVertices(persons));
+
+        final Deque<CompletableFuture<Boolean>> chunks = new ArrayDeque<>();
+        for (int i = 0; i < 2; i++) chunks.add(asyncSession.inFlight.poll(5, TimeUnit.SECONDS));
+        assertEquals(2, asyncSession.statements.size());
+
+        // every completed chunk renders and dispatches exactly one more, either on this thread or on the writer thread.
+        for (int i = 0; i < persons.size(); i++) {
+            chunks.poll().complete(true);
+            if (i + 2 < persons.size()) chunks.add(asyncSession.inFlight.poll(5, TimeUnit.SECONDS));
+            assertTrue(asyncSession.inFlight.isEmpty());
+            assertEquals(Math.min(i + 3, persons.size()), asyncSession.statements.size());
+        }
+
+        final MapleDslBulkResult<Person> result = future.get(5, TimeUnit.SECONDS);
+        assertTrue(result.isSuccess());
+        assertEquals(6, result.chunks());
+        assertEquals(insertVertex(persons.subList(5, 6)).bind(context).statement(), asyncSession.statements.get(5));
+    }
+
+    /**
+     * The async session leaving the chunks in flight until the test completes them, in the order of dispatching.
+     */
+    static final class PendingAsyncSession extends StubAsyncSession {
+        final BlockingQueue<CompletableFuture<Boolean>> inFlight = new LinkedBlockingQueue<>();
+
+        @Override
+        public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            statements.add(stmt);
+            final CompletableFuture<Boolean> ret = new CompletableFuture<>();
+            inFlight.add(ret);
+            return ret;
+        }
+    }
+
+    static class StubAsyncSession implements MapleDslAsyncSession {
+        final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+        volatile String failure;
+
+        @Override
+        public @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            statements.add(stmt);
+            return CompletableFuture.supplyAsync(() -> {
+                if (failure != null && stmt.contains(failure)) throw new MapleDslExecutionException("Failed " + failure);
+                return true;
+            });
+        }
+
+        @Override
+        public @NotNull MapleDslConfiguration configuration() {
+            return context;
+        }
+    }
+}
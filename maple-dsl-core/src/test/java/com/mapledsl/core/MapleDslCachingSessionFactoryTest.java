@@ -0,0 +1,134 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.session.MapleDslCachingSessionFactory;
+import com.mapledsl.core.session.MapleDslSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslCachingSessionFactoryTest {
+    MapleDslConfiguration context;
+    MapleDslMockSessionFactory stubSessionFactory;
+    MapleDslCachingSessionFactory sessionFactory;
+
+    @BeforeEach
+    public void init() {
+        context = MapleDslMockSessionFactory.newConfiguration();
+        stubSessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        sessionFactory = new MapleDslCachingSessionFactory(stubSessionFactory, 2, Duration.ofMinutes(1), null);
+        // resolve the labels known by the configuration.
+        assertEquals("person", context.label(MapleDslMockModels.Person.class));
+        assertEquals("follow", context.label(MapleDslMockModels.Follow.class));
+    }
+
+    @Test
+    public void should_serve_repeated_queries_without_opening_session() {
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            final List<String> first = session.selectList("LOOKUP ON person", String.class);
+            assertSame(first, session.selectList("LOOKUP ON person", String.class));
+            assertThrows(UnsupportedOperationException.class, () -> first.add("bofa"));
+        }
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            assertEquals("LOOKUP ON person", session.selectOne("LOOKUP ON person", String.class));
+            assertEquals("LOOKUP ON person", session.selectOne("LOOKUP ON person", String.class));
+        }
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            assertEquals(1, session.selectList("LOOKUP ON person", String.class).size());
+        }
+
+        assertEquals(2, sessionFactory.loadCount());
+        assertEquals(3, sessionFactory.hitCount());
+        assertEquals(0.6, sessionFactory.hitRate(), 0.001);
+        // the last session is served by the cache only.
+        assertEquals(2, stubSessionFactory.closed.get());
+    }
+
+    @Test
+    public void should_share_unmodifiable_rows() {
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            final List<Map<String, Object>> rows = session.selectMaps("LOOKUP ON person");
+            assertThrows(UnsupportedOperationException.class, () -> rows.get(0).put("stmt", "bofa"));
+            assertThrows(UnsupportedOperationException.class, () -> rows.add(Collections.emptyMap()));
+            assertEquals("LOOKUP ON person", session.selectMaps("LOOKUP ON person").get(0).get("stmt"));
+        }
+
+        assertEquals(1, sessionFactory.loadCount());
+    }
+
+    @Test
+    public void should_invalidate_mentioned_labels_on_execute() {
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            session.selectList("LOOKUP ON person", String.class);
+            session.selectList("LOOKUP ON follow", String.class);
+
+            assertTrue(session.execute("DELETE TAG person FROM \"follow\""));
+            session.selectList("LOOKUP ON person", String.class);
+            session.selectList("LOOKUP ON follow", String.class);
+            assertEquals(3, sessionFactory.loadCount());
+
+            // no known label mentioned, invalidates every cached result.
+            assertTrue(session.execute("DELETE VERTEX \"p001\""));
+            session.selectList("LOOKUP ON follow", String.class);
+            assertEquals(4, sessionFactory.loadCount());
+        }
+
+        assertEquals(2, sessionFactory.invalidationCount());
+    }
+
+    @Test
+    public void should_invalidate_all_on_deleting_vertices() {
+        final String[] stmts = {
+                "LOOKUP ON person YIELD id(vertex) AS vid | DELETE VERTEX $-.vid WITH EDGE",
+                "MATCH (v:person {id: \"p001\"}) DETACH DELETE v",
+                "GO FROM \"p001\" OVER follow YIELD dst(edge) AS dst | DELETE $-.dst",
+                "delete vertex \"p001\"",
+        };
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            for (int i = 0; i < stmts.length; i++) {
+                session.selectList("LOOKUP ON person", String.class);
+                session.selectList("LOOKUP ON follow", String.class);
+                assertTrue(session.execute(stmts[i]));
+                // the edges and the vertices of the labels never mentioned are deleted along.
+                assertEquals(0, sessionFactory.size(), stmts[i]);
+            }
+        }
+        assertEquals(stmts.length, sessionFactory.invalidationCount());
+    }
+
+    @Test
+    public void should_invalidate_mentioned_labels_on_deleting_edges_or_tags() {
+        final String[] stmts = {
+                "GO FROM \"p001\" OVER follow YIELD edge AS e | DELETE EDGE follow $-.e",
+                "DELETE TAG follow FROM \"p001\"",
+                "UPDATE VERTEX ON follow \"p001\" SET name = \"DELETE VERTEX\"",
+                "UPDATE VERTEX ON follow \"p001\" SET is_delete = true",
+        };
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            for (String stmt : stmts) {
+                session.selectList("LOOKUP ON person", String.class);
+                session.selectList("LOOKUP ON follow", String.class);
+                assertTrue(session.execute(stmt));
+                // only the results of the mentioned label are invalidated.
+                assertEquals(1, sessionFactory.size(), stmt);
+            }
+        }
+        assertEquals(stmts.length - 1, sessionFactory.hitCount());
+    }
+
+    @Test
+    public void should_evict_by_size() {
+        try (MapleDslSession session = sessionFactory.openSession()) {
+            for (int i = 0; i < 4; i++) session.selectOne("q" + i, String.class);
+        }
+
+        assertEquals(2, sessionFactory.size());
+        assertEquals(2, sessionFactory.evictionCount());
+    }
+}
@@ -0,0 +1,59 @@
+package com.mapledsl.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslContinuationTest {
+
+    @Test
+    public void should_restore_token_of_each_key_type() {
+        for (Object lastKey : Arrays.asList("p001", "bofa,  deez/+=", 42L, -7, 3.5d, 1.5f)) {
+            final MapleDslContinuation continuation = MapleDslContinuation.of(lastKey);
+            final String token = continuation.toString();
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(continuation, MapleDslContinuation.parse(token));
+        }
+
+        assertEquals(42L, MapleDslContinuation.of(42).lastKey());
+        assertEquals(1.5d, MapleDslContinuation.of(1.5f).lastKey());
+        assertNull(MapleDslContinuation.parse(null));
+        assertNull(MapleDslContinuation.parse(""));
+    }
+
+    @Test
+    public void should_reject_malformed_token_and_key() {
+        assertThrows(IllegalArgumentException.class, () -> MapleDslContinuation.parse("@@"));
+        assertThrows(IllegalArgumentException.class, () -> MapleDslContinuation.parse("eDE"));
+        assertThrows(IllegalArgumentException.class, () -> MapleDslContinuation.of(new Object()));
+    }
+
+    @Test
+    public void should_continue_until_last_page() {
+        final List<String> page = Arrays.asList("p001", "p002");
+        assertEquals(MapleDslContinuation.of("p002"), MapleDslContinuation.next(page, 2, Function.identity()));
+        assertNull(MapleDslContinuation.next(page, 3, Function.identity()));
+        assertNull(MapleDslContinuation.next(Collections.<String>emptyList(), 0, Function.identity()));
+    }
+
+    @Test
+    public void should_restore_token_with_last_id() {
+        final MapleDslContinuation continuation = MapleDslContinuation.of(30, "p001");
+        final String token = continuation.toString();
+        assertTrue(token.matches("[A-Za-z0-9_-]+\\.[A-Za-z0-9_-]+"), token);
+        assertEquals(continuation, MapleDslContinuation.parse(token));
+        assertEquals(30L, MapleDslContinuation.parse(token).lastKey());
+        assertEquals("p001", MapleDslContinuation.parse(token).lastId());
+        assertNotEquals(MapleDslContinuation.of(30), continuation);
+        assertNull(MapleDslContinuation.of(30).lastId());
+
+        final List<String> page = Arrays.asList("p001", "p002");
+        assertEquals(MapleDslContinuation.of(4L, "p002"), MapleDslContinuation.next(page, 2, String::length, Function.identity()));
+        assertThrows(IllegalArgumentException.class, () -> MapleDslContinuation.parse(token + ".@@"));
+    }
+}
@@ -0,0 +1,99 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.session.MapleDslCursor;
+import com.mapledsl.core.session.MapleDslFetchCursor;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslCursorTest {
+
+    @Test
+    public void should_map_rows_lazily_by_fetch_size() {
+        final CountingCursor cursor = new CountingCursor(10, 4);
+        assertEquals(0, cursor.mapped);
+
+        assertEquals(0, cursor.next());
+        assertEquals(4, cursor.mapped);
+
+        final List<Integer> rest = new ArrayList<>();
+        cursor.forEachRemaining(rest::add);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9), rest);
+        assertEquals(10, cursor.mapped);
+        assertEquals(3, cursor.fetches);
+        assertEquals(1, cursor.releases);
+        assertThrows(NoSuchElementException.class, cursor::next);
+    }
+
+    @Test
+    public void should_release_once_when_closed_early() {
+        final CountingCursor cursor = new CountingCursor(10, 4);
+        assertTrue(cursor.hasNext());
+        cursor.close();
+        cursor.close();
+
+        assertFalse(cursor.hasNext());
+        assertEquals(4, cursor.mapped);
+        assertEquals(1, cursor.releases);
+    }
+
+    @Test
+    public void should_close_cursor_with_stream() {
+        final CountingCursor cursor = new CountingCursor(100, 8);
+        try (Stream<Integer> stream = cursor.stream()) {
+            assertEquals(Arrays.asList(0, 1, 2), stream.limit(3).collect(Collectors.toList()));
+        }
+
+        assertEquals(8, cursor.mapped);
+        assertEquals(1, cursor.releases);
+    }
+
+    @Test
+    public void should_run_close_handler_once_exhausted() {
+        final AtomicInteger closed = new AtomicInteger();
+        final MapleDslCursor<Integer> cursor = new CountingCursor(3, 2).onClose(closed::incrementAndGet);
+
+        assertEquals(Arrays.asList(0, 1, 2), IntStream.range(0, 3).mapToObj(it -> cursor.next()).collect(Collectors.toList()));
+        assertEquals(0, closed.get());
+        assertFalse(cursor.hasNext());
+        cursor.close();
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public void should_reject_non_positive_fetch_size() {
+        assertThrows(IllegalArgumentException.class, () -> new CountingCursor(1, 0));
+    }
+
+    static final class CountingCursor extends MapleDslFetchCursor<Integer> {
+        final int rows;
+        int mapped, fetches, releases;
+
+        CountingCursor(int rows, int fetchSize) {
+            super(fetchSize);
+            this.rows = rows;
+        }
+
+        @Override
+        protected boolean fetch(int fetchSize, @NotNull List<Integer> buffer) {
+            fetches++;
+            for (int i = 0; i < fetchSize && mapped < rows; i++) buffer.add(mapped++);
+            return mapped < rows;
+        }
+
+        @Override
+        protected void release() {
+            releases++;
+        }
+    }
+}
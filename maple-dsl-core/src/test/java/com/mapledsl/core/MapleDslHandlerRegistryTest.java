@@ -0,0 +1,80 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.module.MapleDslParameterHandler;
+import com.mapledsl.core.module.MapleDslResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslHandlerRegistryTest {
+    MapleDslConfiguration context;
+
+    @BeforeEach
+    public void init() {
+        context = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build();
+    }
+
+    @Test
+    public void should_cache_resolved_result_handler() {
+        final MapleDslResultHandler<?, ?> resultHandler = context.handlerRegistry.resultHandler(String.class, Integer.class);
+
+        assertNotNull(resultHandler);
+        assertSame(resultHandler, context.handlerRegistry.resultHandler(String.class, Integer.class));
+        assertEquals(18, context.resultant("18", Integer.class));
+        assertNull(context.handlerRegistry.resultHandler(String.class, Optional.class));
+    }
+
+    @Test
+    public void should_invalidate_absent_result_handler_once_registered() {
+        final AtomicInteger applied = new AtomicInteger();
+        assertNull(context.resultant("bofa", Optional.class));
+        assertEquals("bofa", context.resultant("bofa"));
+
+        context.registerResultHandler(MapleDslResultHandler.identify(String.class, Optional.class, (value, ctx) -> {
+            applied.incrementAndGet();
+            return Optional.of(value);
+        }));
+
+        assertEquals(Optional.of("bofa"), context.resultant("bofa", Optional.class));
+        assertEquals(1, applied.get());
+    }
+
+    @Test
+    public void should_release_replaced_snapshot_after_resolving() throws Exception {
+        final Field handlersField = MapleDslHandlerRegistry.class.getDeclaredField("handlers");
+        handlersField.setAccessible(true);
+        assertNotNull(context.handlerRegistry.resultHandler(String.class, Integer.class));
+        final WeakReference<Object> replaced = new WeakReference<>(handlersField.get(context.handlerRegistry));
+
+        context.registerResultHandler(MapleDslResultHandler.identify(String.class, Optional.class, (value, ctx) -> Optional.of(value)));
+        // the handlers resolved for String.class must not keep the replaced snapshot reachable.
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (replaced.get() != null && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(replaced.get());
+    }
+
+    @Test
+    public void should_invalidate_absent_parameter_handler_once_registered() {
+        final StringBuilder param = new StringBuilder("bofa");
+        assertEquals("NULL", context.parameterized(param));
+
+        context.registerParameterHandler(MapleDslParameterHandler.identify(StringBuilder.class));
+        assertEquals("bofa", context.parameterized(param));
+    }
+}
@@ -0,0 +1,74 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.annotation.Label;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.extension.func.SerializableFunction;
+import com.mapledsl.core.extension.lambda.LambdaMeta;
+import com.mapledsl.core.model.Model;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslLambdaMetaTest {
+    static MapleDslConfiguration snakeCase, camelCase;
+
+    @BeforeAll
+    public static void init() {
+        snakeCase = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build();
+        camelCase = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.LOWER_CAMEL_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build();
+    }
+
+    @Test
+    public void should_resolve_lambda_meta_once_per_call_site() {
+        final SerializableFunction<Person, String> column = Person::getNickName;
+
+        assertSame(LambdaMeta.resolve(column), LambdaMeta.resolve(column));
+        assertEquals("getNickName", LambdaMeta.resolve(column).getImplMethodName());
+        assertEquals(Person.class, LambdaMeta.resolve(column).getInstantiatedClass());
+    }
+
+    @Test
+    public void should_resolve_property_name_with_given_configuration() {
+        final SerializableFunction<Person, String> column = Person::getNickName;
+
+        assertEquals("nick_name", column.asText(snakeCase));
+        assertEquals("nickName", column.asText(camelCase));
+        assertEquals("nick_name", column.asText(snakeCase));
+    }
+
+    @Test
+    public void should_render_wrapper_with_render_configuration() {
+        final Wrapper<Person> match = vertex(Person.class)
+                .eq(Person::getNickName, "bofa")
+                .select(Person::getNickName);
+
+        final String snakeCaseStmt = match.render(snakeCase);
+        final String camelCaseStmt = match.render(camelCase);
+        assertTrue(snakeCaseStmt.contains("nick_name"), snakeCaseStmt);
+        assertFalse(snakeCaseStmt.contains("nickName"), snakeCaseStmt);
+        assertTrue(camelCaseStmt.contains("nickName"), camelCaseStmt);
+        assertFalse(camelCaseStmt.contains("nick_name"), camelCaseStmt);
+        assertEquals(snakeCaseStmt, match.render(snakeCase));
+    }
+
+    @Label("person")
+    static class Person extends Model.V<String> {
+        private String nickName;
+
+        public String getNickName() {
+            return nickName;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.annotation.Label;
+import com.mapledsl.core.model.Model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The vertex and edge models shared by the session tests.
+ */
+public final class MapleDslMockModels {
+    private MapleDslMockModels() {}
+
+    public static List<Person> persons(int size) {
+        final List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) persons.add(person("p00" + i, "name" + i, i));
+        return persons;
+    }
+
+    public static Person person(String id, String name, Integer age) {
+        final Person person = new Person();
+        person.setId(id);
+        person.setName(name);
+        person.setAge(age);
+        return person;
+    }
+
+    public static Follow follow(String src, String dst, Double weight) {
+        final Follow follow = new Follow();
+        follow.setId(src + "-" + dst);
+        follow.setSrc(src);
+        follow.setDst(dst);
+        follow.setWeight(weight);
+        return follow;
+    }
+
+    @Label("person")
+    public static class Person extends Model.V<String> {
+        private String name;
+        private Integer age;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getAge() {
+            return age;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
+    }
+
+    @Label("follow")
+    public static class Follow extends Model.E<String, String> {
+        private Double weight;
+
+        public Double getWeight() {
+            return weight;
+        }
+
+        public void setWeight(Double weight) {
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import com.mapledsl.core.session.MapleDslExecutorAsyncSession;
+import com.mapledsl.core.session.MapleDslSession;
+import com.mapledsl.core.session.MapleDslSessionFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The session factory whose sessions answer every query with the statement itself, the statement {@code fail} throws.
+ * Every query counts down the in-flight latch and waits for it to reach zero, so the queries are able to wait for
+ * each other. The statements run and the sessions closed are recorded.
+ */
+public class MapleDslMockSessionFactory implements MapleDslSessionFactory {
+    public static final String FAILURE_STATEMENT = "fail";
+
+    final MapleDslConfiguration context;
+    final CountDownLatch inFlight;
+    final AtomicInteger closed = new AtomicInteger();
+    final List<String> statements = new CopyOnWriteArrayList<>();
+
+    public MapleDslMockSessionFactory(MapleDslConfiguration context, CountDownLatch inFlight) {
+        this.context = context;
+        this.inFlight = inFlight;
+    }
+
+    /**
+     * @return the configuration of the mock module, a new one per call.
+     */
+    public static MapleDslConfiguration newConfiguration() {
+        return new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build();
+    }
+
+    @Override
+    public MapleDslSession openSession() {
+        return new MockSession(this);
+    }
+
+    @Override
+    public MapleDslAsyncSession openAsyncSession() {
+        return new MapleDslExecutorAsyncSession(this, Runnable::run);
+    }
+
+    @Override
+    public MapleDslConfiguration configuration() {
+        return context;
+    }
+
+    static final class MockSession implements MapleDslSession {
+        final MapleDslMockSessionFactory sessionFactory;
+
+        MockSession(MapleDslMockSessionFactory sessionFactory) {
+            this.sessionFactory = sessionFactory;
+        }
+
+        private String await(String stmt) {
+            if (FAILURE_STATEMENT.equals(stmt)) throw new IllegalStateException(stmt);
+            sessionFactory.statements.add(stmt);
+            sessionFactory.inFlight.countDown();
+            try {
+                assertTrue(sessionFactory.inFlight.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return stmt;
+        }
+
+        @Override
+        public <ID> Model.V<ID> selectVertex(@NotNull String stmt) {
+            return null;
+        }
+
+        @Override
+        public @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull String stmt) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <ID, R> Model.E<ID, R> selectEdge(@NotNull String stmt) {
+            return null;
+        }
+
+        @Override
+        public @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public <T> T selectOne(String stmt, Class<T> mappedEntityType) {
+            return mappedEntityType.cast(await(stmt));
+        }
+
+        @Override
+        public @NotNull <T> List<T> selectList(String stmt, Class<T> mappedEntityType) {
+            return new ArrayList<>(Collections.singletonList(mappedEntityType.cast(await(stmt))));
+        }
+
+        @Override
+        public @NotNull Map<String, Object> selectMap(@NotNull String stmt) {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt) {
+            final Map<String, Object> row = new HashMap<>();
+            row.put("stmt", await(stmt));
+            return new ArrayList<>(Collections.singletonList(row));
+        }
+
+        @Override
+        public boolean execute(@NotNull String stmt) {
+            return stmt.equals(await(stmt));
+        }
+
+        @Override
+        public boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+            // the bulk writes bind their values, which the mock records as the statement alone.
+            return execute(stmt);
+        }
+
+        @Override
+        public void close() {
+            sessionFactory.closed.incrementAndGet();
+        }
+
+        @Override
+        public @NotNull MapleDslConfiguration configuration() {
+            return sessionFactory.context;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.mapledsl.core.G.traverse;
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MapleDslRenderPlanTest {
+    static MapleDslConfiguration cached, uncached;
+
+    @BeforeAll
+    public static void init() {
+        cached = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .renderPlanCache(true, 16)
+                .build();
+        uncached = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .renderPlanCache(false)
+                .build();
+    }
+
+    @Test
+    public void should_render_same_shape_via_cached_plan() {
+        final long missCount = cached.renderPlanMissCount();
+        final long hitCount = cached.renderPlanHitCount();
+
+        assertEquals(traverse("p001").outE("follow").render(uncached), traverse("p001").outE("follow").render(cached));
+        assertEquals(traverse("p002", "p003").outE("follow").render(uncached), traverse("p002", "p003").outE("follow").render(cached));
+
+        assertEquals(missCount + 1, cached.renderPlanMissCount());
+        assertEquals(hitCount + 1, cached.renderPlanHitCount());
+    }
+
+    @Test
+    public void should_compile_new_plan_for_different_shape() {
+        final long missCount = cached.renderPlanMissCount();
+
+        assertEquals(traverse("p001").inE("impact").render(uncached), traverse("p001").inE("impact").render(cached));
+        assertEquals(traverse("p001").bothE("impact").render(uncached), traverse("p001").bothE("impact").render(cached));
+
+        assertEquals(missCount + 2, cached.renderPlanMissCount());
+        assertEquals(0, uncached.renderPlanMissCount());
+    }
+
+    @Test
+    public void should_render_fetch_shape_via_cached_plan() {
+        final long missCount = cached.renderPlanMissCount();
+        final long hitCount = cached.renderPlanHitCount();
+
+        assertEquals(vertex("person", "p001").limit(10).render(uncached), vertex("person", "p001").limit(10).render(cached));
+        assertEquals(vertex("person", "p002", "p003").limit(5, 20).render(uncached), vertex("person", "p002", "p003").limit(5, 20).render(cached));
+
+        assertEquals(missCount + 1, cached.renderPlanMissCount());
+        assertEquals(hitCount + 1, cached.renderPlanHitCount());
+    }
+
+    @Test
+    public void should_render_match_predicate_slots_via_cached_plan() {
+        final long missCount = cached.renderPlanMissCount();
+        final long hitCount = cached.renderPlanHitCount();
+
+        assertEquals(vertex("person").eq("name", "bofa").gt("age", 30).limit(10).render(uncached),
+                vertex("person").eq("name", "bofa").gt("age", 30).limit(10).render(cached));
+        // the values carrying whitespace, commas or quotes are spliced into the same segments.
+        for (String name : new String[]{ "bofa, deez", "bofa  deez\tnuts", " bofa ", "bofa\",\"deez", "" }) {
+            assertEquals(vertex("person").eq("name", name).gt("age", 42).limit(10).render(uncached),
+                    vertex("person").eq("name", name).gt("age", 42).limit(10).render(cached), name);
+        }
+
+        assertEquals(missCount + 1, cached.renderPlanMissCount());
+        assertEquals(hitCount + 5, cached.renderPlanHitCount());
+    }
+
+    @Test
+    public void should_compile_new_plan_for_different_predicate_shape() {
+        final long missCount = cached.renderPlanMissCount();
+
+        assertEquals(vertex("person").eq("name", "bofa").render(uncached), vertex("person").eq("name", "bofa").render(cached));
+        assertEquals(vertex("person").ne("name", "bofa").render(uncached), vertex("person").ne("name", "bofa").render(cached));
+        assertEquals(vertex("person").eq("name", "bofa").or().eq("name", "deez").render(uncached),
+                vertex("person").eq("name", "bofa").or().eq("name", "deez").render(cached));
+
+        assertEquals(missCount + 3, cached.renderPlanMissCount());
+    }
+}
@@ -0,0 +1,62 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.MapleDslMockModels.Person;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.extension.introspect.BeanDefinition;
+import com.mapledsl.core.extension.introspect.BeanRowPlan;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslRowPlanTest {
+    static MapleDslConfiguration context;
+
+    @BeforeAll
+    public static void init() {
+        context = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build();
+    }
+
+    @Test
+    public void should_reuse_plan_of_same_columns() {
+        final BeanDefinition<Person> definition = context.beanDefinitionUnchecked(Person.class);
+        final List<String> columns = Arrays.asList("id", "name", "age");
+        final BeanRowPlan<Person> plan = definition.rowPlan(columns);
+
+        assertSame(plan, definition.rowPlan(columns));
+        assertSame(plan, definition.rowPlan(new ArrayList<>(columns)));
+        assertNotSame(plan, definition.rowPlan(Arrays.asList("id", "age")));
+        assertEquals(3, plan.size());
+        assertEquals("age", plan.column(2));
+    }
+
+    @Test
+    public void should_map_row_as_same_as_setter() {
+        final BeanDefinition<Person> definition = context.beanDefinitionUnchecked(Person.class);
+        final List<String> columns = Arrays.asList("id", "name", "age", "nickname");
+        final Object[] row = {"p001", "bofa", 18, "bf"};
+
+        final Person planned = definition.newInstance();
+        final BeanRowPlan<Person> plan = definition.rowPlan(columns);
+        for (int i = 0; i < row.length; i++) plan.setter(planned, i, row[i]);
+        plan.setter(planned, 1, null);
+
+        final Person expected = definition.newInstance();
+        for (int i = 0; i < row.length; i++) definition.setter(expected, columns.get(i), row[i]);
+
+        assertEquals(expected.id(), planned.id());
+        assertEquals("bofa", planned.getName());
+        assertEquals(expected.getAge(), planned.getAge());
+        assertEquals(expected.props(), planned.props());
+        assertEquals("bf", planned.props().get("nickname"));
+    }
+}
@@ -0,0 +1,149 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.exception.MapleDslException;
+import com.mapledsl.core.session.MapleDslSessionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static com.mapledsl.core.G.upsertVertex;
+import static com.mapledsl.core.MapleDslMockModels.persons;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslSessionTemplateTest {
+    MapleDslConfiguration context;
+
+    @BeforeEach
+    public void init() {
+        context = MapleDslMockSessionFactory.newConfiguration();
+    }
+
+    @Test
+    public void should_open_session_per_query_out_of_scope() {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory);
+
+        assertEquals("q", template.selectOne("q", String.class));
+        assertEquals(Collections.singletonList("q"), template.selectList("q", String.class));
+        assertTrue(template.execute("q"));
+        assertEquals(3, sessionFactory.closed.get());
+    }
+
+    @Test
+    public void should_reuse_session_in_scope() {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory);
+
+        final String ret = template.inSession(session -> {
+            assertEquals("q", template.selectOne("q", String.class));
+            assertTrue(template.execute("q"));
+            // the nested scope joins the outer one.
+            return template.inSession(nested -> {
+                assertSame(session, nested);
+                return nested.selectOne("r", String.class);
+            });
+        });
+
+        assertEquals("r", ret);
+        assertEquals(1, sessionFactory.closed.get());
+
+        assertTrue(template.execute("q"));
+        assertEquals(2, sessionFactory.closed.get());
+    }
+
+    @Test
+    public void should_delegate_batch_to_one_session() {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory);
+        final List<Wrapper<?>> batch = Arrays.asList(
+                upsertVertex(persons(1)),
+                upsertVertex(persons(2))
+        );
+        final List<String> statements = Arrays.asList(batch.get(0).render(context), batch.get(1).render(context));
+
+        assertTrue(template.executeBatch(batch));
+        assertEquals(statements, sessionFactory.statements);
+        assertEquals(1, sessionFactory.closed.get());
+
+        final List<List<String>> ret = template.selectBatch(batch, String.class);
+        assertEquals(Arrays.asList(Collections.singletonList(statements.get(0)), Collections.singletonList(statements.get(1))), ret);
+        assertEquals(2, sessionFactory.closed.get());
+    }
+
+    @Test
+    public void should_close_session_and_rethrow_on_failure() {
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, new CountDownLatch(0));
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory);
+
+        final MapleDslException failure = assertThrows(MapleDslException.class, () -> template.selectOne("fail", String.class));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+        assertEquals(1, sessionFactory.closed.get());
+
+        assertThrows(IllegalStateException.class, () -> template.inSession(session -> session.selectOne("fail", String.class)));
+        assertEquals(2, sessionFactory.closed.get());
+    }
+
+    @Test
+    public void should_coalesce_identical_concurrent_queries() throws Exception {
+        // the executing query waits for the test thread to count down.
+        final CountDownLatch release = new CountDownLatch(2);
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, release);
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory, true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) futures.add(executor.submit(() -> template.selectOne("q", String.class)));
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (template.coalescedCount() < 3 && System.nanoTime() < deadline) Thread.yield();
+            assertEquals(3, template.coalescedCount());
+            release.countDown();
+
+            for (Future<String> future : futures) assertEquals("q", future.get(5, TimeUnit.SECONDS));
+            assertEquals(1, sessionFactory.closed.get());
+
+            // the completed query is never shared with the following one.
+            assertEquals("q", template.selectOne("q", String.class));
+            assertEquals(2, sessionFactory.closed.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void should_share_unmodifiable_results_with_coalesced_queries() throws Exception {
+        final CountDownLatch release = new CountDownLatch(2);
+        final MapleDslMockSessionFactory sessionFactory = new MapleDslMockSessionFactory(context, release);
+        final MapleDslSessionTemplate template = MapleDslSessionTemplate.newInstance(sessionFactory, true);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<Future<List<Map<String, Object>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) futures.add(executor.submit(() -> template.selectMaps("q")));
+
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (template.coalescedCount() < 2 && System.nanoTime() < deadline) Thread.yield();
+            assertEquals(2, template.coalescedCount());
+            release.countDown();
+
+            final List<Map<String, Object>> shared = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<Map<String, Object>>> future : futures) assertSame(shared, future.get(5, TimeUnit.SECONDS));
+            // no caller is able to change the result seen by the others.
+            assertThrows(UnsupportedOperationException.class, () -> shared.add(Collections.emptyMap()));
+            assertThrows(UnsupportedOperationException.class, () -> shared.get(0).put("stmt", "r"));
+            assertEquals("q", shared.get(0).get("stmt"));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the queries never coalesced keep the results of the session.
+        final List<String> ret = MapleDslSessionTemplate.newInstance(new MapleDslMockSessionFactory(context, new CountDownLatch(0))).selectList("q", String.class);
+        assertTrue(ret.add("r"));
+    }
+}
@@ -0,0 +1,50 @@
+package com.mapledsl.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MapleDslStatementNormalizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "  MATCH (v:person)   WHERE v.age > 18 \n RETURN v.name ,  v.age  ",
+            "FETCH PROP ON person \"p001\" , \"p002\"\nYIELD\tid(vertex) AS id",
+            "a, ,b", "a ,  ,b", "a\t,b", "a ,\n\nb", " \t ", "", ",", "a  ,", "x\ny"
+    })
+    public void should_normalize_as_same_as_regex(String stmt) {
+        assertEquals(regex(stmt), MapleDslStatementNormalizer.normalize(stmt));
+    }
+
+    @Test
+    public void should_normalize_random_statements_as_same_as_regex() {
+        final Random random = new Random(20231018);
+        final char[] alphabet = {'a', 'b', ',', ' ', ' ', '\t', '\n', '\r', '(', ')'};
+        for (int n = 0; n < 10_000; n++) {
+            final char[] stmt = new char[random.nextInt(24)];
+            for (int i = 0; i < stmt.length; i++) stmt[i] = alphabet[random.nextInt(alphabet.length)];
+            assertEquals(regex(new String(stmt)), MapleDslStatementNormalizer.normalize(new String(stmt)), new String(stmt));
+        }
+    }
+
+    @Test
+    public void should_keep_quoted_literals_verbatim() {
+        assertEquals("WHERE v.name IN [ \"bofa,  deez\",\"it\\\"s ,  me\",'a  , b' ] RETURN v",
+                MapleDslStatementNormalizer.normalize("  WHERE v.name IN [ \"bofa,  deez\" , \"it\\\"s ,  me\",  'a  , b' ]   RETURN v "));
+        assertEquals("WHERE v.name = \"bofa,  deez", MapleDslStatementNormalizer.normalize("WHERE v.name = \"bofa,  deez"));
+    }
+
+    @Test
+    public void should_return_same_instance_if_normalized() {
+        final String stmt = "MATCH (v:person) WHERE v.name = \"bofa\" RETURN v.name,v.age";
+        assertSame(stmt, MapleDslStatementNormalizer.normalize(stmt));
+    }
+
+    static String regex(String stmt) {
+        return stmt.trim().replaceAll("\\s{2,}", " ").replaceAll("\\s?,\\s?", ",");
+    }
+}
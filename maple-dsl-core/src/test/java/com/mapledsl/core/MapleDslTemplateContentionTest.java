@@ -0,0 +1,48 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.mapledsl.core.G.traverse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Renders through the shared compiled template group from many threads at once,
+ * the throughput under contention is measured by {@code TemplateContentionBenchmark} of maple-dsl-benchmarks.
+ */
+public class MapleDslTemplateContentionTest {
+    static MapleDslConfiguration context;
+
+    @BeforeAll
+    public static void init() {
+        context = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .renderPlanCache(false)
+                .build();
+    }
+
+    @Test
+    public void should_render_identical_statements_under_contention() throws Exception {
+        final String expected = traverse("p001").outE("follow").render(context);
+        final ExecutorService executor = Executors.newFixedThreadPool(32);
+        try {
+            final List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 512; i++) {
+                futures.add(executor.submit(() -> traverse("p001").outE("follow").render(context)));
+            }
+            for (Future<String> future : futures) assertEquals(expected, future.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
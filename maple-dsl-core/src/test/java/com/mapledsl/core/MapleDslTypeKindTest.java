@@ -0,0 +1,102 @@
+package com.mapledsl.core;
+
+import com.mapledsl.core.annotation.Label;
+import com.mapledsl.core.exception.MapleDslUncheckedException;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import com.mapledsl.core.extension.NamingStrategies;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.core.module.MapleDslResultHandler;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class MapleDslTypeKindTest {
+    static final int ITERATIONS = 100_000;
+    static MapleDslConfiguration context;
+
+    @BeforeAll
+    public static void init() {
+        context = new MapleDslConfiguration.Builder()
+                .module(MapleDslMockModule.class)
+                .namingStrategy(NamingStrategies.SNAKE_CASE)
+                .keyPolicyStrategy(KeyPolicyStrategies.MANUAL)
+                .build()
+                .registerResultHandler(MapleDslResultHandler.identify(String.class, Money.class, (in, ctx) -> new Money(in)));
+    }
+
+    @Test
+    public void should_classify_types() {
+        assertEquals(MapleDslTypeKind.JDK, MapleDslTypeKind.of(Long.class));
+        assertEquals(MapleDslTypeKind.JDK, MapleDslTypeKind.of(HashMap.class));
+        assertEquals(MapleDslTypeKind.PRIMITIVE, MapleDslTypeKind.of(long.class));
+        assertEquals(MapleDslTypeKind.ARRAY, MapleDslTypeKind.of(Person[].class));
+        assertEquals(MapleDslTypeKind.BEAN, MapleDslTypeKind.of(Person.class));
+        assertEquals(MapleDslTypeKind.BEAN, MapleDslTypeKind.of(Money.class));
+        assertEquals(MapleDslTypeKind.HANDLED, MapleDslTypeKind.of(Money.class, context.handlerRegistry));
+        assertEquals(MapleDslTypeKind.BEAN, MapleDslTypeKind.of(Person.class, context.handlerRegistry));
+
+        assertNull(context.beanDefinition(Long.class));
+        assertNotNull(context.beanDefinition(Person.class));
+        assertNull(context.beanDefinition(Money.class));
+        assertEquals(new Money("42"), context.resultant("42", Money.class));
+        assertThrows(MapleDslUncheckedException.class, () -> context.beanDefinitionUnchecked(String.class));
+    }
+
+    @Test
+    public void should_not_allocate_looking_up_scalar_definitions() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported());
+        allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        lookup(ITERATIONS);
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedBefore = allocationMXBean.getThreadAllocatedBytes(threadId);
+        lookup(ITERATIONS);
+        final long allocated = allocationMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        // a single exception with its stack trace allocates hundreds of bytes, the budget is below one byte per lookup.
+        final int lookups = ITERATIONS * 5;
+        assertTrue(allocated < lookups, "allocated " + allocated + " bytes for " + lookups + " lookups.");
+    }
+
+    private static void lookup(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            assertNull(context.beanDefinition(Long.class));
+            assertNull(context.beanDefinition(String.class));
+            assertNull(context.beanDefinition(HashMap.class));
+            assertNull(context.beanDefinition(ArrayList.class));
+            assertNull(context.beanDefinition(Money.class));
+        }
+    }
+
+    @Label("person")
+    static class Person extends Model.V<String> {
+    }
+
+    static final class Money {
+        final String amount;
+
+        Money(String amount) {
+            this.amount = amount;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Money && ((Money) o).amount.equals(amount);
+        }
+
+        @Override
+        public int hashCode() {
+            return amount.hashCode();
+        }
+    }
+}
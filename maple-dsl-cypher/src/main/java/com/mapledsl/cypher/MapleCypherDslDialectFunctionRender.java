@@ -19,7 +19,7 @@ public class MapleCypherDslDialectFunctionRender extends MapleDslDialectFunction
     protected String toFunction(MapleDslDialectFunction<?> value) {
         if (value == null) return NULL;
         if (!functionRenderMap.containsKey(value.func())) throw new UnsupportedOperationException("Unsupported Func: " + value.func().name());
-        return functionRenderMap.get(value.func()).apply(value.ref(), value.column()) + AS + value.alias();
+        return functionRenderMap.get(value.func()).apply(value.ref(), value.column(context)) + AS + value.alias();
     }
 
     @Override
@@ -24,6 +24,11 @@ public class MapleCypherDslModule extends MapleDslModule {
         return KeyPolicyStrategies.INTERNAL;
     }
 
+    @Override
+    public boolean identifierList() {
+        return true;
+    }
+
     @Override
     public @NotNull String version() {
         return VERSION;
@@ -17,6 +17,14 @@ public class CypherBaseTest {
         public Integer getAge() {
             return age;
         }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
     }
 
     @Label("impact")
@@ -1,12 +1,17 @@
 package com.mapledsl.cypher;
 
 import com.google.common.collect.ImmutableList;
+import com.mapledsl.core.MapleDslBoundStatement;
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 
 import static com.mapledsl.core.G.edge;
+import static com.mapledsl.core.G.traverse;
 import static com.mapledsl.core.G.vertex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -216,4 +221,20 @@ public class CypherFetchTest extends CypherBaseTest {
                 .limit(1, 2)
                 .render());
     }
+
+    @Test
+    public void should_bind_vertex_ids_as_one_list() {
+        final MapleDslConfiguration configuration = new MapleDslConfiguration.Builder()
+                .keyPolicyStrategy(KeyPolicyStrategies.INTERNAL)
+                .build();
+
+        // the statement stays the same however many ids are bound.
+        final MapleDslBoundStatement bound = vertex(Person.class, 1001L, 1002L, 1003L).limit(1, 2).bind(configuration);
+        assertEquals("MATCH (v:person) WHERE id(v) IN $p0 RETURN v SKIP $p1 LIMIT $p2", bound.statement());
+        assertEquals(Arrays.asList(1001L, 1002L, 1003L), bound.parameters().get("p0"));
+        assertEquals(bound.statement(), vertex(Person.class, 1001L).limit(1, 2).bind(configuration).statement());
+
+        assertEquals("MATCH (dst) - [e:follow*0..1] -> (src) WHERE id(src) IN $p0 RETURN id(dst) AS dst_id",
+                traverse(1001L, 1002L).inE("follow").bind(configuration).statement());
+    }
 }
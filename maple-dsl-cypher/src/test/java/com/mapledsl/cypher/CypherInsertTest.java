@@ -0,0 +1,57 @@
+package com.mapledsl.cypher;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.KeyPolicyStrategies;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Collections;
+
+import static com.mapledsl.core.G.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CypherInsertTest extends CypherBaseTest {
+    static MapleDslConfiguration configuration = new MapleDslConfiguration.Builder()
+            .keyPolicyStrategy(KeyPolicyStrategies.INTERNAL)
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r CREATE (v:person) SET v = r.props")
+    public void should_insert_vertices_create_internal_id(String expected) {
+        assertEquals(expected, insertVertex(Collections.singletonList(person())).bind(configuration).statement());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r OPTIONAL MATCH (v:person) WHERE id(v) = r.id " +
+            "FOREACH (_ IN CASE WHEN v IS NULL THEN [1] ELSE [] END | CREATE (n:person) SET n = r.props) " +
+            "FOREACH (_ IN CASE WHEN v IS NULL THEN [] ELSE [1] END | SET v += r.props)")
+    public void should_upsert_vertices_match_internal_id(String expected) {
+        assertEquals(expected, upsertVertex(Collections.singletonList(person())).bind(configuration).statement());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r MATCH (src),(dst) WHERE id(src) = r.src AND id(dst) = r.dst MERGE (src)-[e:impact]->(dst) SET e += r.props")
+    public void should_upsert_edges_match_internal_id(String expected) {
+        final Impact impact = new Impact();
+        impact.setSrc(1L);
+        impact.setDst(2L);
+        assertEquals(expected, upsertEdge(Collections.singletonList(impact)).bind(configuration).statement());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r MATCH (src:person),(dst:person) WHERE id(src) = r.src AND id(dst) = r.dst CREATE (src)-[e:impact]->(dst) SET e = r.props")
+    public void should_insert_edges_match_labelled_internal_id(String expected) {
+        final Impact impact = new Impact();
+        impact.setSrc(1L);
+        impact.setDst(2L);
+        assertEquals(expected, insertEdge(Collections.singletonList(impact), Person.class, Person.class).bind(configuration).statement());
+    }
+
+    static Person person() {
+        final Person person = new Person();
+        person.setId(1L);
+        person.setName("bofa");
+        person.setAge(18);
+        return person;
+    }
+}
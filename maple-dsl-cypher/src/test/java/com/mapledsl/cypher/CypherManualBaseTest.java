@@ -19,6 +19,14 @@ public class CypherManualBaseTest {
         public Integer getAge() {
             return age;
         }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public void setAge(Integer age) {
+            this.age = age;
+        }
     }
 
     @Label("impact")
@@ -28,6 +36,10 @@ public class CypherManualBaseTest {
         public String getType() {
             return type;
         }
+
+        public void setType(String type) {
+            this.type = type;
+        }
     }
 
     @Label("impact_fork")
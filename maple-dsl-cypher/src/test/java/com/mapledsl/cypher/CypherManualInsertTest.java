@@ -0,0 +1,69 @@
+package com.mapledsl.cypher;
+
+import com.mapledsl.core.MapleDslBoundStatement;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.mapledsl.core.G.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CypherManualInsertTest extends CypherManualBaseTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r MERGE (v:person {id: r.id}) ON CREATE SET v += r.props")
+    public void should_insert_vertices_unwind_rows(String expected) {
+        final MapleDslBoundStatement bound = insertVertex(persons()).bind(configuration);
+
+        assertEquals(expected, bound.statement());
+        assertEquals(2, ((List<?>) bound.parameters().get("rows")).size());
+        assertEquals("p002", ((Map<?, ?>) ((List<?>) bound.parameters().get("rows")).get(1)).get("id"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND [{id:\"p001\",props:{age:18,name:\"bofa\"}},{id:\"p002\",props:{age:20,name:\"deez\"}}] AS r MERGE (v:person {id: r.id}) SET v += r.props")
+    public void should_upsert_vertices_rows_literal(String expected) {
+        assertEquals(expected, upsertVertex(persons()).render(configuration));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r MATCH (src {id: r.src}),(dst {id: r.dst}) MERGE (src)-[e:impact {id: r.id}]->(dst) ON CREATE SET e += r.props")
+    public void should_insert_edges_match_endpoints(String expected) {
+        final Impact impact = new Impact();
+        impact.setId("e001");
+        impact.setSrc("p001");
+        impact.setDst("p002");
+        impact.setType("Type1");
+        final MapleDslBoundStatement bound = insertEdge(Arrays.asList(impact)).bind(configuration);
+
+        assertEquals(expected, bound.statement());
+        assertEquals("p002", ((Map<?, ?>) ((List<?>) bound.parameters().get("rows")).get(0)).get("dst"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "UNWIND $rows AS r MATCH (src:person {id: r.src}),(dst:person {id: r.dst}) MERGE (src)-[e:impact {id: r.id}]->(dst) SET e += r.props")
+    public void should_upsert_edges_match_labelled_endpoints(String expected) {
+        final Impact impact = new Impact();
+        impact.setId("e001");
+        impact.setSrc("p001");
+        impact.setDst("p002");
+        impact.setType("Type1");
+
+        assertEquals(expected, upsertEdge(Arrays.asList(impact), Person.class, Person.class).bind(configuration).statement());
+    }
+
+    static List<Person> persons() {
+        return Arrays.asList(person("p001", "bofa", 18), person("p002", "deez", 20));
+    }
+
+    static Person person(String id, String name, Integer age) {
+        final Person person = new Person();
+        person.setId(id);
+        person.setName(name);
+        person.setAge(age);
+        return person;
+    }
+}
@@ -70,7 +70,7 @@ public class CypherManualMatchTest extends CypherManualBaseTest {
 
     @ParameterizedTest
     @ValueSource(strings = "MATCH (src) - [e:impact] -> (dst) WHERE e.type IN [\"Type1\",\"Type2\"] RETURN e.type AS impact_type,src.id AS src,dst.id AS dst " +
-            "ORDER BY impact_type ASC,src,dst DESC")
+            "ORDER BY impact_type ASC,src DESC,dst DESC")
     public void should_match_edge_with_selection_ordering(String expected) {
         assertEquals(expected, edge(Impact.class)
                 .in(Impact::getType, Arrays.asList("Type1", "Type2"))
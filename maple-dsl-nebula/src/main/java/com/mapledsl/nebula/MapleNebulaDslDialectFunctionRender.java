@@ -18,7 +18,7 @@ public class MapleNebulaDslDialectFunctionRender extends MapleDslDialectFunction
     protected String toFunction(MapleDslDialectFunction<?> value) {
         if (value == null) return NULL;
         if (!functionRenderMap.containsKey(value.func())) throw new UnsupportedOperationException("Unsupported Func: " + value.func().name());
-        return functionRenderMap.get(value.func()).apply(value.column()) + AS + value.alias();
+        return functionRenderMap.get(value.func()).apply(value.column(context)) + AS + value.alias();
     }
 
     @Override
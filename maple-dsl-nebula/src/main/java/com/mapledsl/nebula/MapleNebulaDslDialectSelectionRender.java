@@ -23,15 +23,22 @@ public class MapleNebulaDslDialectSelectionRender extends MapleDslDialectSelecti
     public String toString(MapleDslDialectSelection value, String formatString, Locale locale) {
         if (StringUtils.isNotBlank(formatString)) {
             if (value == null)         return NULL;
-            if (value.isAllPresent())  return joinFormat(formatString, value.ref());
 
-            final String curSelection = joinFormat(formatString, value.aliases());
-            if (!value.hasNext()) return curSelection;
-
-            final String nextSelection = toString(value.next, formatString, locale);
-            if (nextSelection.equalsIgnoreCase(NULL)) return curSelection;
+            final StringBuilder builder = new StringBuilder(64);
+            int length = -1;
+            for (MapleDslDialectSelection<?> cur = value; cur != null; cur = cur.next) {
+                if (length > -1) builder.append(COMMA);
+
+                final String curSelection = cur.isAllPresent() ? joinFormat(formatString, cur.ref()) : joinFormat(formatString, cur.aliases(context));
+                builder.append(curSelection);
+                // the trailing selections rendered as NULL are dropped.
+                if (length < 0 || !curSelection.equalsIgnoreCase(NULL)) length = builder.length();
+                // the selection of the whole ref ends the chain.
+                if (cur.isAllPresent()) break;
+            }
 
-            return curSelection + COMMA + nextSelection;
+            builder.setLength(length);
+            return builder.toString();
         }
 
         return super.toString(value, formatString, locale);
@@ -12,13 +12,20 @@ import com.vesoft.nebula.Vertex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Default implementation of the {@link MapleDslDefinitionResultHandler} interface.
  * Handles the conversion of {@link Value} objects into bean definitions.
+ * <p></p>
+ * The vertex and edge are decoded straight into the writers of the definition by its {@link MapleNebulaDslBeanDecoder}.
  */
 public class DefaultMapleNebulaDslDefinitionResultHandler implements MapleDslDefinitionResultHandler<Value> {
     static final Logger LOG = LoggerFactory.getLogger(DefaultMapleNebulaDslDefinitionResultHandler.class);
 
+    private final Map<BeanDefinition<?>, MapleNebulaDslBeanDecoder<?>> decoderMap = new ConcurrentHashMap<>();
+
     @Override
     public Class<Value> inboundType() {
         return Value.class;
@@ -32,17 +39,19 @@ public class DefaultMapleNebulaDslDefinitionResultHandler implements MapleDslDef
         }
 
         final OUT out = definition.newInstance();
+        final MapleNebulaDslBeanDecoder<OUT> decoder = decoder(definition);
+        final MapleNebulaDslSymbolTable symbols = MapleNebulaDslSymbolTable.of(context);
         if (value.getSetField() == Value.VVAL) {
             LOG.debug("Label:{} unwrap as vertex.", definition.label());
             final Vertex vertex = value.getVVal();
-            definition.setter(out, Model.V.ID, vertex.vid);
+            decoder.setter(out, Model.V.ID, vertex.vid);
 
             if (vertex.tags.isEmpty()) return out;
             final Tag tag = vertex.tags.get(0);
             if (tag == null) return out;
 
-            if (tag.isSetName()) definition.setter(out, Model.V.TAG, new String(tag.name).intern());
-            if (tag.isSetProps()) tag.props.forEach((k, v) -> definition.setter(out, new String(k).intern(), v));
+            if (tag.isSetName()) decoder.setter(out, Model.V.TAG, symbols.symbol(tag.name));
+            if (tag.isSetProps()) decoder.setter(out, tag.props, symbols);
 
             return out;
         }
@@ -51,16 +60,24 @@ public class DefaultMapleNebulaDslDefinitionResultHandler implements MapleDslDef
             LOG.debug("Label:{} unwrap as edge.", definition.label());
             final Edge edge = value.getEVal();
 
-            definition.setter(out, Model.E.SRC, edge.type > 0 ? edge.src : edge.dst);
-            definition.setter(out, Model.E.DST, edge.type > 0 ? edge.dst : edge.src);
-            definition.setter(out, Model.E.TAG, new String(edge.name).intern());
-            definition.setter(out, NebulaModel.E.RANK, edge.ranking);
+            decoder.setter(out, Model.E.SRC, edge.type > 0 ? edge.src : edge.dst);
+            decoder.setter(out, Model.E.DST, edge.type > 0 ? edge.dst : edge.src);
+            decoder.setter(out, Model.E.TAG, symbols.symbol(edge.name));
+            decoder.setter(out, NebulaModel.E.RANK, edge.ranking);
 
-            if (edge.isSetProps()) edge.props.forEach((k, v) -> definition.setter(out, new String(k).intern(), v));
+            if (edge.isSetProps()) decoder.setter(out, edge.props, symbols);
 
             return out;
         }
 
         return out;
     }
+
+    @SuppressWarnings("unchecked")
+    private <OUT> MapleNebulaDslBeanDecoder<OUT> decoder(BeanDefinition<OUT> definition) {
+        final MapleNebulaDslBeanDecoder<?> decoder = decoderMap.get(definition);
+        if (decoder != null) return (MapleNebulaDslBeanDecoder<OUT>) decoder;
+
+        return (MapleNebulaDslBeanDecoder<OUT>) decoderMap.computeIfAbsent(definition, it -> new MapleNebulaDslBeanDecoder<>(definition));
+    }
 }
@@ -255,7 +255,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId());
             case Value.FVAL: return ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId());
-            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalDateTime::from);
+            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8), LocalDateTime::from);
             case Value.DVAL: return MapleNebulaDslType.DATE.<LocalDate>apply(value)
                     .atTime(0, 0);
             case Value.TVAL: return MapleNebulaDslType.TIME.<LocalTime>apply(value)
@@ -270,7 +270,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId()).toLocalDate();
             case Value.FVAL: return ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId()).toLocalDate();
-            case Value.SVAL: return ctx.globalDateFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalDate::from);
+            case Value.SVAL: return ctx.globalDateFormatter().parse(new String(value.getSVal(), UTF_8), LocalDate::from);
             case Value.DVAL: return MapleNebulaDslType.DATE.apply(value);
             case Value.DTVAL:return MapleNebulaDslType.DATETIME.<LocalDateTime>apply(value).toLocalDate();
         }
@@ -282,7 +282,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId()).toLocalTime();
             case Value.FVAL: return ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId()).toLocalTime();
-            case Value.SVAL: return ctx.globalTimeFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalTime::from);
+            case Value.SVAL: return ctx.globalTimeFormatter().parse(new String(value.getSVal(), UTF_8), LocalTime::from);
             case Value.TVAL: return MapleNebulaDslType.TIME.apply(value);
             case Value.DTVAL:return MapleNebulaDslType.DATETIME.<LocalDateTime>apply(value).toLocalTime();
         }
@@ -294,7 +294,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return OffsetDateTime.ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId());
             case Value.FVAL: return OffsetDateTime.ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId());
-            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalDateTime::from)
+            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8), LocalDateTime::from)
                     .atZone(ctx.globalZoneId())
                     .toOffsetDateTime();
             case Value.DVAL: return OffsetDateTime.ofInstant(MapleNebulaDslType.DATE.<LocalDate>apply(value)
@@ -320,7 +320,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return OffsetTime.ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId());
             case Value.FVAL: return OffsetTime.ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId());
-            case Value.SVAL: return ctx.globalTimeFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalTime::from)
+            case Value.SVAL: return ctx.globalTimeFormatter().parse(new String(value.getSVal(), UTF_8), LocalTime::from)
                     .atDate(LocalDate.now())
                     .atZone(ctx.globalZoneId())
                     .toOffsetDateTime()
@@ -343,7 +343,7 @@ enum DefaultMapleNebulaDslResultHandlers {
             case Value.NVAL: return null;
             case Value.IVAL: return ZonedDateTime.ofInstant(ofEpochMilli(value.getIVal()), ctx.globalZoneId());
             case Value.FVAL: return ZonedDateTime.ofInstant(ofEpochMilli((long) value.getFVal()), ctx.globalZoneId());
-            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8).intern(), LocalDateTime::from)
+            case Value.SVAL: return ctx.globalDateTimeFormatter().parse(new String(value.getSVal(), UTF_8), LocalDateTime::from)
                     .atZone(ctx.globalZoneId());
             case Value.DVAL: return ZonedDateTime.ofInstant(MapleNebulaDslType.DATE.<LocalDate>apply(value)
                     .atTime(0,0)
@@ -363,7 +363,7 @@ enum DefaultMapleNebulaDslResultHandlers {
 
         return null;
     })),
-    ANY(MapleNebulaDslResultHandler.identify(Object.class, (value, ctx) -> MapleNebulaDslType.any(value)));
+    ANY(MapleNebulaDslResultHandler.identify(Object.class, (value, ctx) -> MapleNebulaDslType.any(value, MapleNebulaDslSymbolTable.of(ctx))));
 
     final MapleDslResultHandler<?,?> handler;
 
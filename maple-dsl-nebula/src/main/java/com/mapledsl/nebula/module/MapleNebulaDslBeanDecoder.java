@@ -0,0 +1,78 @@
+package com.mapledsl.nebula.module;
+
+import com.mapledsl.core.extension.introspect.BeanDefinition;
+import com.mapledsl.core.extension.introspect.BeanRowPlan;
+import com.vesoft.nebula.Value;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The MapleNebulaDslBeanDecoder decodes the props of a nebula vertex or edge straight into the writers of
+ * a {@link BeanDefinition}, it is compiled once per definition.
+ * <p></p>
+ * The thrift props are keyed by the raw UTF-8 bytes of the property name, which are looked up in an open addressing
+ * table of the encoded writable property names, so that a known property does not decode its name into a string.
+ * The unknown properties fall back to {@link BeanDefinition#setter}, e.g. the props of the model.
+ *
+ * @param <BEAN> the type of the bean
+ */
+final class MapleNebulaDslBeanDecoder<BEAN> {
+    private final @NotNull BeanDefinition<BEAN> definition;
+    private final @NotNull BeanRowPlan<BEAN> plan;
+    private final @NotNull List<String> propertyNames;
+    private final byte[][] names;
+    /** the open addressing table of the names, every slot holds the name index plus one, zero if empty */
+    private final int[] slots;
+
+    MapleNebulaDslBeanDecoder(@NotNull BeanDefinition<BEAN> definition) {
+        this.definition = definition;
+        this.propertyNames = new ArrayList<>(definition.writablePropertyNames());
+        this.plan = definition.rowPlan(propertyNames);
+        this.names = new byte[propertyNames.size()][];
+        this.slots = new int[Integer.highestOneBit(Math.max(propertyNames.size(), 1) * 2) << 1];
+
+        for (int i = 0; i < names.length; i++) {
+            names[i] = propertyNames.get(i).getBytes(UTF_8);
+            int slot = Arrays.hashCode(names[i]) & (slots.length - 1);
+            while (slots[slot] != 0) slot = (slot + 1) & (slots.length - 1);
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Injects the value of the given property, such as the id or tag of the vertex.
+     */
+    void setter(BEAN target, @NotNull String propertyName, Object propertyValue) {
+        final int index = propertyNames.indexOf(propertyName);
+        if (index < 0) definition.setter(target, propertyName, propertyValue);
+        else plan.setter(target, index, propertyValue);
+    }
+
+    /**
+     * Injects the thrift props of the vertex tag or edge, the names of the unknown props are decoded by the symbol table.
+     */
+    void setter(BEAN target, @NotNull Map<byte[], Value> props, @NotNull MapleNebulaDslSymbolTable symbols) {
+        for (Map.Entry<byte[], Value> entry : props.entrySet()) {
+            final int index = indexOf(entry.getKey());
+            if (index < 0) definition.setter(target, symbols.symbol(entry.getKey()), entry.getValue());
+            else plan.setter(target, index, entry.getValue());
+        }
+    }
+
+    private int indexOf(byte[] name) {
+        int slot = Arrays.hashCode(name) & (slots.length - 1);
+        while (slots[slot] != 0) {
+            final int index = slots[slot] - 1;
+            if (Arrays.equals(names[index], name)) return index;
+            slot = (slot + 1) & (slots.length - 1);
+        }
+
+        return -1;
+    }
+}
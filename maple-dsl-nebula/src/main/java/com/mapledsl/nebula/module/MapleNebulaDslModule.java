@@ -19,6 +19,8 @@ public class MapleNebulaDslModule extends MapleDslModule {
     public static final String VERSION = "nebula:1.0.3-release";
     public static final String DIALECT = "nebula";
 
+    private final MapleNebulaDslSymbolTable symbolTable = new MapleNebulaDslSymbolTable(MapleNebulaDslSymbolTable.DEFAULT_CAPACITY);
+
     @Override
     public @NotNull String version() {
         return VERSION;
@@ -41,4 +43,11 @@ public class MapleNebulaDslModule extends MapleDslModule {
 
         return dialectTemplateProperties;
     }
+
+    /**
+     * @return the symbol table of the configuration owning this module
+     */
+    public @NotNull MapleNebulaDslSymbolTable symbolTable() {
+        return symbolTable;
+    }
 }
@@ -0,0 +1,86 @@
+package com.mapledsl.nebula.module;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The MapleNebulaDslSymbolTable dedupes the strings decoded from the property keys, tag names, edge names and column
+ * names of the nebula results, which repeat on every row, instead of interning them into the JVM string table.
+ * <p></p>
+ * The table is a direct mapped cache keyed by the raw UTF-8 bytes, a hit returns the cached string without decoding
+ * the bytes at all, a miss decodes them and replaces the slot, so that the table never grows beyond its capacity.
+ * The symbols longer than {@link #MAX_SYMBOL_LENGTH} bytes are decoded without being cached.
+ * <p></p>
+ * Every slot holds an immutable symbol, so the table is shared by the concurrent decoding without any lock,
+ * a racy write only loses a cached symbol. The free-text values, e.g. the string props, are never cached.
+ * <p></p>
+ * Every configuration owns a table by its {@link MapleNebulaDslModule}.
+ */
+public final class MapleNebulaDslSymbolTable {
+    public static final int DEFAULT_CAPACITY = 1024;
+    public static final int MAX_SYMBOL_LENGTH = 128;
+    /**
+     * The table does not cache any symbol, e.g. the configuration is not of the nebula dialect.
+     */
+    public static final MapleNebulaDslSymbolTable NONE = new MapleNebulaDslSymbolTable(0);
+
+    private final Symbol[] symbols;
+
+    /**
+     * @param capacity the number of cached symbols, which is rounded up to a power of two
+     */
+    public MapleNebulaDslSymbolTable(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacity must not be negative, but " + capacity);
+        this.symbols = new Symbol[capacity == 0 ? 0 : 1 << (32 - Integer.numberOfLeadingZeros(capacity - 1))];
+    }
+
+    /**
+     * @param context the configuration
+     * @return the symbol table of the configuration, or {@link #NONE} if the configuration is not of the nebula dialect
+     */
+    public static @NotNull MapleNebulaDslSymbolTable of(@NotNull MapleDslConfiguration context) {
+        return context.module() instanceof MapleNebulaDslModule ? ((MapleNebulaDslModule) context.module()).symbolTable() : NONE;
+    }
+
+    /**
+     * Decodes the UTF-8 bytes as a symbol.
+     *
+     * @param bytes the UTF-8 bytes of the symbol
+     * @return the cached string if the bytes have been decoded before
+     */
+    public @NotNull String symbol(byte @NotNull [] bytes) {
+        if (symbols.length == 0 || bytes.length > MAX_SYMBOL_LENGTH) return new String(bytes, UTF_8);
+
+        final int hash = Arrays.hashCode(bytes);
+        final int slot = (hash ^ (hash >>> 16)) & (symbols.length - 1);
+        final Symbol symbol = symbols[slot];
+        if (symbol != null && symbol.hash == hash && Arrays.equals(symbol.bytes, bytes)) return symbol.value;
+
+        final String value = new String(bytes, UTF_8);
+        symbols[slot] = new Symbol(bytes.clone(), hash, value);
+        return value;
+    }
+
+    /**
+     * @return the capacity of the table
+     */
+    public int capacity() {
+        return symbols.length;
+    }
+
+    static final class Symbol {
+        final byte[] bytes;
+        final int hash;
+        final String value;
+
+        Symbol(byte[] bytes, int hash, String value) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
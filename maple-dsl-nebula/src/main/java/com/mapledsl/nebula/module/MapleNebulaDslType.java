@@ -21,7 +21,8 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * Enum class representing different types in Maple Nebula DSL.
  * <p></p>
  * The MapleNebulaDslType enum provides methods for converting values of type `Value` to the corresponding Java types.
- * Each enum constant has an `apply` method that takes a `Value` object and returns a value of the corresponding Java type.
+ * Each enum constant has an `apply` method that takes a `Value` object and returns a value of the corresponding Java type,
+ * the property keys, tag names and column names are deduped by the {@link MapleNebulaDslSymbolTable} of the configuration.
  * <p></p>
  * The enum constants represent the following types:
  * 1. NULL: Represents a null value.
@@ -49,88 +50,88 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public enum MapleNebulaDslType {
     NULL(1) {
         @Override
-        <R> R apply(Value value) {
+        <R> R apply(Value value, MapleNebulaDslSymbolTable symbols) {
             return null;
         }
     },
     BOOLEAN(2) {
         @Override
-        public Boolean apply(Value value) {
+        public Boolean apply(Value value, MapleNebulaDslSymbolTable symbols) {
             return value.isBVal();
         }
     },
     LONG(3) {
         @Override
-        public Long apply(Value value) {
+        public Long apply(Value value, MapleNebulaDslSymbolTable symbols) {
             return value.getIVal();
         }
     },
     DOUBLE(4) {
         @Override
-        public Double apply(Value value) {
+        public Double apply(Value value, MapleNebulaDslSymbolTable symbols) {
             return value.getFVal();
         }
     },
     STRING(5) {
         @Override
-        public String apply(Value value) {
-            return new String(value.getSVal(), UTF_8).intern();
+        public String apply(Value value, MapleNebulaDslSymbolTable symbols) {
+            return new String(value.getSVal(), UTF_8);
         }
     },
     DATE(6) {
         @Override
-        public LocalDate apply(Value value) {
+        public LocalDate apply(Value value, MapleNebulaDslSymbolTable symbols) {
             Date it = value.getDVal();
             return LocalDate.of(it.year, it.month, it.day);
         }
     },
     TIME(7) {
         @Override
-        public LocalTime apply(Value value) {
+        public LocalTime apply(Value value, MapleNebulaDslSymbolTable symbols) {
             Time it = value.getTVal();
             return LocalTime.of(it.hour, it.minute, it.sec);
         }
     },
     DATETIME(8) {
         @Override
-        public LocalDateTime apply(Value value) {
+        public LocalDateTime apply(Value value, MapleNebulaDslSymbolTable symbols) {
             DateTime it = value.getDtVal();
             return LocalDateTime.of(it.year, it.month, it.day, it.hour, it.minute, it.sec, it.microsec / 1000);
         }
     },
     VERTEX(9) {
         @Override
-        public Map<String, Object> apply(Value value) {
+        public Map<String, Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             final Map<String, Object> ret = new LinkedHashMap<>();
             final Vertex vertex = value.getVVal();
-            ret.put(Model.V.ID, any(vertex.vid));
+            ret.put(Model.V.ID, any(vertex.vid, symbols));
 
             if (vertex.tags.isEmpty()) return ret;
             final Tag tag = vertex.tags.get(0);
             if (tag == null) return ret;
-            if (tag.isSetName()) ret.put(Model.V.TAG, new String(tag.name).intern());
-            if (tag.isSetProps()) tag.props.forEach((k, v) -> ret.put(new String(k).intern(), any(v)));
+            if (tag.isSetName()) ret.put(Model.V.TAG, symbols.symbol(tag.name));
+            if (tag.isSetProps()) tag.props.forEach((k, v) -> ret.put(symbols.symbol(k), any(v, symbols)));
 
             return ret;
         }
     },
     EDGE(10) {
         @Override
-        public Map<String, Object> apply(Value value) {
+        public Map<String, Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             final Map<String, Object> ret = new LinkedHashMap<>();
             final Edge edge = value.getEVal();
-            ret.put(Model.E.SRC, edge.type > 0 ? any(edge.src) : any(edge.dst));
-            ret.put(Model.E.DST, edge.type > 0 ? any(edge.dst) : any(edge.src));
-            ret.put(Model.E.TAG, new String(edge.name).intern());
+            ret.put(Model.E.SRC, edge.type > 0 ? any(edge.src, symbols) : any(edge.dst, symbols));
+            ret.put(Model.E.DST, edge.type > 0 ? any(edge.dst, symbols) : any(edge.src, symbols));
+            ret.put(Model.E.TAG, symbols.symbol(edge.name));
             ret.put(NebulaModel.E.RANK, edge.ranking);
 
-            if (edge.isSetProps()) edge.props.forEach((k, v) -> ret.put(new String(k).intern(),any(v)));
+            if (edge.isSetProps()) edge.props.forEach((k, v) -> ret.put(symbols.symbol(k), any(v, symbols)));
             return ret;
         }
     },
     PATH(11) {
         @Override
-        public Map<String, Object> apply(Value value) {
+        public Map<String, Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             final Path it = value.getPVal();
 
             final LinkedList<Map<String, Object>> vertices = new LinkedList<>();
@@ -143,12 +144,12 @@ public enum MapleNebulaDslType {
             if (it.src == null) return ret;
 
             Value cur = Value.vVal(it.src);
-            vertices.add(VERTEX.apply(cur));
+            vertices.add(VERTEX.apply(cur, symbols));
 
             for (Step step : it.steps) {
                 if (step.dst == null) continue;
                 final Value nextVertex = Value.vVal(step.dst);
-                vertices.add(VERTEX.apply(nextVertex));
+                vertices.add(VERTEX.apply(nextVertex, symbols));
 
                 edges.add(EDGE.apply(Value.eVal(Edge.builder()
                         .setName(step.name)
@@ -157,7 +158,7 @@ public enum MapleNebulaDslType {
                         .setRanking(step.ranking)
                         .setType(step.type)
                         .build()
-                )));
+                ), symbols));
 
                 cur = nextVertex;
             }
@@ -167,14 +168,14 @@ public enum MapleNebulaDslType {
     },
     LIST(12) {
         @Override
-        public List<Object> apply(Value value) {
+        public List<Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             if (!value.getLVal().isSetValues()) return Collections.emptyList();
             final List<Value> valueList = value.getLVal().values;
             if (valueList.isEmpty()) return Collections.emptyList();
 
             final List<Object> ret = new ArrayList<>(valueList.size());
             for (Value it : valueList) {
-                ret.add(any(it));
+                ret.add(any(it, symbols));
             }
 
             return ret;
@@ -182,14 +183,14 @@ public enum MapleNebulaDslType {
     },
     MAP(13) {
         @Override
-        public Map<String, Object> apply(Value value) {
+        public Map<String, Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             if (!value.getMVal().isSetKvs()) return Maps.newHashMap();
             final Map<byte[], Value> valueMap = value.getMVal().kvs;
             if (valueMap.isEmpty()) return Maps.newHashMap();
 
             final Map<String, Object> ret = new HashMap<>(valueMap.size());
             for (Map.Entry<byte[], Value> entry : valueMap.entrySet()) {
-                ret.put(new String(entry.getKey()).intern(), apply(entry.getValue()));
+                ret.put(symbols.symbol(entry.getKey()), apply(entry.getValue(), symbols));
             }
 
             return ret;
@@ -197,14 +198,14 @@ public enum MapleNebulaDslType {
     },
     SET(14) {
         @Override
-        public Set<Object> apply(Value value) {
+        public Set<Object> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             if (!value.getUVal().isSetValues()) return Sets.newHashSet();
             final Set<Value> valueSet = value.getUVal().values;
             if (valueSet.isEmpty()) return Sets.newHashSet();
 
             final Set<Object> ret = new HashSet<>(valueSet.size());
             for (Value it : valueSet) {
-                ret.add(any(it));
+                ret.add(any(it, symbols));
             }
 
             return ret;
@@ -212,33 +213,33 @@ public enum MapleNebulaDslType {
     },
     DATASET(15) {
         @Override
-        public Map<String, Set<Object>> apply(Value value) {
+        public Map<String, Set<Object>> apply(Value value, MapleNebulaDslSymbolTable symbols) {
             if (!value.getGVal().isSetRows()) return Maps.newHashMap();
             if (value.getGVal().rows.isEmpty()) return Maps.newHashMap();
 
             final Map<String, Set<Object>> ret = new HashMap<>(value.getGVal().rows.size());
             for (int i = 0; i < value.getGVal().rows.size(); i++) {
                 final Row row = value.getGVal().rows.get(i);
-                final String col = new String(value.getGVal().column_names.get(i)).intern();
+                final String col = symbols.symbol(value.getGVal().column_names.get(i));
                 if (!row.isSetValues()) {
                     ret.put(col, Collections.emptySet());
                     continue;
                 }
 
-                ret.put(col, row.values.stream().map(MapleNebulaDslType::any).collect(Collectors.toSet()));
+                ret.put(col, row.values.stream().map(it -> any(it, symbols)).collect(Collectors.toSet()));
             }
             return ret;
         }
     },
     GEOGRAPHY(16) {
         @Override
-        public Serializable apply(Value value) {
+        public Serializable apply(Value value, MapleNebulaDslSymbolTable symbols) {
             throw new UnsupportedOperationException("Has not been implemented.");
         }
     },
     DURATION(17) {
         @Override
-        public java.time.Duration apply(Value value) {
+        public java.time.Duration apply(Value value, MapleNebulaDslSymbolTable symbols) {
             final Duration duration = value.getDuVal();
             return java.time.Duration.ofSeconds(duration.seconds, duration.microseconds);
         }
@@ -250,14 +251,30 @@ public enum MapleNebulaDslType {
         this.setField = setField;
     }
 
-    abstract <R> R apply(Value value);
+    abstract <R> R apply(Value value, MapleNebulaDslSymbolTable symbols);
+
+    <R> R apply(Value value) {
+        return apply(value, MapleNebulaDslSymbolTable.NONE);
+    }
 
     static final Map<Integer, MapleNebulaDslType> NEBULA_DSL_TYPE_MAPPINGS = Arrays.stream(MapleNebulaDslType.values()).collect(Collectors.toMap(
             it -> it.setField, Function.identity()
     ));
 
     public static Object any(Value value) {
+        return any(value, MapleNebulaDslSymbolTable.NONE);
+    }
+
+    /**
+     * Converts the value to the corresponding Java object, the property keys, tag names and column names
+     * are deduped by the given symbol table.
+     *
+     * @param value   the nebula value
+     * @param symbols the symbol table of the configuration
+     * @return the Java object
+     */
+    public static Object any(Value value, MapleNebulaDslSymbolTable symbols) {
         final MapleNebulaDslType nebulaType = NEBULA_DSL_TYPE_MAPPINGS.get(value.getSetField());
-        return nebulaType == null ? null : nebulaType.apply(value);
+        return nebulaType == null ? null : nebulaType.apply(value, symbols);
     }
 }
@@ -0,0 +1,184 @@
+package com.mapledsl.nebula.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.session.MapleDslSession;
+import com.vesoft.nebula.client.graph.NebulaPoolConfig;
+import com.vesoft.nebula.client.graph.data.HostAddress;
+import com.vesoft.nebula.client.graph.exception.IOErrorException;
+import com.vesoft.nebula.client.graph.net.Session;
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The MapleNebulaDslPooledSessionFactory keeps authenticated sessions which have been switched to the space
+ * in a session pool, so that opening a session does not pay the authentication and {@code USE <space>} round trips.
+ * <p></p>
+ * {@link #openSession()} borrows a session from the pool, and closing the returned {@link MapleDslSession} returns
+ * it back, a session which met an I/O error or a session-level error, e.g. expired or killed on the graph service,
+ * is invalidated instead. A session left on another space by {@code USE} is switched back before returned,
+ * or invalidated if it can not be. Combined with the
+ * {@link com.mapledsl.core.session.MapleDslSessionTemplate}, every template invocation borrows and returns a pooled session,
+ * or the whole unit of work borrows a single one within {@code MapleDslSessionTemplate#inSession}.
+ * <p></p>
+ * The pool is warmed up to {@code minIdle} sessions on creation, idle sessions are validated by {@code ping}
+ * and evicted once they stay idle longer than the configured eviction time.
+ */
+public class MapleNebulaDslPooledSessionFactory extends MapleNebulaDslSessionFactory {
+    static final Duration DEFAULT_TIME_BETWEEN_EVICTION_RUNS = Duration.ofSeconds(30);
+    static final Duration DEFAULT_MIN_EVICTABLE_IDLE_DURATION = Duration.ofMinutes(5);
+
+    /**
+     * The session pool holds authenticated sessions bound to the space.
+     */
+    final GenericObjectPool<Session> sessionPool;
+
+    /**
+     * Creates an instance of MapleNebulaDslPooledSessionFactory with the session pool sized by the nebula pool config.
+     *
+     * @param configuration   The MapleDslConfiguration object used for Maple DSL execution.
+     * @param hostAddress     The list of Nebula Graph server addresses and ports.
+     * @param space           The name of the space in Nebula Graph to connect to.
+     * @param userName        The username for authentication.
+     * @param password        The password for authentication.
+     * @param nebulaPoolConfig  The configurations for multiple connections to Nebula Graph.
+     */
+    public MapleNebulaDslPooledSessionFactory(MapleDslConfiguration configuration, List<HostAddress> hostAddress, String space, String userName, String password, NebulaPoolConfig nebulaPoolConfig) {
+        this(configuration, hostAddress, space, userName, password, nebulaPoolConfig, null);
+    }
+
+    /**
+     * Creates an instance of MapleNebulaDslPooledSessionFactory.
+     *
+     * @param configuration   The MapleDslConfiguration object used for Maple DSL execution.
+     * @param hostAddress     The list of Nebula Graph server addresses and ports.
+     * @param space           The name of the space in Nebula Graph to connect to.
+     * @param userName        The username for authentication.
+     * @param password        The password for authentication.
+     * @param nebulaPoolConfig  The configurations for multiple connections to Nebula Graph.
+     * @param sessionPoolConfig The configurations for the session pool(min/max idle, validation, eviction), sized by the nebula pool config if null.
+     */
+    public MapleNebulaDslPooledSessionFactory(MapleDslConfiguration configuration, List<HostAddress> hostAddress, String space, String userName, String password, NebulaPoolConfig nebulaPoolConfig, @Nullable GenericObjectPoolConfig<Session> sessionPoolConfig) {
+        super(configuration, hostAddress, space, userName, password, nebulaPoolConfig, true);
+        this.sessionPool = new GenericObjectPool<>(new NebulaSessionPooledObjectFactory(),
+                sessionPoolConfig == null ? defaultSessionPoolConfig(nebulaPoolConfig) : sessionPoolConfig);
+
+        try {
+            sessionPool.preparePool();
+        } catch (Exception e) {
+            LOG.warn("Warm up session pool failed, sessions will be created on demand. Cause: {}", e.getMessage());
+        }
+        if (LOG.isInfoEnabled()) LOG.info("Session pool warmed up with {} idle sessions.", sessionPool.getNumIdle());
+    }
+
+    /**
+     * Creates the default session pool config sized by the nebula pool config, every session holds a connection,
+     * so the session pool never exceeds the connection pool.
+     *
+     * @param nebulaPoolConfig The configurations for multiple connections to Nebula Graph.
+     * @return the default session pool config
+     */
+    public static GenericObjectPoolConfig<Session> defaultSessionPoolConfig(@NotNull NebulaPoolConfig nebulaPoolConfig) {
+        final GenericObjectPoolConfig<Session> sessionPoolConfig = new GenericObjectPoolConfig<>();
+        sessionPoolConfig.setMaxTotal(nebulaPoolConfig.getMaxConnSize());
+        sessionPoolConfig.setMaxIdle(nebulaPoolConfig.getMaxConnSize());
+        sessionPoolConfig.setMinIdle(Math.min(nebulaPoolConfig.getMinConnSize(), nebulaPoolConfig.getMaxConnSize()));
+        sessionPoolConfig.setMaxWait(Duration.ofMillis(nebulaPoolConfig.getWaitTime() > 0 ? nebulaPoolConfig.getWaitTime() : nebulaPoolConfig.getTimeout()));
+        sessionPoolConfig.setTestOnBorrow(false);
+        sessionPoolConfig.setTestWhileIdle(true);
+        sessionPoolConfig.setTimeBetweenEvictionRuns(DEFAULT_TIME_BETWEEN_EVICTION_RUNS);
+        sessionPoolConfig.setMinEvictableIdleTime(nebulaPoolConfig.getIdleTime() > 0 ? Duration.ofMillis(nebulaPoolConfig.getIdleTime()) : DEFAULT_MIN_EVICTABLE_IDLE_DURATION);
+        sessionPoolConfig.setJmxEnabled(false);
+        return sessionPoolConfig;
+    }
+
+    @Override
+    public MapleDslSession openSession() {
+        final Session session;
+        try {
+            session = sessionPool.borrowObject();
+        } catch (MapleDslExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MapleDslExecutionException("Error borrowing session. Cause: " + e.getMessage(), e);
+        }
+
+        return new MapleNebulaDslSession(session, configuration(), this::releaseSession);
+    }
+
+    void releaseSession(Session session, boolean broken, String spaceName) {
+        try {
+            if (broken || !resetSpace(session, space(), spaceName)) sessionPool.invalidateObject(session);
+            else sessionPool.returnObject(session);
+        } catch (Exception e) {
+            LOG.warn("Release session failed. Cause: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Switches the session back to the space, if the borrower has left it on another one.
+     *
+     * @param session   the session to be returned
+     * @param space     the space of the pooled sessions
+     * @param spaceName the space the session is on as reported by its latest response, empty if unknown
+     * @return false if the session could not be switched back, and should be invalidated
+     */
+    static boolean resetSpace(Session session, String space, String spaceName) {
+        if (spaceName == null || spaceName.isEmpty() || spaceName.equals(space)) return true;
+
+        try {
+            final boolean succeeded = session.execute("use " + space).isSucceeded();
+            if (!succeeded) LOG.warn("Switch session back to space:{} from space:{} failed.", space, spaceName);
+            return succeeded;
+        } catch (IOErrorException e) {
+            LOG.warn("Switch session back to space:{} failed. Cause: {}", space, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes the session pool, releasing every idle session, then the underlying nebula pool.
+     */
+    @Override
+    public void close() {
+        sessionPool.close();
+        super.close();
+    }
+
+    /**
+     * Creates sessions bound to the space, validates them by {@code ping} and releases them on destroy.
+     */
+    final class NebulaSessionPooledObjectFactory extends BasePooledObjectFactory<Session> {
+        @Override
+        public Session create() {
+            return openNebulaSession();
+        }
+
+        @Override
+        public PooledObject<Session> wrap(Session session) {
+            return new DefaultPooledObject<>(session);
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<Session> pooledSession) {
+            return pooledSession.getObject().ping();
+        }
+
+        @Override
+        public void destroyObject(PooledObject<Session> pooledSession) {
+            pooledSession.getObject().release();
+        }
+    }
+
+    static final Logger LOG = LoggerFactory.getLogger(MapleNebulaDslPooledSessionFactory.class);
+}
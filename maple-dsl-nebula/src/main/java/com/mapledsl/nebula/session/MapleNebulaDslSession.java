@@ -1,14 +1,20 @@
 package com.mapledsl.nebula.session;
 
 import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.exception.MapleDslException;
 import com.mapledsl.core.exception.MapleDslExecutionException;
 import com.mapledsl.core.extension.introspect.BeanDefinition;
+import com.mapledsl.core.extension.introspect.BeanRowPlan;
 import com.mapledsl.core.model.Model;
+import com.mapledsl.core.session.MapleDslCursor;
+import com.mapledsl.core.session.MapleDslFetchCursor;
 import com.mapledsl.core.session.MapleDslSession;
+import com.vesoft.nebula.ErrorCode;
 import com.vesoft.nebula.Row;
 import com.vesoft.nebula.Value;
 import com.vesoft.nebula.client.graph.data.ResultSet;
+import com.vesoft.nebula.client.graph.exception.IOErrorException;
 import com.vesoft.nebula.client.graph.net.Session;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,10 +41,30 @@ public final class MapleNebulaDslSession implements MapleDslSession {
      * This class defines the properties and methods necessary to configure and manage a Maple DSL session.
      */
     final MapleDslConfiguration context;
+    /**
+     * Releases the underlying session on close, e.g. returns it to or invalidates it from the session pool.
+     */
+    final SessionReleaser sessionReleaser;
+    private boolean broken, closed;
+    /**
+     * The space the underlying session is on, as reported by the latest response, empty if not reported yet.
+     */
+    private String spaceName = "";
 
     static final Logger LOG = LoggerFactory.getLogger(MapleNebulaDslSession.class);
     // Assert Row#values is not null and not empty, so row.getValues().get(0) it will not occur ArrayIndexOutOfBoundsException.
     static final Predicate<Row> ROW_VALUE_EMPTY_PREDICATE = row -> !row.isSetValues() || row.getValues().isEmpty();
+    /**
+     * The error codes telling the session itself is no longer usable, rather than the statement failed,
+     * e.g. the session expired or was killed on the graph service, or its connection was lost.
+     */
+    static final Set<Integer> SESSION_ERROR_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            ErrorCode.E_SESSION_INVALID.getValue(),
+            ErrorCode.E_SESSION_TIMEOUT.getValue(),
+            ErrorCode.E_SESSION_NOT_FOUND.getValue(),
+            ErrorCode.E_DISCONNECTED.getValue(),
+            ErrorCode.E_FAIL_TO_CONNECT.getValue(),
+            ErrorCode.E_RPC_FAILURE.getValue())));
 
     /**
      * Represents a session for executing Maple DSL queries.
@@ -48,22 +74,49 @@ public final class MapleNebulaDslSession implements MapleDslSession {
      * @param context  The configuration defining the behavior of the DSL session.
      */
     public MapleNebulaDslSession(Session session, MapleDslConfiguration context) {
+        this(session, context, (it, broken, spaceName) -> it.release());
+    }
+
+    /**
+     * Represents a session for executing Maple DSL queries whose underlying session is released by the given releaser.
+     *
+     * @param session  The underlying session to interact with the database.
+     * @param context  The configuration defining the behavior of the DSL session.
+     * @param sessionReleaser The releaser of the underlying session on close.
+     */
+    MapleNebulaDslSession(Session session, MapleDslConfiguration context, SessionReleaser sessionReleaser) {
         this.session = session;
         this.context = context;
+        this.sessionReleaser = sessionReleaser;
     }
 
     public @NotNull Map<String, Object> selectMap(@NotNull String stmt) {
-        return singleResult(stmt, Collections::emptyMap, this::createMapResult);
+        return selectMap(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull Map<String, Object> selectMap(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, Collections::emptyMap, this::createMapResult);
     }
 
     @Override
     public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt) {
-        return collectResult(stmt, this::createMapResult);
+        return selectMaps(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, this::createMapResult);
     }
 
     @Override
     public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt) {
-        return singleResult(stmt, ((values, columns) -> {
+        return selectVertex(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public <ID> Model.@Nullable V<ID> selectVertex(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, ((values, columns) -> {
             final BeanDefinition<Model.V<ID>> vBeanDefinition = context.vertexDefinition();
             return createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
         }));
@@ -71,7 +124,12 @@ public final class MapleNebulaDslSession implements MapleDslSession {
 
     @Override
     public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt) {
-        return collectResult(stmt, (values, columns) -> {
+        return selectVertexList(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public <ID> @NotNull List<Model.V<ID>> selectVertexList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, (values, columns) -> {
             final BeanDefinition<Model.V<ID>> vBeanDefinition = context.vertexDefinition();
             return createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
         });
@@ -79,7 +137,12 @@ public final class MapleNebulaDslSession implements MapleDslSession {
 
     @Override
     public <ID, R> Model.@Nullable E<ID,R> selectEdge(@NotNull String stmt) {
-        return singleResult(stmt, ((values, columns) -> {
+        return selectEdge(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public <ID, R> Model.@Nullable E<ID,R> selectEdge(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, ((values, columns) -> {
             final BeanDefinition<Model.E<ID,R>> eBeanDefinition = context.edgeDefinition();
             return createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
         }));
@@ -87,16 +150,26 @@ public final class MapleNebulaDslSession implements MapleDslSession {
 
     @Override
     public <ID,R> @NotNull List<Model.E<ID,R>> selectEdgeList(@NotNull String stmt) {
-        return collectResult(stmt, (values, columns) -> {
+        return selectEdgeList(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public <ID,R> @NotNull List<Model.E<ID,R>> selectEdgeList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, (values, columns) -> {
             final BeanDefinition<Model.E<ID,R>> eBeanDefinition = context.edgeDefinition();
             return createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
         });
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T selectOne(String stmt, Class<T> mappedEntityType) {
-        return singleResult(stmt, (values, columns) -> {
+        return selectOne(stmt, Collections.emptyMap(), mappedEntityType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T selectOne(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return singleResult(stmt, parameters, (values, columns) -> {
             final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
             if (definition == null) return context.resultant(values.get(0), mappedEntityType);
 
@@ -117,41 +190,63 @@ public final class MapleNebulaDslSession implements MapleDslSession {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> @NotNull List<T> selectList(String stmt, Class<T> mappedEntityType) {
-        final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
-        return collectMultiResult(stmt, (values, columns) -> {
-            if (definition == null) return createValuesResult(mappedEntityType, values);
-
-            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
-                return Collections.singletonList((T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns));
-            }
+        return selectList(stmt, Collections.emptyMap(), mappedEntityType);
+    }
 
-            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
-                return Collections.singletonList((T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns));
-            }
+    @Override
+    public <T> @NotNull List<T> selectList(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return collectMultiResult(stmt, parameters, multiResultFunc(mappedEntityType));
+    }
 
-            return Collections.emptyList();
-        });
+    /**
+     * Maps the rows lazily while iterating, {@code fetchSize} rows at a time.
+     * <p></p>
+     * The graph service responds the whole result set at once, so the cursor bounds the mapped entities being held
+     * instead of the rows being transferred, the rows are released as soon as the cursor is exhausted or closed.
+     */
+    @Override
+    public <T> @NotNull MapleDslCursor<T> selectCursor(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+        final BiFunction<List<Value>, List<String>, List<T>> recordValueFunc = multiResultFunc(mappedEntityType);
+        return new ResultSetCursor<>(executeQuery(stmt, parameters), recordValueFunc, fetchSize);
     }
 
     @Override
     public boolean execute(@NotNull String stmt) throws MapleDslException {
+        return execute(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) throws MapleDslException {
         try {
-            return executeQuery(stmt).isSucceeded();
+            return executeQuery(stmt, parameters).isSucceeded();
         } catch (MapleDslException ignored) {
             return false;
         }
     }
 
+    /**
+     * Sends the statements as one {@code ;}-separated request, the graph service executes them in order and stops at
+     * the first failing one, the statements before it are not rolled back.
+     * <p></p>
+     * The statements are rendered with literal values, since the placeholders of separately bound statements would collide.
+     */
+    @Override
+    public boolean executeBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers) throws MapleDslException {
+        if (stmtWrappers.isEmpty()) return true;
+
+        final StringJoiner stmt = new StringJoiner("; ");
+        for (Wrapper<?> stmtWrapper : stmtWrappers) {
+            stmt.add(Objects.requireNonNull(stmtWrapper).render(context));
+        }
+        return execute(stmt.toString());
+    }
+
     @Override
     public void close() {
-        if (session == null) return;
-        session.release();
+        if (session == null || closed) return;
+        closed = true;
+        sessionReleaser.release(session, broken, spaceName);
     }
 
     @Override
@@ -159,26 +254,36 @@ public final class MapleNebulaDslSession implements MapleDslSession {
         return context;
     }
 
-    private ResultSet executeQuery(String stmt) throws MapleDslException {
+    private ResultSet executeQuery(String stmt, Map<String, Object> parameters) throws MapleDslException {
         ResultSet resultSet;
         try {
-            if (LOG.isInfoEnabled()) LOG.info("Execution statement:{}", stmt);
-            resultSet = session.execute(stmt);
+            if (parameters.isEmpty()) {
+                if (LOG.isInfoEnabled()) LOG.info("Execution statement:{}", stmt);
+                resultSet = session.execute(stmt);
+            } else {
+                if (LOG.isInfoEnabled()) LOG.info("Execution statement:{}, parameters:{}", stmt, parameters);
+                resultSet = session.executeWithParameter(stmt, parameters);
+            }
         } catch (Exception e) {
+            if (e instanceof IOErrorException) broken = true;
             LOG.error("Execution Error, statement:{}", stmt, e);
             throw new MapleDslExecutionException(e.getMessage(), e);
         }
+        final String resultSpaceName = resultSet.getSpaceName();
+        if (resultSpaceName != null && !resultSpaceName.isEmpty()) spaceName = resultSpaceName;
         if (resultSet.isSucceeded()) return resultSet;
+
+        if (SESSION_ERROR_CODES.contains(resultSet.getErrorCode())) broken = true;
         LOG.error("Execution Statement:{}, Error:{}, Reason:{}", stmt, resultSet.getErrorCode(), resultSet.getErrorMessage());
         throw new MapleDslExecutionException(resultSet.getErrorCode() + ":" + resultSet.getErrorMessage());
     }
 
-    private <R> R singleResult(String stmt, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        return singleResult(stmt, () -> null, recordValueFunc);
+    private <R> R singleResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        return singleResult(stmt, parameters, () -> null, recordValueFunc);
     }
 
-    private <R> R singleResult(String stmt, Supplier<R> defaultSupplier, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        final ResultSet resultSet = executeQuery(stmt);
+    private <R> R singleResult(String stmt, Map<String, Object> parameters, Supplier<R> defaultSupplier, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        final ResultSet resultSet = executeQuery(stmt, parameters);
 
         final List<Row> rows = resultSet.getRows();
         if (rows == null || rows.isEmpty()) return defaultSupplier.get();
@@ -191,13 +296,13 @@ public final class MapleNebulaDslSession implements MapleDslSession {
         return recordValueFunc.apply(row.getValues(), columnNames);
     }
 
-    private <R> List<R> collectResult(String stmt, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        return collectMultiResult(stmt, recordValueFunc.andThen(Collections::singletonList));
+    private <R> List<R> collectResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        return collectMultiResult(stmt, parameters, recordValueFunc.andThen(Collections::singletonList));
     }
 
-    private <R> List<R> collectMultiResult(String stmt, BiFunction<List<Value>, List<String>, List<R>> recordValueFunc) {
+    private <R> List<R> collectMultiResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, List<R>> recordValueFunc) {
         BiConsumer<List<R>, List<R>> combiner;
-        final ResultSet resultSet = executeQuery(stmt);
+        final ResultSet resultSet = executeQuery(stmt, parameters);
 
         final List<Row> rows = resultSet.getRows();
         if (rows == null || rows.isEmpty()) return Collections.emptyList();
@@ -217,6 +322,28 @@ public final class MapleNebulaDslSession implements MapleDslSession {
         return ret;
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> BiFunction<List<Value>, List<String>, List<T>> multiResultFunc(Class<T> mappedEntityType) {
+        final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
+        return (values, columns) -> {
+            if (definition == null) return createValuesResult(mappedEntityType, values);
+
+            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
+                return Collections.singletonList((T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns));
+            }
+
+            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
+                return Collections.singletonList((T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns));
+            }
+
+            return Collections.emptyList();
+        };
+    }
+
     private Map<String, Object> createMapResult(@NotNull List<Value> values, List<String> columnNames) {
         final Map<String, Object> ret = new LinkedHashMap<>(columnNames.size());
         for (int i = 0; i < values.size(); i++) {
@@ -242,11 +369,12 @@ public final class MapleNebulaDslSession implements MapleDslSession {
         }
 
         if (ret == null) ret = modelDefinition.newInstance();
+        final BeanRowPlan<M> rowPlan = modelDefinition.rowPlan(columnNames);
         for (int i = 0; i < rowValueList.size(); i++) {
             final Value value = rowValueList.get(i);
             if (value == null || value.getFieldValue() == null) continue;
             if (filter.test(value)) continue;
-            modelDefinition.setter(ret, columnNames.get(i), value);
+            rowPlan.setter(ret, i, value);
         }
 
         return ret;
@@ -254,12 +382,11 @@ public final class MapleNebulaDslSession implements MapleDslSession {
 
     private <T> T createBeanResult(@NotNull BeanDefinition<T> definition, @NotNull List<Value> values, List<String> columnNames) {
         final T target = definition.newInstance();
+        final BeanRowPlan<T> rowPlan = definition.rowPlan(columnNames);
         for (int i = 0; i < values.size(); i++) {
             final Value value = values.get(i);
             if (value == null || value.getFieldValue() == null) continue;
-
-            final String columnName = columnNames.get(i);
-            definition.setter(target, columnName, value);
+            rowPlan.setter(target, i, value);
         }
 
         return target;
@@ -287,4 +414,55 @@ public final class MapleNebulaDslSession implements MapleDslSession {
         if (value == null) return false;
         return value.getSetField() == Value.VVAL;
     }
+
+    /**
+     * Releases the underlying session once the MapleNebulaDslSession is closed.
+     */
+    @FunctionalInterface
+    interface SessionReleaser {
+        /**
+         * @param session   the underlying session
+         * @param broken    whether the session met an I/O or session-level error, and should not be reused
+         * @param spaceName the space the session is on as reported by its latest response, empty if unknown
+         */
+        void release(Session session, boolean broken, String spaceName);
+    }
+
+    /**
+     * The cursor over the rows of a Nebula {@link ResultSet}.
+     */
+    static final class ResultSetCursor<T> extends MapleDslFetchCursor<T> {
+        private final BiFunction<List<Value>, List<String>, List<T>> recordValueFunc;
+        private List<Row> rows;
+        private List<String> columnNames;
+        private int rowIndex;
+
+        ResultSetCursor(ResultSet resultSet, BiFunction<List<Value>, List<String>, List<T>> recordValueFunc, int fetchSize) {
+            super(fetchSize);
+            this.recordValueFunc = recordValueFunc;
+            this.rows = resultSet.getRows();
+            this.columnNames = resultSet.getColumnNames();
+            if (columnNames == null || columnNames.isEmpty()) rows = null;
+        }
+
+        @Override
+        protected boolean fetch(int fetchSize, @NotNull List<T> buffer) {
+            if (rows == null) return false;
+
+            final int end = Math.min(rowIndex + fetchSize, rows.size());
+            for (; rowIndex < end; rowIndex++) {
+                final Row row = rows.get(rowIndex);
+                if (ROW_VALUE_EMPTY_PREDICATE.test(row)) continue;
+
+                buffer.addAll(recordValueFunc.apply(row.getValues(), columnNames));
+            }
+            return rowIndex < rows.size();
+        }
+
+        @Override
+        protected void release() {
+            rows = null;
+            columnNames = null;
+        }
+    }
 }
@@ -2,10 +2,13 @@ package com.mapledsl.nebula.session;
 
 import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import com.mapledsl.core.session.MapleDslExecutorAsyncSession;
 import com.mapledsl.core.session.MapleDslSession;
 import com.mapledsl.core.session.MapleDslSessionFactory;
 import com.vesoft.nebula.client.graph.NebulaPoolConfig;
 import com.vesoft.nebula.client.graph.data.HostAddress;
+import com.vesoft.nebula.client.graph.data.ResultSet;
 import com.vesoft.nebula.client.graph.exception.AuthFailedException;
 import com.vesoft.nebula.client.graph.exception.ClientServerIncompatibleException;
 import com.vesoft.nebula.client.graph.exception.IOErrorException;
@@ -13,14 +16,26 @@ import com.vesoft.nebula.client.graph.exception.NotValidConnectionException;
 import com.vesoft.nebula.client.graph.net.NebulaPool;
 import com.vesoft.nebula.client.graph.net.Session;
 
+import java.io.Closeable;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * The MapleNebulaDslSessionFactory class is an implementation of the MapleDslSessionFactory interface.
  * It provides methods for opening a session and retrieving the configuration for executing Maple DSL queries against Nebula Graph.
  */
-public class MapleNebulaDslSessionFactory implements MapleDslSessionFactory {
+public class MapleNebulaDslSessionFactory implements MapleDslSessionFactory, Closeable {
+    /**
+     * The queued async queries per connection before the async executor rejects new ones.
+     */
+    static final int ASYNC_QUEUE_CAPACITY_PER_CONNECTION = 32;
+
     private final NebulaPool nebulaPool;
+    private final int maxConnSize;
+    private volatile ThreadPoolExecutor asyncExecutor;
     private final String userName;
     private final String password;
     private final String space;
@@ -59,26 +74,87 @@ public class MapleNebulaDslSessionFactory implements MapleDslSessionFactory {
         this.password = password;
         this.reconnect = reconnect;
         this.configuration = configuration;
+        this.maxConnSize = nebulaPoolConfig.getMaxConnSize();
         this.nebulaPool = createNebulaPool(hostAddress, nebulaPoolConfig);
     }
 
     @Override
-    public final MapleDslSession openSession() {
+    public MapleDslSession openSession() {
+        return new MapleNebulaDslSession(openNebulaSession(), configuration);
+    }
+
+    /**
+     * Opens an authenticated session which has been switched to the configured space.
+     *
+     * @return the nebula session bound to the space
+     * @throws MapleDslExecutionException if the session could not be opened or the space could not be used
+     */
+    final Session openNebulaSession() {
         try {
             final Session session = this.nebulaPool.getSession(userName, password, reconnect);
-            session.execute("use " + space);
-            return new MapleNebulaDslSession(session, configuration);
+            final ResultSet resultSet = session.execute("use " + space);
+            if (!resultSet.isSucceeded()) {
+                session.release();
+                throw new MapleDslExecutionException("Error using space:" + space + ". Cause: " + resultSet.getErrorMessage());
+            }
+            return session;
         } catch (NotValidConnectionException | AuthFailedException | ClientServerIncompatibleException |
                  IOErrorException e) {
             throw new MapleDslExecutionException("Error opening session. Cause: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Opens an async session which runs the sessions of this factory on a dedicated executor, the nebula client
+     * has no asynchronous API. The executor is bounded by the max connection size of the nebula pool and its queue,
+     * queries beyond that complete exceptionally instead of blocking the caller.
+     */
+    @Override
+    public MapleDslAsyncSession openAsyncSession() {
+        return new MapleDslExecutorAsyncSession(this, asyncExecutor());
+    }
+
+    private ThreadPoolExecutor asyncExecutor() {
+        ThreadPoolExecutor ret = asyncExecutor;
+        if (ret != null) return ret;
+
+        synchronized (this) {
+            if (asyncExecutor != null) return asyncExecutor;
+
+            final AtomicInteger threadCounter = new AtomicInteger();
+            ret = new ThreadPoolExecutor(maxConnSize, maxConnSize, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(maxConnSize * ASYNC_QUEUE_CAPACITY_PER_CONNECTION), runnable -> {
+                final Thread thread = new Thread(runnable, "maple-dsl-nebula-async-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            ret.allowCoreThreadTimeOut(true);
+            return asyncExecutor = ret;
+        }
+    }
+
+    /**
+     * @return the name of the space the sessions are switched to
+     */
+    final String space() {
+        return space;
+    }
+
     @Override
     public MapleDslConfiguration configuration() {
         return configuration;
     }
 
+    /**
+     * Closes the async executor and the underlying nebula pool together with all its connections.
+     */
+    @Override
+    public void close() {
+        final ThreadPoolExecutor executor = asyncExecutor;
+        if (executor != null) executor.shutdown();
+        nebulaPool.close();
+    }
+
     final NebulaPool createNebulaPool(List<HostAddress> hostAddresses, NebulaPoolConfig nebulaPoolConfig){
         try {
             final NebulaPool pool = new NebulaPool();
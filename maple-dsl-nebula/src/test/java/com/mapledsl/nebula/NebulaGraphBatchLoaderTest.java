@@ -0,0 +1,67 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.session.MapleDslBatchLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NebulaGraphBatchLoaderTest extends NebulaGraphBaseTest {
+    final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void should_fetch_pending_ids_by_one_statement() throws Exception {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession("p001", "p002", "p003");
+        final MapleDslBatchLoader<String, Person> batchLoader = new MapleDslBatchLoader<>(asyncSession, Person.class, 100, Duration.ofSeconds(5), scheduler);
+
+        final CompletableFuture<Person> p002 = batchLoader.load("p002");
+        final CompletableFuture<Person> p001 = batchLoader.load("p001");
+        // the duplicate id shares the pending fetch.
+        assertSame(p002, batchLoader.load("p002"));
+        final CompletableFuture<Person> p004 = batchLoader.load("p004");
+        assertFalse(p001.isDone());
+
+        batchLoader.dispatch();
+        assertEquals("p002", p002.get(5, TimeUnit.SECONDS).id());
+        assertEquals("p001", p001.get(5, TimeUnit.SECONDS).id());
+        assertNull(p004.get(5, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("FETCH PROP ON person \"p002\",\"p001\",\"p004\" YIELD vertex AS v"), asyncSession.statements);
+    }
+
+    @Test
+    public void should_dispatch_on_max_batch_size_and_max_delay() throws Exception {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession("p001", "p002", "p003");
+        final MapleDslBatchLoader<String, Person> batchLoader = new MapleDslBatchLoader<>(asyncSession, Person.class, 2, Duration.ofMillis(10), scheduler);
+
+        final List<Person> persons = batchLoader.loadMany(Arrays.asList("p003", "p003", "p001", "p002")).get(5, TimeUnit.SECONDS);
+        assertEquals(4, persons.size());
+        assertEquals(Arrays.asList("p003", "p003", "p001", "p002"), Arrays.asList(persons.get(0).id(), persons.get(1).id(), persons.get(2).id(), persons.get(3).id()));
+        // the first batch is full, the second one is dispatched on its delay.
+        assertEquals(Arrays.asList("FETCH PROP ON person \"p003\",\"p001\" YIELD vertex AS v",
+                "FETCH PROP ON person \"p002\" YIELD vertex AS v"), asyncSession.statements);
+    }
+
+    @Test
+    public void should_fail_every_fetch_of_failed_batch() {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession();
+        asyncSession.failure = new IllegalStateException("bofa");
+        final MapleDslBatchLoader<String, Person> batchLoader = new MapleDslBatchLoader<>(asyncSession, Person.class, scheduler);
+
+        final CompletableFuture<Person> p001 = batchLoader.load("p001");
+        final CompletableFuture<Person> p002 = batchLoader.load("p002");
+        batchLoader.dispatch();
+
+        final ExecutionException failure = assertThrows(ExecutionException.class, () -> p001.get(5, TimeUnit.SECONDS));
+        assertSame(asyncSession.failure, failure.getCause());
+        assertThrows(ExecutionException.class, () -> p002.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,63 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.MapleDslBoundStatement;
+import com.mapledsl.nebula.model.NebulaEdgeID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.mapledsl.core.G.edge;
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NebulaGraphBindTest extends NebulaGraphBaseTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = "FETCH PROP ON person $p0,$p1,$p2 YIELD person.name AS name | OFFSET $p3 LIMIT $p4")
+    public void should_bind_vertex_ids_and_limit(String expected) {
+        final MapleDslBoundStatement bound = vertex(Person.class, "p001", "p002", "p003")
+                .select(Person::getName)
+                .limit(1, 2)
+                .bind();
+
+        final Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("p0", "p001");
+        parameters.put("p1", "p002");
+        parameters.put("p2", "p003");
+        parameters.put("p3", 1);
+        parameters.put("p4", 2);
+
+        assertEquals(expected, bound.statement());
+        assertEquals(parameters, bound.parameters());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "LOOKUP ON impact WHERE impact.type IN $p0 YIELD edge AS e")
+    public void should_bind_predicate_value(String expected) {
+        final MapleDslBoundStatement bound = edge(Impact.class)
+                .in(Impact::getType, Arrays.asList("Type1", "Type2"))
+                .bind();
+
+        assertEquals(expected, bound.statement());
+        assertEquals(Arrays.asList("Type1", "Type2"), bound.parameters().get("p0"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "FETCH PROP ON impact \"p001\"->\"p002\"@0 YIELD edge AS e")
+    public void should_keep_composite_edge_id_literal(String expected) {
+        final MapleDslBoundStatement bound = edge(Impact.class, new NebulaEdgeID<>("p001", "p002", 0L)).bind();
+
+        assertEquals(expected, bound.statement());
+        assertEquals(0, bound.parameters().size());
+    }
+
+    @Test
+    public void should_render_literal_after_bind() {
+        assertEquals("LOOKUP ON person WHERE person.name == $p0 YIELD vertex AS v", vertex(Person.class).eq(Person::getName, "bofa").bind().statement());
+        assertEquals("LOOKUP ON person WHERE person.name == \"bofa\" YIELD vertex AS v", vertex(Person.class).eq(Person::getName, "bofa").render());
+    }
+}
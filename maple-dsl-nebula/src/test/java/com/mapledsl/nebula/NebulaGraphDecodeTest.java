@@ -0,0 +1,98 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.nebula.module.MapleNebulaDslSymbolTable;
+import com.mapledsl.nebula.module.MapleNebulaDslType;
+import com.vesoft.nebula.Edge;
+import com.vesoft.nebula.Tag;
+import com.vesoft.nebula.Value;
+import com.vesoft.nebula.Vertex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NebulaGraphDecodeTest extends NebulaGraphBaseTest {
+    final MapleDslConfiguration context = MapleDslConfiguration.primaryConfiguration();
+
+    @Test
+    public void should_decode_vertex_into_bean() {
+        final Person person = context.resultant(vertex(), context.beanDefinitionUnchecked(Person.class));
+
+        assertEquals("p001", person.id());
+        assertEquals("person", person.label());
+        assertEquals("bofa", person.getName());
+        assertEquals(18, person.getAge());
+        assertEquals(Collections.singletonMap("nickname", "bf"), person.props());
+    }
+
+    @Test
+    public void should_decode_vertex_into_model_props() {
+        final Model.V<String> vertex = context.resultant(vertex(), context.vertexDefinition());
+
+        assertEquals("p001", vertex.id());
+        assertEquals("bofa", vertex.props().get("name"));
+        assertEquals(18L, vertex.props().get("age"));
+        assertEquals("bf", vertex.props().get("nickname"));
+    }
+
+    @Test
+    public void should_decode_reversed_edge_into_bean() {
+        final Map<byte[], Value> props = new HashMap<>();
+        props.put("type".getBytes(UTF_8), Value.sVal("Type1".getBytes(UTF_8)));
+        final Value value = Value.eVal(new Edge(Value.sVal("p002".getBytes(UTF_8)), Value.sVal("p001".getBytes(UTF_8)), -1, "impact".getBytes(UTF_8), 1L, props));
+
+        final Impact impact = context.resultant(value, context.beanDefinitionUnchecked(Impact.class));
+        assertEquals("p001", impact.src());
+        assertEquals("p002", impact.dst());
+        assertEquals("Type1", impact.getType());
+    }
+
+    @Test
+    public void should_dedupe_symbols_but_not_values() {
+        final MapleNebulaDslSymbolTable symbols = MapleNebulaDslSymbolTable.of(context);
+        final Map<?, ?> first = (Map<?, ?>) MapleNebulaDslType.any(vertex(), symbols);
+        final Map<?, ?> second = (Map<?, ?>) MapleNebulaDslType.any(vertex(), symbols);
+
+        assertSame(key(first, "nickname"), key(second, "nickname"));
+        assertSame(first.get("tag"), second.get("tag"));
+        assertEquals("bofa", first.get("name"));
+        assertNotSame(first.get("name"), second.get("name"));
+        assertNotSame("bofa", first.get("name"));
+    }
+
+    @Test
+    public void should_bound_symbol_table() {
+        final MapleNebulaDslSymbolTable symbols = new MapleNebulaDslSymbolTable(3);
+        assertEquals(4, symbols.capacity());
+        assertEquals(0, MapleNebulaDslSymbolTable.NONE.capacity());
+
+        final String name = symbols.symbol("name".getBytes(UTF_8));
+        assertSame(name, symbols.symbol("name".getBytes(UTF_8)));
+        for (int i = 0; i < 64; i++) symbols.symbol(("key_" + i).getBytes(UTF_8));
+        assertEquals("name", symbols.symbol("name".getBytes(UTF_8)));
+
+        final byte[] longSymbol = new byte[MapleNebulaDslSymbolTable.MAX_SYMBOL_LENGTH + 1];
+        Arrays.fill(longSymbol, (byte) 'a');
+        assertNotSame(symbols.symbol(longSymbol), symbols.symbol(longSymbol));
+    }
+
+    static Object key(Map<?, ?> map, String key) {
+        for (Object it : map.keySet()) if (key.equals(it)) return it;
+        return null;
+    }
+
+    static Value vertex() {
+        final Map<byte[], Value> props = new HashMap<>();
+        props.put("name".getBytes(UTF_8), Value.sVal("bofa".getBytes(UTF_8)));
+        props.put("age".getBytes(UTF_8), Value.iVal(18));
+        props.put("nickname".getBytes(UTF_8), Value.sVal("bf".getBytes(UTF_8)));
+        return Value.vVal(new Vertex(Value.sVal("p001".getBytes(UTF_8)), Collections.singletonList(new Tag("person".getBytes(UTF_8), props))));
+    }
+}
@@ -0,0 +1,86 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.model.Model;
+import com.mapledsl.core.session.MapleDslFanOutReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.Collectors;
+
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NebulaGraphFanOutReaderTest extends NebulaGraphBaseTest {
+    final List<String> ids = Arrays.asList("p001", "p002", "p003", "p004", "p005");
+
+    @Test
+    public void should_fetch_chunks_by_same_wrapper_shape() {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession("p001", "p002", "p003", "p004", "p005");
+        final MapleDslFanOutReader fanOutReader = new MapleDslFanOutReader(asyncSession, 2, 2);
+
+        final List<Person> persons = fanOutReader.selectList(ids, chunkIds -> vertex(Person.class, chunkIds), Person.class,
+                Comparator.comparing(Model.V::id), MapleDslFanOutReader.NO_LIMIT);
+        assertEquals(ids, persons.stream().map(Model.V::id).collect(Collectors.toList()));
+        assertEquals(3, asyncSession.statements.size());
+        assertTrue(asyncSession.statements.contains("FETCH PROP ON person \"p005\" YIELD vertex AS v"));
+        assertTrue(asyncSession.statements.contains("FETCH PROP ON person \"p003\",\"p004\" YIELD vertex AS v"));
+    }
+
+    @Test
+    public void should_merge_ordered_rows_and_respect_limit() {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession("p001", "p002", "p003", "p004", "p005");
+        final MapleDslFanOutReader fanOutReader = new MapleDslFanOutReader(asyncSession, 2, 1);
+
+        final List<Person> persons = fanOutReader.selectList(ids, chunkIds -> vertex(Person.class, chunkIds), Person.class,
+                Comparator.comparing(Model.V<String>::id).reversed(), 3);
+        assertEquals(Arrays.asList("p005", "p004", "p003"), persons.stream().map(Model.V::id).collect(Collectors.toList()));
+        assertEquals(3, asyncSession.statements.size());
+
+        // without ordering, the chunks left are never dispatched once the limit is reached.
+        asyncSession.statements.clear();
+        assertEquals(3, fanOutReader.selectList(ids, chunkIds -> vertex(Person.class, chunkIds), Person.class, 3).size());
+        assertEquals(2, asyncSession.statements.size());
+    }
+
+    @Test
+    public void should_fail_on_failed_chunk() {
+        final NebulaGraphStubAsyncSession asyncSession = new NebulaGraphStubAsyncSession();
+        asyncSession.failure = new IllegalStateException("bofa");
+        final MapleDslFanOutReader fanOutReader = new MapleDslFanOutReader(asyncSession, 2);
+
+        final MapleDslExecutionException failure = assertThrows(MapleDslExecutionException.class,
+                () -> fanOutReader.selectList(ids, chunkIds -> vertex(Person.class, chunkIds), Person.class));
+        assertSame(asyncSession.failure, failure.getCause());
+        assertThrows(IllegalArgumentException.class, () -> new MapleDslFanOutReader(asyncSession, 2, 0));
+    }
+
+    @Test
+    public void should_bound_queue_of_executor() {
+        final ExecutorService executor = MapleDslFanOutReader.newExecutor(2);
+        try {
+            // the virtual threads are unbounded by design, prior to Java 21 the pool queues a bounded number of chunks.
+            if (!(executor instanceof ThreadPoolExecutor)) return;
+            final ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+            final CountDownLatch latch = new CountDownLatch(1);
+            final int capacity = threadPool.getQueue().remainingCapacity();
+            for (int i = 0; i < 2 + capacity; i++) threadPool.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertThrows(RejectedExecutionException.class, () -> threadPool.execute(() -> {}));
+            latch.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
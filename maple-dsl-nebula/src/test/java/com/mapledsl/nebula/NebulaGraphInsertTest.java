@@ -0,0 +1,69 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.MapleDslBoundStatement;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.mapledsl.core.G.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NebulaGraphInsertTest extends NebulaGraphBaseTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = "INSERT VERTEX IF NOT EXISTS person(age,name) VALUES \"p001\":(18,\"bofa, deez\"),\"p002\":(20,NULL)")
+    public void should_insert_vertices_multi_rows(String expected) {
+        final MapleDslBoundStatement bound = insertVertex(persons()).bind();
+
+        assertEquals(expected, bound.statement());
+        assertEquals(0, bound.parameters().size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "INSERT VERTEX person(age,name) VALUES \"p001\":(18,\"bofa, deez\"),\"p002\":(20,NULL)")
+    public void should_upsert_vertices_multi_rows(String expected) {
+        assertEquals(expected, upsertVertex(persons()).render());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "INSERT EDGE IF NOT EXISTS impact(type) VALUES \"p001\"->\"p002\"@0:(\"Type1\"),\"p002\"->\"p003\"@1:(\"Type2\")")
+    public void should_insert_edges_multi_rows_with_rank(String expected) {
+        assertEquals(expected, insertEdge(impacts()).bind().statement());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "INSERT EDGE impact(type) VALUES \"p001\"->\"p002\"@0:(\"Type1\"),\"p002\"->\"p003\"@1:(\"Type2\")")
+    public void should_upsert_edges_multi_rows_with_rank(String expected) {
+        assertEquals(expected, upsertEdge(impacts()).render());
+        // the endpoints are identified by their vids alone.
+        assertEquals(expected, upsertEdge(impacts(), Person.class, Person.class).render());
+    }
+
+    static List<Impact> impacts() {
+        final Impact first = new Impact();
+        first.setSrc("p001");
+        first.setDst("p002");
+        first.setType("Type1");
+
+        final Impact second = new Impact();
+        second.setSrc("p002");
+        second.setDst("p003");
+        second.setRank(1);
+        second.setType("Type2");
+        return Arrays.asList(first, second);
+    }
+
+    static List<Person> persons() {
+        final Person bofa = new Person();
+        bofa.setId("p001");
+        bofa.setName("bofa, deez");
+        bofa.setAge(18);
+
+        final Person nuts = new Person();
+        nuts.setId("p002");
+        nuts.setAge(20);
+        return Arrays.asList(bofa, nuts);
+    }
+}
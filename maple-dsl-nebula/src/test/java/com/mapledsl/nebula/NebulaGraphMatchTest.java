@@ -1,13 +1,19 @@
 package com.mapledsl.nebula;
 
+import com.mapledsl.core.MapleDslContinuation;
+import com.mapledsl.core.condition.wrapper.MatchWrapper;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
+import java.util.StringJoiner;
 
 import static com.mapledsl.core.G.edge;
 import static com.mapledsl.core.G.vertex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class NebulaGraphMatchTest extends NebulaGraphBaseTest {
 
@@ -74,7 +80,7 @@ public class NebulaGraphMatchTest extends NebulaGraphBaseTest {
     @ParameterizedTest
     @ValueSource(strings = "LOOKUP ON impact WHERE impact.type IN [\"Type1\",\"Type2\"] " +
             "YIELD impact.type AS impact_type,src(edge) AS src,dst(edge) AS dst,rank(edge) AS rank " +
-            "| ORDER BY $-.impact_type ASC,$-.src,$-.dst,$-.rank DESC")
+            "| ORDER BY $-.impact_type ASC,$-.src DESC,$-.dst DESC,$-.rank DESC")
     public void should_match_edge_with_selection_ordering(String expected) {
         assertEquals(expected, edge(Impact.class)
                 .in(Impact::getType, Arrays.asList("Type1", "Type2"))
@@ -221,4 +227,64 @@ public class NebulaGraphMatchTest extends NebulaGraphBaseTest {
                 .limit(5, 10)
                 .render());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = "LOOKUP ON person WHERE person.name == \"bofa\" AND person.age > 30 " +
+            "YIELD vertex AS v,person.age AS age | ORDER BY $-.age ASC | OFFSET 0 LIMIT 10")
+    public void should_match_vertex_seek_after_continuation(String expected) {
+        assertEquals(expected, vertex(Person.class)
+                .eq(Person::getName, "bofa")
+                .seek(Person::getAge, MapleDslContinuation.of(30))
+                .limit(10)
+                .render());
+    }
+
+    @Test
+    public void should_match_vertex_seek_by_selected_column() {
+        assertEquals("LOOKUP ON person YIELD person.name AS n | ORDER BY $-.n DESC | OFFSET 0 LIMIT 10", vertex(Person.class)
+                .seekDesc(Person::getName, null)
+                .selectAs(Person::getName, "n")
+                .limit(10)
+                .render());
+        assertEquals("LOOKUP ON person WHERE person.name < \"bofa\" YIELD person.name AS n | ORDER BY $-.n DESC | OFFSET 0 LIMIT 10", vertex(Person.class)
+                .seekDesc(Person::getName, MapleDslContinuation.parse(MapleDslContinuation.of("bofa").toString()))
+                .selectAs(Person::getName, "n")
+                .limit(10)
+                .render());
+    }
+
+    @Test
+    public void should_match_vertex_seek_with_id_after_continuation() {
+        assertEquals("LOOKUP ON person YIELD vertex AS v,person.age AS age,id(vertex) AS id | ORDER BY $-.age,$-.id ASC | OFFSET 0 LIMIT 10", vertex(Person.class)
+                .seekWithId(Person::getAge, null)
+                .limit(10)
+                .render());
+        assertEquals("LOOKUP ON person WHERE person.age <= 30 AND (person.age < 30 OR id(vertex) < \"p001\") " +
+                "YIELD vertex AS v,person.age AS age,id(vertex) AS id | ORDER BY $-.age DESC,$-.id DESC | OFFSET 0 LIMIT 10", vertex(Person.class)
+                .seekDescWithId(Person::getAge, MapleDslContinuation.parse(MapleDslContinuation.of(30, "p001").toString()))
+                .limit(10)
+                .render());
+        assertThrows(IllegalArgumentException.class, () -> vertex(Person.class).seekWithId(Person::getAge, MapleDslContinuation.of(30)));
+    }
+
+    @Test
+    public void should_reject_vertex_seek_with_other_ordering() {
+        assertThrows(MapleDslExecutionException.class, () -> vertex(Person.class)
+                .seek(Person::getAge, null)
+                .selectAs(Person::getName, "n")
+                .descending()
+                .render());
+    }
+
+    @Test
+    public void should_match_vertex_with_long_predicate_chain() {
+        final StringJoiner expected = new StringJoiner(" AND ", "LOOKUP ON person WHERE ", " YIELD vertex AS v");
+        MatchWrapper<Person> match = vertex(Person.class);
+        for (int i = 0; i < 2000; i++) {
+            expected.add("person.age > " + i);
+            match = match.gt(Person::getAge, i);
+        }
+
+        assertEquals(expected.toString(), match.render());
+    }
 }
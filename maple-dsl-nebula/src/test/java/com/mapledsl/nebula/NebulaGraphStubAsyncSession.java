@@ -0,0 +1,61 @@
+package com.mapledsl.nebula;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import com.mapledsl.nebula.NebulaGraphBaseTest.Person;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The async session fetching the persons of the existing ids found in the statement, the statements are recorded.
+ */
+public class NebulaGraphStubAsyncSession implements MapleDslAsyncSession {
+    final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+    final Set<String> existingIds;
+    volatile RuntimeException failure;
+
+    NebulaGraphStubAsyncSession(String... existingIds) {
+        this.existingIds = new HashSet<>(Arrays.asList(existingIds));
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        statements.add(stmt);
+        return CompletableFuture.supplyAsync(() -> {
+            if (failure != null) throw failure;
+
+            // the order of the fetched rows is never guaranteed.
+            final List<T> vertices = new ArrayList<>();
+            for (String id : existingIds) {
+                if (!stmt.contains("\"" + id + "\"")) continue;
+                final Person person = new Person();
+                person.setId(id);
+                vertices.add(0, (T) person);
+            }
+            return vertices;
+        });
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull MapleDslConfiguration configuration() {
+        return MapleDslConfiguration.primaryConfiguration();
+    }
+}
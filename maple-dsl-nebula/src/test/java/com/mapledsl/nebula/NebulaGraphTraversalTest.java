@@ -1,5 +1,6 @@
 package com.mapledsl.nebula;
 
+import com.mapledsl.core.MapleDslContinuation;
 import com.mapledsl.core.exception.MapleDslExecutionException;
 import com.mapledsl.core.model.Model;
 import org.junit.jupiter.api.Test;
@@ -237,4 +238,40 @@ public class NebulaGraphTraversalTest extends NebulaGraphBaseTest {
                 .render()
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = "GO 0 TO 1 STEPS FROM \"p001\" OVER follow WHERE $$.person.age > 30 YIELD $$.person.age AS age,id($$) AS dst_id " +
+            "| ORDER BY $-.age ASC | OFFSET 0 LIMIT 10")
+    public void should_traverse_seek_after_continuation(String expected) {
+        assertEquals(expected, traverse("p001")
+                .outE(Follow.class)
+                .outV("p", Person.class, it -> it.seek(Person::getAge, MapleDslContinuation.of(30)))
+                .limit(10)
+                .render()
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = "GO 0 TO 1 STEPS FROM \"p001\" OVER follow WHERE $$.person.age >= 30 AND ($$.person.age > 30 OR id($$) > \"p002\") " +
+            "YIELD $$.person.age AS age,id($$) AS id,id($$) AS dst_id | ORDER BY $-.age,$-.id ASC | OFFSET 0 LIMIT 10")
+    public void should_traverse_seek_with_id_after_continuation(String expected) {
+        assertEquals(expected, traverse("p001")
+                .outE(Follow.class)
+                .outV("p", Person.class, it -> it.seekWithId(Person::getAge, MapleDslContinuation.of(30, "p002")))
+                .limit(10)
+                .render()
+        );
+    }
+
+    @Test
+    public void should_reject_traverse_seek_with_other_ordering() {
+        assertThrows(MapleDslExecutionException.class, () -> traverse("p001")
+                .outE(Follow.class)
+                .outV("p", Person.class, it -> it.selectAs(Person::getName, "n").ascending())
+                .outE(Follow.class)
+                .outV("q", Person.class, it -> it.seek(Person::getAge, null))
+                .limit(10)
+                .render()
+        );
+    }
 }
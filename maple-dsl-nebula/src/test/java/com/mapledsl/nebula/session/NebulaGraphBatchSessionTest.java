@@ -0,0 +1,77 @@
+package com.mapledsl.nebula.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.nebula.NebulaGraphBaseTest;
+import com.mapledsl.nebula.session.NebulaGraphSessionStubs.ReleasedSession;
+import com.mapledsl.nebula.session.NebulaGraphSessionStubs.StubSession;
+import com.vesoft.nebula.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.mapledsl.core.G.upsertVertex;
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests how the batches are sent as one request, against a stubbed nebula session.
+ */
+public class NebulaGraphBatchSessionTest extends NebulaGraphBaseTest {
+    static final String BATCH_STMT = "INSERT VERTEX person(age,name) VALUES \"p001\":(18,\"bofa\"); " +
+            "LOOKUP ON person WHERE person.name == \"bofa\" YIELD vertex AS v";
+
+    final MapleDslConfiguration context = MapleDslConfiguration.primaryConfiguration();
+
+    @Test
+    public void should_join_batch_with_literal_values() {
+        final StubSession session = new StubSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, new ReleasedSession())) {
+            assertTrue(dslSession.executeBatch(batch()));
+            assertTrue(dslSession.executeBatch(Collections.emptyList()));
+        }
+
+        // sent as one request, the empty batch is never sent.
+        assertEquals(Collections.singletonList(BATCH_STMT), session.statements);
+        assertEquals(Collections.emptyMap(), session.parameters.get(0));
+    }
+
+    @Test
+    public void should_join_batch_with_literal_values_when_binding() {
+        final MapleDslConfiguration bindingContext = new MapleDslConfiguration.Builder().parameterBinding(true).build();
+        assertTrue(bindingContext.parameterBinding());
+
+        final StubSession session = new StubSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, bindingContext, new ReleasedSession())) {
+            // a single statement is bound, the placeholders of the joined ones would collide.
+            assertTrue(dslSession.execute(batch().get(1)));
+            assertTrue(dslSession.executeBatch(batch()));
+        }
+
+        assertEquals(Arrays.asList("LOOKUP ON person WHERE person.name == $p0 YIELD vertex AS v", BATCH_STMT), session.statements);
+        assertEquals(Collections.singletonMap("p0", "bofa"), session.parameters.get(0));
+        assertEquals(Collections.emptyMap(), session.parameters.get(1));
+    }
+
+    @Test
+    public void should_report_failing_batch() {
+        final StubSession session = new StubSession().respond(ErrorCode.E_SEMANTIC_ERROR, "maple");
+        final ReleasedSession released = new ReleasedSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, released)) {
+            assertFalse(dslSession.executeBatch(batch()));
+        }
+
+        assertEquals(Collections.singletonList(BATCH_STMT), session.statements);
+        assertFalse(released.broken);
+    }
+
+    static List<Wrapper<?>> batch() {
+        final Person bofa = new Person();
+        bofa.setId("p001");
+        bofa.setName("bofa");
+        bofa.setAge(18);
+        return Arrays.asList(upsertVertex(Collections.singletonList(bofa)), vertex(Person.class).eq(Person::getName, "bofa"));
+    }
+}
@@ -191,7 +191,7 @@ public class NebulaGraphMatchSessionTest extends NebulaGraphSessionBaseTest {
     @ParameterizedTest
     @ValueSource(strings = "LOOKUP ON impact WHERE impact.type IN [\"Type1\",\"Type2\"] " +
             "YIELD impact.type AS impact_type,src(edge) AS src,dst(edge) AS dst,rank(edge) AS rank " +
-            "| ORDER BY $-.impact_type ASC,$-.src,$-.dst,$-.rank DESC")
+            "| ORDER BY $-.impact_type ASC,$-.src DESC,$-.dst DESC,$-.rank DESC")
     public void should_match_edge_with_selection_ordering(String expected) {
         final Model.E<Object, Object> edge = sessionTemplate.selectEdge(edge(Impact.class)
                 .in(Impact::getType, Arrays.asList("type1", "type2"))
@@ -0,0 +1,85 @@
+package com.mapledsl.nebula.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.nebula.NebulaGraphBaseTest;
+import com.mapledsl.nebula.session.NebulaGraphSessionStubs.ReleasedSession;
+import com.mapledsl.nebula.session.NebulaGraphSessionStubs.StubSession;
+import com.vesoft.nebula.ErrorCode;
+import com.vesoft.nebula.client.graph.exception.IOErrorException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests how the sessions are released to the session pool, against a stubbed nebula session.
+ */
+public class NebulaGraphPooledSessionTest extends NebulaGraphBaseTest {
+    final MapleDslConfiguration context = MapleDslConfiguration.primaryConfiguration();
+
+    @Test
+    public void should_invalidate_session_on_session_level_error() {
+        for (ErrorCode errorCode : new ErrorCode[]{ ErrorCode.E_SESSION_INVALID, ErrorCode.E_SESSION_TIMEOUT, ErrorCode.E_SESSION_NOT_FOUND }) {
+            final StubSession session = new StubSession().respond(errorCode, "maple");
+            final ReleasedSession released = new ReleasedSession();
+            try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, released)) {
+                assertThrows(MapleDslExecutionException.class, () -> dslSession.selectMaps("FETCH PROP ON person \"p001\" YIELD vertex AS v"));
+            }
+            assertTrue(released.broken, errorCode.name());
+        }
+    }
+
+    @Test
+    public void should_invalidate_session_on_io_error() {
+        final StubSession session = new StubSession();
+        session.failure = new IOErrorException(IOErrorException.E_CONNECT_BROKEN, "bofa");
+        final ReleasedSession released = new ReleasedSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, released)) {
+            assertFalse(dslSession.execute("DELETE VERTEX \"p001\""));
+        }
+        assertTrue(released.broken);
+    }
+
+    @Test
+    public void should_return_session_on_statement_error() {
+        final StubSession session = new StubSession().respond(ErrorCode.E_SEMANTIC_ERROR, "maple");
+        final ReleasedSession released = new ReleasedSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, released)) {
+            assertFalse(dslSession.execute("FETCH PROP ON unknown \"p001\" YIELD vertex AS v"));
+        }
+        assertFalse(released.broken);
+        assertEquals("maple", released.spaceName);
+        // released exactly once.
+        assertEquals(1, released.count);
+    }
+
+    @Test
+    public void should_report_space_left_by_use() {
+        final StubSession session = new StubSession().respond(ErrorCode.SUCCEEDED, "maple").respond(ErrorCode.SUCCEEDED, "maple_hash");
+        final ReleasedSession released = new ReleasedSession();
+        try (MapleNebulaDslSession dslSession = new MapleNebulaDslSession(session, context, released)) {
+            assertTrue(dslSession.execute("DELETE VERTEX \"p001\""));
+            assertTrue(dslSession.execute("USE maple_hash"));
+        }
+        assertFalse(released.broken);
+        assertEquals("maple_hash", released.spaceName);
+    }
+
+    @Test
+    public void should_switch_session_back_to_space() {
+        final StubSession session = new StubSession();
+        assertTrue(MapleNebulaDslPooledSessionFactory.resetSpace(session, "maple", ""));
+        assertTrue(MapleNebulaDslPooledSessionFactory.resetSpace(session, "maple", "maple"));
+        assertTrue(session.statements.isEmpty());
+
+        assertTrue(MapleNebulaDslPooledSessionFactory.resetSpace(session.respond(ErrorCode.SUCCEEDED, "maple"), "maple", "maple_hash"));
+        assertEquals(Collections.singletonList("use maple"), session.statements);
+
+        // the session which can not be switched back must be invalidated.
+        assertFalse(MapleNebulaDslPooledSessionFactory.resetSpace(session.respond(ErrorCode.E_SPACE_NOT_FOUND, "maple_hash"), "maple", "maple_hash"));
+        session.failure = new IOErrorException(IOErrorException.E_CONNECT_BROKEN, "bofa");
+        assertFalse(MapleNebulaDslPooledSessionFactory.resetSpace(session, "maple", "maple_hash"));
+    }
+}
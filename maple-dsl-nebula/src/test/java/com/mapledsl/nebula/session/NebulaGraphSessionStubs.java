@@ -0,0 +1,75 @@
+package com.mapledsl.nebula.session;
+
+import com.vesoft.nebula.ErrorCode;
+import com.vesoft.nebula.client.graph.data.ResultSet;
+import com.vesoft.nebula.client.graph.exception.IOErrorException;
+import com.vesoft.nebula.client.graph.net.AuthResult;
+import com.vesoft.nebula.client.graph.net.Session;
+import com.vesoft.nebula.graph.ExecutionResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * The stubbed nebula sessions shared by the session tests, and the releaser recording the released session.
+ */
+final class NebulaGraphSessionStubs {
+    private NebulaGraphSessionStubs() {}
+
+    static final class ReleasedSession implements MapleNebulaDslSession.SessionReleaser {
+        boolean broken;
+        String spaceName;
+        int count;
+
+        @Override
+        public void release(Session session, boolean broken, String spaceName) {
+            this.broken = broken;
+            this.spaceName = spaceName;
+            this.count++;
+        }
+    }
+
+    /**
+     * The nebula session responding the queued responses in order, or succeeded empty ones once they run out.
+     */
+    static final class StubSession extends Session {
+        final List<String> statements = new ArrayList<>();
+        final List<Map<String, Object>> parameters = new ArrayList<>();
+        final Deque<ExecutionResponse> responses = new ArrayDeque<>();
+        IOErrorException failure;
+
+        StubSession() {
+            super(null, new AuthResult(1L, 0), null, false);
+        }
+
+        StubSession respond(ErrorCode errorCode, String spaceName) {
+            responses.add(new ExecutionResponse(errorCode, 0L)
+                    .setSpace_name(spaceName.getBytes(StandardCharsets.UTF_8))
+                    .setError_msg(errorCode.name().getBytes(StandardCharsets.UTF_8)));
+            return this;
+        }
+
+        @Override
+        public synchronized ResultSet execute(String stmt) throws IOErrorException {
+            return executeWithParameter(stmt, Collections.emptyMap());
+        }
+
+        @Override
+        public synchronized ResultSet executeWithParameter(String stmt, Map<String, Object> parameterMap) throws IOErrorException {
+            if (failure != null) throw failure;
+            statements.add(stmt);
+            parameters.add(parameterMap);
+            final ExecutionResponse response = responses.poll();
+            return new ResultSet(response == null ? new ExecutionResponse(ErrorCode.SUCCEEDED, 0L) : response, 0);
+        }
+
+        @Override
+        public synchronized boolean ping() {
+            return failure == null;
+        }
+
+        @Override
+        public synchronized void release() {
+        }
+    }
+}
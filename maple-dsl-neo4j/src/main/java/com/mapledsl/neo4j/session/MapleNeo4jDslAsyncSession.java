@@ -0,0 +1,174 @@
+package com.mapledsl.neo4j.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.session.MapleDslAsyncSession;
+import org.jetbrains.annotations.NotNull;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.async.AsyncTransaction;
+import org.neo4j.driver.async.ResultCursor;
+import org.neo4j.driver.exceptions.Neo4jException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Represents an asynchronous session for performing DSL operations on a Neo4j database through the driver's
+ * {@link AsyncSession}, no thread is blocked while the query is in-flight.
+ * <p></p>
+ * Every invocation opens an {@link AsyncSession} of its own and closes it once the result is consumed,
+ * the futures are completed on the driver's event loop threads, so the dependent stages should not block.
+ */
+public final class MapleNeo4jDslAsyncSession implements MapleDslAsyncSession {
+    private final Driver driver;
+    private final SessionConfig sessionConfig;
+    private final MapleDslConfiguration context;
+    private final MapleNeo4jDslRowMapper rowMapper;
+    static final Logger LOG = LoggerFactory.getLogger(MapleNeo4jDslAsyncSession.class);
+
+    /**
+     * Constructs a new MapleNeo4jDslAsyncSession.
+     *
+     * @param driver The Neo4j driver to open the async sessions from.
+     * @param sessionConfig The config of the async sessions.
+     * @param context The MapleDslConfiguration to be used by the MapleNeo4jDslAsyncSession.
+     */
+    public MapleNeo4jDslAsyncSession(Driver driver, SessionConfig sessionConfig, MapleDslConfiguration context) {
+        this.driver = driver;
+        this.sessionConfig = sessionConfig;
+        this.context = context;
+        this.rowMapper = new MapleNeo4jDslRowMapper(context);
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<T> selectOneAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return runAsync(stmt, parameters, cursor -> cursor.nextAsync().thenApply(row -> {
+            if (row == null || row.size() == 0) return null;
+            return rowMapper.oneResultFunc(mappedEntityType).apply(row.values(), row.keys());
+        }));
+    }
+
+    @Override
+    public @NotNull <T> CompletableFuture<List<T>> selectListAsync(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return runAsync(stmt, parameters, cursor -> {
+            final List<T> ret = new ArrayList<>();
+            return cursor.forEachAsync(row -> ret.addAll(rowMapper.multiResultFunc(mappedEntityType).apply(row.values(), row.keys())))
+                    .thenApply(summary -> ret);
+        });
+    }
+
+    @Override
+    public @NotNull CompletableFuture<List<Map<String, Object>>> selectMapsAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return runAsync(stmt, parameters, cursor -> {
+            final List<Map<String, Object>> ret = new ArrayList<>();
+            return cursor.forEachAsync((Record row) -> ret.add(rowMapper.mapResult(row.values(), row.keys())))
+                    .thenApply(summary -> ret);
+        });
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> executeAsync(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        if (LOG.isInfoEnabled()) {
+            if (parameters.isEmpty()) LOG.info("Execution statement:{} with transaction.", stmt);
+            else LOG.info("Execution statement:{}, parameters:{} with transaction.", stmt, parameters);
+        }
+
+        final AsyncSession session = driver.asyncSession(sessionConfig);
+        final CompletionStage<Boolean> stage = session.beginTransactionAsync()
+                .thenCompose(tx -> tx.runAsync(stmt, parameters)
+                        .thenCompose(ResultCursor::consumeAsync)
+                        .thenCompose(summary -> tx.commitAsync())
+                        .handle((ignored, e) -> {
+                            if (e == null) return CompletableFuture.completedFuture(true);
+
+                            logExecutionFailure(stmt, e);
+                            return rollbackAsync(tx);
+                        })
+                        .thenCompose(Function.identity()))
+                .exceptionally(e -> {
+                    logExecutionFailure(stmt, e);
+                    return false;
+                });
+
+        return closeAfter(session, stage);
+    }
+
+    @Override
+    public @NotNull MapleDslConfiguration configuration() {
+        return context;
+    }
+
+    private <R> CompletableFuture<R> runAsync(String stmt, Map<String, Object> parameters, Function<ResultCursor, CompletionStage<R>> cursorFunc) {
+        if (LOG.isInfoEnabled()) {
+            if (parameters.isEmpty()) LOG.info("Execution statement:{}", stmt);
+            else LOG.info("Execution statement:{}, parameters:{}", stmt, parameters);
+        }
+
+        final AsyncSession session;
+        try {
+            session = driver.asyncSession(sessionConfig);
+        } catch (Exception e) {
+            final CompletableFuture<R> ret = new CompletableFuture<>();
+            ret.completeExceptionally(new MapleDslExecutionException("Error opening session. Cause: " + e.getMessage(), e));
+            return ret;
+        }
+
+        final CompletionStage<R> stage = session.runAsync(stmt, parameters)
+                .thenCompose(cursorFunc)
+                .exceptionally(e -> {
+                    final Throwable cause = unwrap(e);
+                    if (cause instanceof Neo4jException) {
+                        LOG.error("Execution statement:{}, Error:{}, Reason:{}", stmt, ((Neo4jException) cause).code(), cause.getMessage());
+                    } else {
+                        LOG.error("Execution statement:{}, UnknownError:{}", stmt, cause.getMessage());
+                    }
+                    throw new MapleDslExecutionException(cause);
+                });
+
+        return closeAfter(session, stage);
+    }
+
+    /**
+     * Closes the session once the stage is completed, the returned future is completed after the session is closed
+     * with the outcome of the stage.
+     */
+    private static <R> CompletableFuture<R> closeAfter(AsyncSession session, CompletionStage<R> stage) {
+        final CompletableFuture<R> ret = new CompletableFuture<>();
+        stage.whenComplete((result, error) -> session.closeAsync().whenComplete((ignored, closeError) -> {
+            if (closeError != null) LOG.warn("Close async session failed. Cause: {}", unwrap(closeError).getMessage());
+
+            if (error == null) ret.complete(result);
+            else ret.completeExceptionally(unwrap(error));
+        }));
+
+        return ret;
+    }
+
+    private static CompletionStage<Boolean> rollbackAsync(AsyncTransaction tx) {
+        return tx.rollbackAsync().handle((ignored, e) -> {
+            if (e != null) LOG.warn("Rollback transaction failed. Cause: {}", unwrap(e).getMessage());
+            return false;
+        });
+    }
+
+    private static void logExecutionFailure(String stmt, Throwable e) {
+        final Throwable cause = unwrap(e);
+        if (cause instanceof Neo4jException) {
+            LOG.warn("Execution statement:{}, Error:{}, Reason:{}", stmt, ((Neo4jException) cause).code(), cause.getMessage());
+        } else {
+            LOG.warn("Execution statement:{}, UnknownError:{}", stmt, cause.getMessage());
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
@@ -0,0 +1,151 @@
+package com.mapledsl.neo4j.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.extension.introspect.BeanDefinition;
+import com.mapledsl.core.extension.introspect.BeanRowPlan;
+import com.mapledsl.core.model.Model;
+import org.jetbrains.annotations.NotNull;
+import org.neo4j.driver.Value;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import static org.neo4j.driver.internal.types.InternalTypeSystem.TYPE_SYSTEM;
+
+/**
+ * Maps the values and keys of a Neo4j record into vertices, edges, beans, values and maps,
+ * shared by the blocking and the asynchronous sessions.
+ */
+final class MapleNeo4jDslRowMapper {
+    private final MapleDslConfiguration context;
+
+    MapleNeo4jDslRowMapper(MapleDslConfiguration context) {
+        this.context = context;
+    }
+
+    <ID> Model.V<ID> vertexResult(@NotNull List<Value> values, List<String> columnNames) {
+        final BeanDefinition<Model.V<ID>> vBeanDefinition = context.vertexDefinition();
+        return createModelResult(vBeanDefinition, this::isVertexValue, values, columnNames);
+    }
+
+    <ID, R> Model.E<ID, R> edgeResult(@NotNull List<Value> values, List<String> columnNames) {
+        final BeanDefinition<Model.E<ID, R>> eBeanDefinition = context.edgeDefinition();
+        return createModelResult(eBeanDefinition, this::isEdgeValue, values, columnNames);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> BiFunction<List<Value>, List<String>, T> oneResultFunc(Class<T> mappedEntityType) {
+        return (values, columns) -> {
+            final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
+            if (definition == null) return context.resultant(values.get(0), mappedEntityType);
+
+            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
+                return (T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
+            }
+
+            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
+                return (T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
+            }
+
+            return createBeanResult(definition, values, columns);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> BiFunction<List<Value>, List<String>, List<T>> multiResultFunc(Class<T> mappedEntityType) {
+        final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
+        return (values, columns) -> {
+            if (definition == null) return createValuesResult(mappedEntityType, values);
+
+            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
+                return Collections.singletonList((T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns));
+            }
+
+            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
+                //noinspection rawtypes
+                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
+                return Collections.singletonList((T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns));
+            }
+
+            return Collections.emptyList();
+        };
+    }
+
+    Map<String, Object> mapResult(@NotNull List<Value> values, List<String> columnNames) {
+        final Map<String, Object> ret = new LinkedHashMap<>(columnNames.size());
+        for (int i = 0; i < values.size(); i++) {
+            final Value value = values.get(i);
+            if (value == null || value.isNull()) continue;
+            final Object resultant = context.resultant(value);
+            final String columnName = columnNames.get(i);
+            ret.put(columnName, resultant);
+        }
+
+        return ret;
+    }
+
+    private <ID, M extends Model<ID>> M createModelResult(BeanDefinition<M> modelDefinition, Predicate<Value> filter, @NotNull List<Value> rowValueList, List<String> columnNames) {
+        M ret = null;
+
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < rowValueList.size(); i++) {
+            final Value value = rowValueList.get(i);
+            if (value == null || value.isNull()) continue;
+            if (filter.negate().test(value)) continue;
+            ret = context.resultant(value, modelDefinition);
+        }
+
+        if (ret == null) ret = modelDefinition.newInstance();
+        final BeanRowPlan<M> rowPlan = modelDefinition.rowPlan(columnNames);
+        for (int i = 0; i < rowValueList.size(); i++) {
+            final Value value = rowValueList.get(i);
+            if (value == null || value.isNull()) continue;
+            if (filter.test(value)) continue;
+            rowPlan.setter(ret, i, value);
+        }
+
+        return ret;
+    }
+
+    private <T> T createBeanResult(@NotNull BeanDefinition<T> definition, @NotNull List<Value> values, List<String> columnNames) {
+        final T target = definition.newInstance();
+        final BeanRowPlan<T> rowPlan = definition.rowPlan(columnNames);
+        for (int i = 0; i < values.size(); i++) {
+            final Value value = values.get(i);
+            if (value == null || value.isNull()) continue;
+            rowPlan.setter(target, i, value);
+        }
+
+        return target;
+    }
+
+    private <T> List<T> createValuesResult(@NotNull Class<T> valueType, @NotNull List<Value> values) {
+        final List<T> ret= new ArrayList<>(values.size());
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < values.size(); i++) {
+            final Value value = values.get(i);
+            if (value == null || value.isNull()) continue;
+
+            ret.add(context.resultant(value, valueType));
+        }
+
+        return ret;
+    }
+
+    private boolean isEdgeValue(Value value) {
+        if (value == null) return false;
+        return value.type() == TYPE_SYSTEM.RELATIONSHIP();
+    }
+
+    private boolean isVertexValue(Value value) {
+        if (value == null) return false;
+        return value.type() == TYPE_SYSTEM.NODE();
+    }
+}
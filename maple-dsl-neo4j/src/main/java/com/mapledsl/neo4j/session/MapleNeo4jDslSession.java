@@ -1,11 +1,14 @@
 package com.mapledsl.neo4j.session;
 
 import com.google.common.collect.Maps;
+import com.mapledsl.core.MapleDslBoundStatement;
 import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
 import com.mapledsl.core.exception.MapleDslException;
 import com.mapledsl.core.exception.MapleDslExecutionException;
-import com.mapledsl.core.extension.introspect.BeanDefinition;
 import com.mapledsl.core.model.Model;
+import com.mapledsl.core.session.MapleDslCursor;
+import com.mapledsl.core.session.MapleDslFetchCursor;
 import com.mapledsl.core.session.MapleDslSession;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -15,13 +18,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
 
-import static org.neo4j.driver.internal.types.InternalTypeSystem.TYPE_SYSTEM;
-
 /**
  * Represents a session for performing DSL operations on a Neo4j database.
  */
@@ -34,6 +33,7 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
      * to configure and manage the DSL session.
      */
     private final MapleDslConfiguration context;
+    private final MapleNeo4jDslRowMapper rowMapper;
     static final Logger LOG = LoggerFactory.getLogger(MapleNeo4jDslSession.class);
 
     /**
@@ -45,103 +45,116 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
     public MapleNeo4jDslSession(Session session, MapleDslConfiguration context) {
         this.session = session;
         this.context = context;
+        this.rowMapper = new MapleNeo4jDslRowMapper(context);
     }
 
     @Override
     public @Nullable <ID> Model.V<ID> selectVertex(@NotNull String stmt) {
-        return singleResult(stmt, (values, columns) -> {
-            final BeanDefinition<Model.V<ID>> vBeanDefinition = context.vertexDefinition();
-            return createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
-        });
+        return selectVertex(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @Nullable <ID> Model.V<ID> selectVertex(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, rowMapper::vertexResult);
     }
 
     @Override
     public @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull String stmt) {
-        return collectResult(stmt, (values, columns) -> {
-            final BeanDefinition<Model.V<ID>> vBeanDefinition = context.vertexDefinition();
-            return createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
-        });
+        return selectVertexList(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull <ID> List<Model.V<ID>> selectVertexList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, rowMapper::vertexResult);
     }
 
     @Override
     public @Nullable <ID, R> Model.E<ID, R> selectEdge(@NotNull String stmt) {
-        return singleResult(stmt, (values, columns) -> {
-            final BeanDefinition<Model.E<ID, R>> eBeanDefinition = context.edgeDefinition();
-            return createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
-        });
+        return selectEdge(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @Nullable <ID, R> Model.E<ID, R> selectEdge(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, rowMapper::edgeResult);
     }
 
     @Override
     public @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt) {
-        return collectResult(stmt, (values, columns) -> {
-            final BeanDefinition<Model.E<ID, R>> eBeanDefinition = context.edgeDefinition();
-            return createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
-        });
+        return selectEdgeList(stmt, Collections.emptyMap());
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public <T> @Nullable T selectOne(String stmt, Class<T> mappedEntityType) {
-        return singleResult(stmt, (values, columns) -> {
-            final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
-            if (definition == null) return context.resultant(values.get(0), mappedEntityType);
-
-            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
-                return (T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns);
-            }
+    public @NotNull <ID, R> List<Model.E<ID, R>> selectEdgeList(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, rowMapper::edgeResult);
+    }
 
-            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
-                return (T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns);
-            }
+    @Override
+    public <T> @Nullable T selectOne(String stmt, Class<T> mappedEntityType) {
+        return selectOne(stmt, Collections.emptyMap(), mappedEntityType);
+    }
 
-            return createBeanResult(definition, values, columns);
-        });
+    @Override
+    public <T> @Nullable T selectOne(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return singleResult(stmt, parameters, rowMapper.oneResultFunc(mappedEntityType));
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public @NotNull <T> List<T> selectList(String stmt, Class<T> mappedEntityType) {
-        final BeanDefinition<T> definition = context.beanDefinition(mappedEntityType);
-        return collectMultiResult(stmt, (values, columns) -> {
-            if (definition == null) return createValuesResult(mappedEntityType, values);
-
-            if (Model.V.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.V> vBeanDefinition = (BeanDefinition<? extends Model.V>) definition;
-                return Collections.singletonList((T) createModelResult(vBeanDefinition, this::isVertexValue, values, columns));
-            }
+        return selectList(stmt, Collections.emptyMap(), mappedEntityType);
+    }
 
-            if (Model.E.class.isAssignableFrom(mappedEntityType)) {
-                //noinspection rawtypes
-                final BeanDefinition<? extends Model.E> eBeanDefinition = (BeanDefinition<? extends Model.E>) definition;
-                return Collections.singletonList((T) createModelResult(eBeanDefinition, this::isEdgeValue, values, columns));
-            }
+    @Override
+    public @NotNull <T> List<T> selectList(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType) {
+        return collectMultiResult(stmt, parameters, rowMapper.multiResultFunc(mappedEntityType));
+    }
 
-            return Collections.emptyList();
-        });
+    /**
+     * Maps the records lazily while iterating, the driver pulls the records in batches of the fetch size of the
+     * {@link SessionConfig} the session was opened with, the cursor maps {@code fetchSize} records at a time.
+     * <p></p>
+     * Closing the cursor before it is exhausted discards the remaining records.
+     */
+    @Override
+    public @NotNull <T> MapleDslCursor<T> selectCursor(String stmt, Map<String, Object> parameters, Class<T> mappedEntityType, int fetchSize) {
+        final BiFunction<List<Value>, List<String>, List<T>> recordValueFunc = rowMapper.multiResultFunc(mappedEntityType);
+        return new ResultCursor<>(executeQuery(stmt, parameters), recordValueFunc, fetchSize);
     }
 
     @Override
     public @NotNull Map<String, Object> selectMap(@NotNull String stmt) {
-        return singleResult(stmt, Maps::newHashMap, this::createMapResult);
+        return selectMap(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull Map<String, Object> selectMap(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return singleResult(stmt, parameters, Maps::newHashMap, rowMapper::mapResult);
     }
 
     @Override
     public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt) {
-        return collectResult(stmt, this::createMapResult);
+        return selectMaps(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public @NotNull List<Map<String, Object>> selectMaps(@NotNull String stmt, @NotNull Map<String, Object> parameters) {
+        return collectResult(stmt, parameters, rowMapper::mapResult);
     }
 
     @Override
     public boolean execute(@NotNull String stmt) throws MapleDslException {
+        return execute(stmt, Collections.emptyMap());
+    }
+
+    @Override
+    public boolean execute(@NotNull String stmt, @NotNull Map<String, Object> parameters) throws MapleDslException {
         final Transaction tx = session.beginTransaction();
-        if (LOG.isInfoEnabled()) LOG.info("Execution statement:{} with transaction.", stmt);
+        if (LOG.isInfoEnabled()) {
+            if (parameters.isEmpty()) LOG.info("Execution statement:{} with transaction.", stmt);
+            else LOG.info("Execution statement:{}, parameters:{} with transaction.", stmt, parameters);
+        }
 
         try {
-            tx.run(stmt);
+            tx.run(stmt, parameters);
             tx.commit();
             return true;
         } catch (Neo4jException e) {
@@ -155,6 +168,61 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
         }
     }
 
+    /**
+     * Runs the statements inside one transaction, the transaction is rolled back if any of them fails.
+     */
+    @Override
+    public boolean executeBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers) throws MapleDslException {
+        if (stmtWrappers.isEmpty()) return true;
+
+        final List<MapleDslBoundStatement> boundStatements = bindStatements(stmtWrappers);
+        // the transaction rolls back on close unless it has been committed.
+        try (Transaction tx = session.beginTransaction()) {
+            final List<Result> results = runStatements(tx, boundStatements);
+            for (Result result : results) result.consume();
+            tx.commit();
+            return true;
+        } catch (Neo4jException e) {
+            LOG.warn("Execution batch of {} statements, Error:{}, Reason:{}", boundStatements.size(), e.code(), e.getMessage());
+            return false;
+        } catch (Exception e) {
+            LOG.warn("Execution batch of {} statements, UnknownError:{}", boundStatements.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Runs the statements inside one transaction, every statement is sent before the records of the previous ones are consumed.
+     */
+    @Override
+    public @NotNull <T> List<List<T>> selectBatch(@NotNull List<? extends Wrapper<?>> stmtWrappers, Class<T> mappedEntityType) {
+        if (stmtWrappers.isEmpty()) return Collections.emptyList();
+
+        final BiFunction<List<Value>, List<String>, List<T>> recordValueFunc = rowMapper.multiResultFunc(mappedEntityType);
+        final List<MapleDslBoundStatement> boundStatements = bindStatements(stmtWrappers);
+        // the transaction rolls back on close unless it has been committed, a failing rollback is suppressed by the cause.
+        try (Transaction tx = session.beginTransaction()) {
+            final List<Result> results = runStatements(tx, boundStatements);
+            final List<List<T>> ret = new ArrayList<>(results.size());
+            for (Result result : results) {
+                final List<T> rows = new ArrayList<>();
+                while (result.hasNext()) {
+                    final Record row = result.next();
+                    rows.addAll(recordValueFunc.apply(row.values(), row.keys()));
+                }
+                ret.add(rows);
+            }
+            tx.commit();
+            return ret;
+        } catch (Neo4jException e) {
+            LOG.error("Execution batch of {} statements, Error:{}, Reason:{}", boundStatements.size(), e.code(), e.getMessage());
+            throw new MapleDslExecutionException(e);
+        } catch (Exception e) {
+            LOG.error("Execution batch of {} statements, UnknownError:{}", boundStatements.size(), e.getMessage());
+            throw new MapleDslExecutionException(e);
+        }
+    }
+
     @Override
     public void close() {
         if (session == null) return;
@@ -166,10 +234,13 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
         return context;
     }
 
-    private Result executeQuery(String stmt) throws MapleDslException {
-        if (LOG.isInfoEnabled()) LOG.info("Execution statement:{}", stmt);
+    private Result executeQuery(String stmt, Map<String, Object> parameters) throws MapleDslException {
+        if (LOG.isInfoEnabled()) {
+            if (parameters.isEmpty()) LOG.info("Execution statement:{}", stmt);
+            else LOG.info("Execution statement:{}, parameters:{}", stmt, parameters);
+        }
         try {
-            return session.run(stmt);
+            return session.run(stmt, parameters);
         } catch (Neo4jException e) {
             LOG.error("Execution statement:{}, Error:{}, Reason:{}", stmt, e.code(), e.getMessage());
             throw new MapleDslExecutionException(e);
@@ -179,12 +250,29 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
         }
     }
 
-    private <R> R singleResult(String stmt, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        return singleResult(stmt, () -> null, recordValueFunc);
+    private List<MapleDslBoundStatement> bindStatements(List<? extends Wrapper<?>> stmtWrappers) {
+        final List<MapleDslBoundStatement> ret = new ArrayList<>(stmtWrappers.size());
+        for (Wrapper<?> stmtWrapper : stmtWrappers) {
+            ret.add(MapleDslBoundStatement.of(Objects.requireNonNull(stmtWrapper), context));
+        }
+        return ret;
+    }
+
+    private List<Result> runStatements(Transaction tx, List<MapleDslBoundStatement> boundStatements) {
+        final List<Result> ret = new ArrayList<>(boundStatements.size());
+        for (MapleDslBoundStatement boundStatement : boundStatements) {
+            if (LOG.isInfoEnabled()) LOG.info("Execution statement:{} with transaction.", boundStatement);
+            ret.add(tx.run(boundStatement.statement(), boundStatement.parameters()));
+        }
+        return ret;
+    }
+
+    private <R> R singleResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        return singleResult(stmt, parameters, () -> null, recordValueFunc);
     }
 
-    private <R> R singleResult(String stmt, Supplier<R> defaultSupplier, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        final Result resultSet = executeQuery(stmt);
+    private <R> R singleResult(String stmt, Map<String, Object> parameters, Supplier<R> defaultSupplier, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        final Result resultSet = executeQuery(stmt, parameters);
         if (!resultSet.hasNext()) return defaultSupplier.get();
 
         final Record row = resultSet.next();
@@ -194,15 +282,14 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
         return recordValueFunc.apply(row.values(), row.keys());
     }
 
-    private <R> List<R> collectResult(String stmt, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
-        return collectMultiResult(stmt, recordValueFunc.andThen(Collections::singletonList));
+    private <R> List<R> collectResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, R> recordValueFunc) {
+        return collectMultiResult(stmt, parameters, recordValueFunc.andThen(Collections::singletonList));
     }
 
-    private <R> List<R> collectMultiResult(String stmt, BiFunction<List<Value>, List<String>, List<R>> recordValueFunc) {
-        BiConsumer<List<R>, List<R>> combiner;
-        final Result resultSet = executeQuery(stmt);
+    private <R> List<R> collectMultiResult(String stmt, Map<String, Object> parameters, BiFunction<List<Value>, List<String>, List<R>> recordValueFunc) {
+        final Result resultSet = executeQuery(stmt, parameters);
 
-        final List<R> ret = new LinkedList<>();
+        final List<R> ret = new ArrayList<>();
         while (resultSet.hasNext()) {
             final Record row = resultSet.next();
             ret.addAll(recordValueFunc.apply(row.values(), row.keys()));
@@ -211,74 +298,44 @@ public final class MapleNeo4jDslSession implements MapleDslSession {
         return ret;
     }
 
-    private Map<String, Object> createMapResult(@NotNull List<Value> values, List<String> columnNames) {
-        final Map<String, Object> ret = new LinkedHashMap<>(columnNames.size());
-        for (int i = 0; i < values.size(); i++) {
-            final Value value = values.get(i);
-            if (value == null || value.isNull()) continue;
-            final Object resultant = context.resultant(value);
-            final String columnName = columnNames.get(i);
-            ret.put(columnName, resultant);
-        }
-
-        return ret;
-    }
-
-    private <ID, M extends Model<ID>> M createModelResult(BeanDefinition<M> modelDefinition, Predicate<Value> filter, @NotNull List<Value> rowValueList, List<String> columnNames) {
-        M ret = null;
-
-        //noinspection ForLoopReplaceableByForEach
-        for (int i = 0; i < rowValueList.size(); i++) {
-            final Value value = rowValueList.get(i);
-            if (value == null || value.isNull()) continue;
-            if (filter.negate().test(value)) continue;
-            ret = context.resultant(value, modelDefinition);
-        }
-
-        if (ret == null) ret = modelDefinition.newInstance();
-        for (int i = 0; i < rowValueList.size(); i++) {
-            final Value value = rowValueList.get(i);
-            if (value == null || value.isNull()) continue;
-            if (filter.test(value)) continue;
-            modelDefinition.setter(ret, columnNames.get(i), value);
+    /**
+     * The cursor over a Neo4j {@link Result}, the record keys are resolved once for the whole result.
+     */
+    static final class ResultCursor<T> extends MapleDslFetchCursor<T> {
+        private final Result resultSet;
+        private final BiFunction<List<Value>, List<String>, List<T>> recordValueFunc;
+        private List<String> columnNames;
+
+        ResultCursor(Result resultSet, BiFunction<List<Value>, List<String>, List<T>> recordValueFunc, int fetchSize) {
+            super(fetchSize);
+            this.resultSet = resultSet;
+            this.recordValueFunc = recordValueFunc;
         }
 
-        return ret;
-    }
-
-    private <T> T createBeanResult(@NotNull BeanDefinition<T> definition, @NotNull List<Value> values, List<String> columnNames) {
-        final T target = definition.newInstance();
-        for (int i = 0; i < values.size(); i++) {
-            final Value value = values.get(i);
-            if (value == null || value.isNull()) continue;
-
-            final String columnName = columnNames.get(i);
-            definition.setter(target, columnName, value);
+        @Override
+        protected boolean fetch(int fetchSize, @NotNull List<T> buffer) {
+            try {
+                for (int i = 0; i < fetchSize; i++) {
+                    if (!resultSet.hasNext()) return false;
+
+                    final Record row = resultSet.next();
+                    if (columnNames == null) columnNames = row.keys();
+                    buffer.addAll(recordValueFunc.apply(row.values(), columnNames));
+                }
+                return true;
+            } catch (Neo4jException e) {
+                LOG.error("Fetch records Error:{}, Reason:{}", e.code(), e.getMessage());
+                throw new MapleDslExecutionException(e);
+            }
         }
 
-        return target;
-    }
-
-    private <T> List<T> createValuesResult(@NotNull Class<T> valueType, @NotNull List<Value> values) {
-        final List<T> ret= new ArrayList<>(values.size());
-        //noinspection ForLoopReplaceableByForEach
-        for (int i = 0; i < values.size(); i++) {
-            final Value value = values.get(i);
-            if (value == null || value.isNull()) continue;
-
-            ret.add(context.resultant(value, valueType));
+        @Override
+        protected void release() {
+            try {
+                resultSet.consume();
+            } catch (Exception e) {
+                LOG.warn("Discard remaining records failed. Cause: {}", e.getMessage());
+            }
         }
-
-        return ret;
-    }
-
-    private boolean isEdgeValue(Value value) {
-        if (value == null) return false;
-        return value.type() == TYPE_SYSTEM.RELATIONSHIP();
-    }
-
-    private boolean isVertexValue(Value value) {
-        if (value == null) return false;
-        return value.type() == TYPE_SYSTEM.NODE();
     }
 }
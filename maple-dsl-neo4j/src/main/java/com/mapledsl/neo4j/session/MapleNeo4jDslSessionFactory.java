@@ -2,6 +2,7 @@ package com.mapledsl.neo4j.session;
 
 import com.mapledsl.core.MapleDslConfiguration;
 import com.mapledsl.core.exception.MapleDslExecutionException;
+import com.mapledsl.core.session.MapleDslAsyncSession;
 import com.mapledsl.core.session.MapleDslSession;
 import com.mapledsl.core.session.MapleDslSessionFactory;
 import org.neo4j.driver.*;
@@ -35,6 +36,14 @@ public class MapleNeo4jDslSessionFactory implements MapleDslSessionFactory {
         }
     }
 
+    /**
+     * Opens an async session over the driver's {@link org.neo4j.driver.async.AsyncSession}.
+     */
+    @Override
+    public MapleDslAsyncSession openAsyncSession() {
+        return new MapleNeo4jDslAsyncSession(driver, sessionConfig, configuration);
+    }
+
     @Override
     public MapleDslConfiguration configuration() {
         return configuration;
@@ -0,0 +1,149 @@
+package com.mapledsl.neo4j.session;
+
+import com.mapledsl.core.MapleDslConfiguration;
+import com.mapledsl.core.condition.Wrapper;
+import com.mapledsl.core.exception.MapleDslExecutionException;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.*;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.InternalRecord;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static com.mapledsl.core.G.vertex;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests how the batches are run inside one transaction, against a stubbed neo4j session.
+ */
+public class Neo4jBatchSessionTest {
+    final MapleDslConfiguration context = new MapleDslConfiguration.Builder().parameterBinding(true).build();
+
+    @Test
+    public void should_bind_batch_statements_in_one_transaction() {
+        final StubSession session = new StubSession();
+        final MapleNeo4jDslSession dslSession = new MapleNeo4jDslSession(session.proxy(), context);
+
+        assertTrue(dslSession.executeBatch(Collections.emptyList()));
+        assertEquals(0, session.transactions);
+
+        assertTrue(dslSession.executeBatch(batch()));
+        assertEquals(1, session.transactions);
+        assertTrue(session.committed);
+        assertFalse(session.rolledBack);
+
+        // every statement is bound on its own, the placeholders never collide inside a transaction.
+        assertEquals(2, session.statements.size());
+        assertEquals(session.statements.get(0), session.statements.get(1));
+        assertTrue(session.statements.get(0).contains("$p0"), session.statements.get(0));
+        assertEquals(Collections.singletonMap("p0", "bofa"), session.parameters.get(0));
+        assertEquals(Collections.singletonMap("p0", "deez"), session.parameters.get(1));
+    }
+
+    @Test
+    public void should_roll_back_failing_batch() {
+        final StubSession session = new StubSession();
+        session.failure = new ClientException("Neo.ClientError.Statement.SyntaxError", "bofa");
+        final MapleNeo4jDslSession dslSession = new MapleNeo4jDslSession(session.proxy(), context);
+
+        assertFalse(dslSession.executeBatch(batch()));
+        assertFalse(session.committed);
+        assertTrue(session.rolledBack);
+
+        session.closeFailure = new ClientException("Neo.ClientError.Transaction.TransactionNotFound", "deez");
+        final MapleDslExecutionException e = assertThrows(MapleDslExecutionException.class, () -> dslSession.selectBatch(batch(), String.class));
+        // the failing rollback must not hide the failure of the statement.
+        assertSame(session.failure, e.getCause());
+        assertSame(session.closeFailure, e.getCause().getSuppressed()[0]);
+    }
+
+    @Test
+    public void should_select_batch_results_in_statement_order() {
+        final StubSession session = new StubSession();
+        session.records.add(Arrays.asList(record("bofa"), record("deez")));
+        session.records.add(Collections.singletonList(record("nuts")));
+        final MapleNeo4jDslSession dslSession = new MapleNeo4jDslSession(session.proxy(), context);
+
+        final List<List<String>> ret = dslSession.selectBatch(batch(), String.class);
+        assertEquals(Arrays.asList(Arrays.asList("bofa", "deez"), Collections.singletonList("nuts")), ret);
+        assertEquals(1, session.transactions);
+        assertTrue(session.committed);
+        assertTrue(dslSession.selectBatch(Collections.emptyList(), String.class).isEmpty());
+    }
+
+    static List<Wrapper<?>> batch() {
+        return Arrays.asList(
+                vertex(Neo4jSessionBaseTest.Person.class).eq(Neo4jSessionBaseTest.Person::getName, "bofa"),
+                vertex(Neo4jSessionBaseTest.Person.class).eq(Neo4jSessionBaseTest.Person::getName, "deez")
+        );
+    }
+
+    static Record record(String name) {
+        return new InternalRecord(Collections.singletonList("name"), new Value[]{ Values.value(name) });
+    }
+
+    /**
+     * The neo4j session and its transactions, the statements run are answered with the queued records in order.
+     */
+    static final class StubSession {
+        final List<String> statements = new ArrayList<>();
+        final List<Map<String, Object>> parameters = new ArrayList<>();
+        final Deque<List<Record>> records = new ArrayDeque<>();
+        ClientException failure;
+        ClientException closeFailure;
+        int transactions;
+        boolean committed;
+        boolean rolledBack;
+
+        Session proxy() {
+            return (Session) Proxy.newProxyInstance(Session.class.getClassLoader(), new Class<?>[]{ Session.class }, (proxy, method, args) -> {
+                if (!"beginTransaction".equals(method.getName())) throw new UnsupportedOperationException(method.getName());
+                transactions++;
+                return transaction();
+            });
+        }
+
+        private Transaction transaction() {
+            return (Transaction) Proxy.newProxyInstance(Transaction.class.getClassLoader(), new Class<?>[]{ Transaction.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "run":
+                        if (failure != null && !statements.isEmpty()) throw failure;
+                        statements.add((String) args[0]);
+                        //noinspection unchecked
+                        parameters.add((Map<String, Object>) args[1]);
+                        return result(records.isEmpty() ? Collections.emptyList() : records.poll());
+                    case "commit":
+                        committed = true;
+                        return null;
+                    case "rollback":
+                        rolledBack = true;
+                        return null;
+                    case "close":
+                        // as the driver does, an uncommitted transaction is rolled back on close.
+                        if (!committed) rolledBack = true;
+                        if (closeFailure != null) throw closeFailure;
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+
+        private static Result result(List<Record> records) {
+            final Iterator<Record> iterator = records.iterator();
+            return (Result) Proxy.newProxyInstance(Result.class.getClassLoader(), new Class<?>[]{ Result.class }, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "hasNext":
+                        return iterator.hasNext();
+                    case "next":
+                        return iterator.next();
+                    case "consume":
+                        return null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+        }
+    }
+}